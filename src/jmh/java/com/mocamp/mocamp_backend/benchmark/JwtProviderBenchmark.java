@@ -0,0 +1,87 @@
+package com.mocamp.mocamp_backend.benchmark;
+
+import com.mocamp.mocamp_backend.authentication.AuthenticatedUser;
+import com.mocamp.mocamp_backend.authentication.JwtProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청/STOMP CONNECT 마다 거치는 토큰 검증 경로
+ * authenticate 는 검증 결과 캐시에 적중하는 경우 (같은 토큰으로 반복 요청)
+ * authenticateContended 는 여러 요청 스레드가 서로 다른 유저의 토큰으로 동시에 캐시를 읽는 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtProviderBenchmark {
+
+    private static final int USERS = 1000;
+
+    private JwtProvider jwtProvider;
+    private String accessToken;
+    private String[] userTokens;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[64];
+        new Random(42).nextBytes(secret);
+        jwtProvider = new JwtProvider(Base64.getEncoder().encodeToString(secret), 10000);
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                new AuthenticatedUser(1L, "kakao-1234567890", "모캠프"),
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        accessToken = jwtProvider.generateAccessToken(authentication);
+
+        userTokens = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            userTokens[i] = jwtProvider.generateAccessToken(new UsernamePasswordAuthenticationToken(
+                    new AuthenticatedUser((long) i, "kakao-" + i, "유저" + i),
+                    null,
+                    List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+            // 캐시에 미리 올려 두어 적중 경로의 경합만 측정
+            jwtProvider.authenticate(userTokens[i]);
+        }
+    }
+
+    /**
+     * 스레드마다 다른 위치에서 토큰을 차례로 사용
+     */
+    @State(Scope.Thread)
+    public static class TokenCursor {
+        private int next = new Random().nextInt(USERS);
+
+        String nextToken(String[] tokens) {
+            next = (next + 1) % tokens.length;
+            return tokens[next];
+        }
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtProvider.getAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return jwtProvider.authenticate(accessToken);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Authentication authenticateContended(TokenCursor cursor) {
+        return jwtProvider.authenticate(cursor.nextToken(userTokens));
+    }
+}
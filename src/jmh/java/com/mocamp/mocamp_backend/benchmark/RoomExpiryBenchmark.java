@@ -0,0 +1,165 @@
+package com.mocamp.mocamp_backend.benchmark;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 종료 시각이 같은 방 10,000개를 한 번에 종료할 때의 DB 작업 시간
+ * perRoom: 예전 방식 (방마다 트랜잭션 하나, 방/참여 정보를 조회한 뒤 참여 정보를 한 행씩 UPDATE)
+ * setBased: RoomExpiryService 방식 (1,000개씩 IN 절로 활동 중인 방 조회 + joined_room/room UPDATE 한 번씩, 트랜잭션 하나)
+ * Flyway 마이그레이션으로 만든 H2(MySQL 모드) 메모리 DB를 JDBC로 직접 사용하며, 사용 통계 누적(user_daily_stat)은 양쪽 모두 제외한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class RoomExpiryBenchmark {
+
+    private static final int MEMBERS_PER_ROOM = 4;
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"10000"})
+    private int roomCount;
+
+    private Connection connection;
+    private List<Long> roomIds;
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() throws SQLException {
+        String url = "jdbc:h2:mem:expiry-" + UUID.randomUUID()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1";
+        Flyway.configure().dataSource(url, "sa", "").load().migrate();
+
+        connection = DriverManager.getConnection(url, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO `user` (user_seq, username, email, email_verified_yn, created_at, modified_at) "
+                    + "SELECT CONCAT('seq-', x), CONCAT('user-', x), CONCAT('user-', x, '@mocamp.com'), 'Y', NOW(), NOW() "
+                    + "FROM SYSTEM_RANGE(1, " + MEMBERS_PER_ROOM + ")");
+            statement.executeUpdate("INSERT INTO room (room_name, room_seq, capacity, room_num, status, started_at, ended_at, "
+                    + "duration, notice, is_deleted, mic_availability) "
+                    + "SELECT CONCAT('room-', x), CONCAT('room-seq-', x), " + MEMBERS_PER_ROOM + ", " + MEMBERS_PER_ROOM
+                    + ", TRUE, NOW(), NOW(), TIME '02:00:00', '', FALSE, TRUE FROM SYSTEM_RANGE(1, " + roomCount + ")");
+            statement.executeUpdate("INSERT INTO joined_room (is_admin, is_participating, is_deleted, is_secret, resolution, "
+                    + "work_status, mic_status, cam_status, user_id, room_id) "
+                    + "SELECT MOD(x, " + MEMBERS_PER_ROOM + ") = 0, TRUE, FALSE, FALSE, '', TRUE, TRUE, TRUE, "
+                    + "MOD(x, " + MEMBERS_PER_ROOM + ") + 1, x / " + MEMBERS_PER_ROOM + " + 1 "
+                    + "FROM SYSTEM_RANGE(0, " + (roomCount * MEMBERS_PER_ROOM - 1) + ")");
+        }
+
+        roomIds = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT room_id FROM room ORDER BY room_id")) {
+            while (resultSet.next()) {
+                roomIds.add(resultSet.getLong(1));
+            }
+        }
+        roomIds = Collections.unmodifiableList(roomIds);
+        connection.setAutoCommit(false);
+    }
+
+    /**
+     * 매 측정 전에 모든 방과 참여 정보를 다시 활동 중으로 되돌린다
+     */
+    @Setup(Level.Invocation)
+    public void reactivateRooms() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE room SET status = TRUE, is_deleted = FALSE, room_num = " + MEMBERS_PER_ROOM);
+            statement.executeUpdate("UPDATE joined_room SET is_participating = TRUE, is_deleted = FALSE");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int perRoom() throws SQLException {
+        int expired = 0;
+        try (PreparedStatement findRoom = connection.prepareStatement("SELECT status FROM room WHERE room_id = ?");
+             PreparedStatement findJoinedRooms = connection.prepareStatement("SELECT joined_room_id FROM joined_room WHERE room_id = ?");
+             PreparedStatement closeJoinedRoom = connection.prepareStatement(
+                     "UPDATE joined_room SET is_deleted = TRUE, is_participating = FALSE WHERE joined_room_id = ?");
+             PreparedStatement expireRoom = connection.prepareStatement(
+                     "UPDATE room SET status = FALSE, is_deleted = TRUE, room_num = 0 WHERE room_id = ?")) {
+            for (Long roomId : roomIds) {
+                findRoom.setLong(1, roomId);
+                try (ResultSet room = findRoom.executeQuery()) {
+                    if (!room.next() || !room.getBoolean(1)) {
+                        connection.commit();
+                        continue;
+                    }
+                }
+
+                findJoinedRooms.setLong(1, roomId);
+                try (ResultSet joinedRooms = findJoinedRooms.executeQuery()) {
+                    while (joinedRooms.next()) {
+                        closeJoinedRoom.setLong(1, joinedRooms.getLong(1));
+                        closeJoinedRoom.executeUpdate();
+                    }
+                }
+                expireRoom.setLong(1, roomId);
+                expireRoom.executeUpdate();
+                connection.commit();
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    @Benchmark
+    public int setBased() throws SQLException {
+        int expired = 0;
+        for (int from = 0; from < roomIds.size(); from += BATCH_SIZE) {
+            List<Long> batch = roomIds.subList(from, Math.min(from + BATCH_SIZE, roomIds.size()));
+            String in = String.join(",", Collections.nCopies(batch.size(), "?"));
+
+            List<Long> activeRoomIds = new ArrayList<>();
+            try (PreparedStatement findActive = connection.prepareStatement(
+                    "SELECT room_id FROM room WHERE room_id IN (" + in + ") AND status = TRUE")) {
+                bind(findActive, batch);
+                try (ResultSet resultSet = findActive.executeQuery()) {
+                    while (resultSet.next()) {
+                        activeRoomIds.add(resultSet.getLong(1));
+                    }
+                }
+            }
+            if (activeRoomIds.isEmpty()) {
+                continue;
+            }
+
+            String activeIn = String.join(",", Collections.nCopies(activeRoomIds.size(), "?"));
+            try (PreparedStatement closeJoinedRooms = connection.prepareStatement(
+                    "UPDATE joined_room SET is_deleted = TRUE, is_participating = FALSE WHERE room_id IN (" + activeIn + ")");
+                 PreparedStatement expireRooms = connection.prepareStatement(
+                         "UPDATE room SET status = FALSE, is_deleted = TRUE, room_num = 0 WHERE room_id IN (" + activeIn + ")")) {
+                bind(closeJoinedRooms, activeRoomIds);
+                closeJoinedRooms.executeUpdate();
+                bind(expireRooms, activeRoomIds);
+                expired += expireRooms.executeUpdate();
+            }
+        }
+        connection.commit();
+        return expired;
+    }
+
+    private static void bind(PreparedStatement statement, List<Long> ids) throws SQLException {
+        for (int i = 0; i < ids.size(); i++) {
+            statement.setLong(i + 1, ids.get(i));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.mocamp.mocamp_backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocamp.mocamp_backend.dto.goal.GoalListResponse;
+import com.mocamp.mocamp_backend.dto.goal.GoalResponse;
+import com.mocamp.mocamp_backend.dto.room.RoomDataResponse;
+import com.mocamp.mocamp_backend.dto.status.StatusDTO;
+import com.mocamp.mocamp_backend.dto.websocket.WebsocketMessageType;
+import com.mocamp.mocamp_backend.entity.ImageEntity;
+import com.mocamp.mocamp_backend.entity.RoomEntity;
+import com.mocamp.mocamp_backend.service.image.ImageType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 조회 응답 변환과 방 채널로 나가는 STOMP 메시지의 JSON 직렬화
+ * ObjectMapper 는 스프링 메시지 컨버터와 같은 기본 설정(Jackson2ObjectMapperBuilder)으로 만든다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoomPayloadBenchmark {
+
+    private ObjectMapper objectMapper;
+    private RoomEntity room;
+    private StatusDTO status;
+    private GoalListResponse goalList;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime startedAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        room = RoomEntity.builder()
+                .roomId(1L)
+                .roomName("모캠프 작업방")
+                .roomSeq("AB12CD34")
+                .capacity(8)
+                .status(true)
+                .notice("오늘의 공지")
+                .startedAt(startedAt)
+                .endedAt(startedAt.plusHours(2))
+                .duration(LocalTime.of(2, 0))
+                .image(ImageEntity.builder().imageId(1L).type(ImageType.room)
+                        .path("https://example.com/room/full.jpg").thumbnailPath("https://example.com/room/thumb.jpg").build())
+                .build();
+
+        status = new StatusDTO(WebsocketMessageType.WORK_STATUS_UPDATED, 1L, true, null, null);
+
+        List<GoalResponse> goals = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            goals.add(new GoalResponse(i, "목표 " + i, i % 2 == 0));
+        }
+        goalList = new GoalListResponse(WebsocketMessageType.GOAL_LIST_UPDATED, 1L, goals, false, true, 3L);
+    }
+
+    @Benchmark
+    public RoomDataResponse convertRoomData() {
+        return RoomDataResponse.convertEntityToDTO(room);
+    }
+
+    @Benchmark
+    public byte[] serializeStatus() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(status);
+    }
+
+    @Benchmark
+    public byte[] serializeGoalList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(goalList);
+    }
+}
@@ -0,0 +1,105 @@
+package com.mocamp.mocamp_backend.benchmark;
+
+import com.mocamp.mocamp_backend.authentication.UserDetailsServiceImpl;
+import com.mocamp.mocamp_backend.entity.*;
+import com.mocamp.mocamp_backend.repository.JoinedRoomArchiveRepository;
+import com.mocamp.mocamp_backend.repository.JoinedRoomRepository;
+import com.mocamp.mocamp_backend.repository.UserDailyStatRepository;
+import com.mocamp.mocamp_backend.repository.UserRepository;
+import com.mocamp.mocamp_backend.service.image.ImageProcessingService;
+import com.mocamp.mocamp_backend.service.image.ImageService;
+import com.mocamp.mocamp_backend.service.image.ImageType;
+import com.mocamp.mocamp_backend.service.room.RoomPresenceStore;
+import com.mocamp.mocamp_backend.service.user.UserGoalHistory;
+import com.mocamp.mocamp_backend.service.user.UserRoomHistory;
+import com.mocamp.mocamp_backend.service.user.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 마이홈 사용 추이(날짜별 사용 시간/목표) 집계 경로
+ * 예전 makeTimeData/makeGoalData 는 getUserProfile 안의 날짜별 집계로 합쳐졌으므로 getUserProfile 전체를 측정한다
+ * 저장소는 미리 만든 방 요약/날짜별 통계를 돌려주는 mock 이라 DB 조회 시간은 포함되지 않는다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserProfileBenchmark {
+
+    private static final int GOALS_PER_ROOM = 5;
+
+    // 참여한 방 수 (하루 한 번 참여 기준 한 달 / 일 년)
+    @Param({"30", "365"})
+    private int roomCount;
+
+    private UserService userService;
+
+    @Setup
+    public void setUp() {
+        UserEntity user = UserEntity.builder()
+                .userId(1L)
+                .username("모캠프")
+                .image(ImageEntity.builder().imageId(1L).type(ImageType.profile).path("https://example.com/profile.png").build())
+                .build();
+
+        List<UserRoomHistory> roomHistories = new ArrayList<>();
+        List<UserGoalHistory> goalHistories = new ArrayList<>();
+        List<UserDailyStatEntity> dailyStats = new ArrayList<>();
+        LocalDateTime firstStartedAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < roomCount; i++) {
+            LocalDateTime startedAt = firstStartedAt.plusDays(i);
+            boolean active = i == roomCount - 1;
+            roomHistories.add(new UserRoomHistory((long) i + 1, "방 " + i, startedAt, startedAt.plusHours(2),
+                    LocalTime.of(2, 0), active, (long) GOALS_PER_ROOM));
+            for (int j = 0; j < GOALS_PER_ROOM; j++) {
+                goalHistories.add(new UserGoalHistory((long) i + 1, startedAt.plusHours(2), (long) i * GOALS_PER_ROOM + j,
+                        "목표 " + j, j % 2 == 0));
+            }
+
+            if (!active) {
+                dailyStats.add(UserDailyStatEntity.builder()
+                        .user(user)
+                        .statDate(LocalDate.from(startedAt))
+                        .minutes(120L)
+                        .goalCount((long) GOALS_PER_ROOM)
+                        .completedCount((long) (GOALS_PER_ROOM + 1) / 2)
+                        .build());
+            }
+        }
+
+        UserDetailsServiceImpl userDetailsService = mock(UserDetailsServiceImpl.class);
+        JoinedRoomRepository joinedRoomRepository = mock(JoinedRoomRepository.class);
+        UserDailyStatRepository userDailyStatRepository = mock(UserDailyStatRepository.class);
+        when(userDetailsService.getUserByContextHolder()).thenReturn(user);
+        when(joinedRoomRepository.findRoomHistoryByUserId(1L)).thenReturn(roomHistories);
+        when(joinedRoomRepository.findGoalHistoryByUserId(1L)).thenReturn(goalHistories);
+        when(userDailyStatRepository.findAllByUser_UserIdOrderByStatDateAsc(1L)).thenReturn(dailyStats);
+
+        userService = new UserService(
+                mock(ImageService.class),
+                joinedRoomRepository,
+                mock(JoinedRoomArchiveRepository.class),
+                userDailyStatRepository,
+                userDetailsService,
+                mock(UserRepository.class),
+                mock(ImageProcessingService.class),
+                mock(RoomPresenceStore.class),
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @Benchmark
+    public ResponseEntity<?> getUserProfile() {
+        return userService.getUserProfile();
+    }
+}
@@ -0,0 +1,40 @@
+package com.mocamp.mocamp_backend.authentication;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+
+import java.io.Serializable;
+import java.security.Principal;
+
+/**
+ * 인증된 유저의 식별 정보 (웹소켓 CONNECT 시점에 조회한 값 또는 액세스 토큰의 클레임)
+ * 변하지 않는 값만 담아 요청/메시지마다 DB를 조회하지 않도록 한다
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuthenticatedUser implements Principal, Serializable {
+    private final Long userId;
+    private final String userSeq;
+    private final String username;
+
+    @Override
+    public String getName() {
+        return userSeq;
+    }
+
+    /**
+     * 메시지 핸들러로 전달된 Principal에서 AuthenticatedUser를 꺼내는 메서드
+     * @return CONNECT 인증을 거치지 않은 Principal이면 null
+     */
+    public static AuthenticatedUser of(Principal principal) {
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser;
+        }
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser;
+        }
+        return null;
+    }
+}
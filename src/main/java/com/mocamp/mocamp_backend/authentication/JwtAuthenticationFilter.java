@@ -33,8 +33,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 토큰 값만 추출
             String token = resolveToken(request);
             // 토큰이 존재하고, 유효한 토큰이면 인증 객체를 생성한 뒤, SecurityContextHolder 스레드에 등록
-            if(token != null && jwtProvider.validateToken(token)){
-                Authentication authentication = jwtProvider.getAuthentication(token);
+            if(token != null){
+                Authentication authentication = jwtProvider.authenticate(token);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
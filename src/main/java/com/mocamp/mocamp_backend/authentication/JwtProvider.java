@@ -1,5 +1,8 @@
 package com.mocamp.mocamp_backend.authentication;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.io.Encoders;
@@ -13,21 +16,32 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
 public class JwtProvider {
 
     private final Key key;
+    // 파서는 불변 객체라 여러 스레드에서 공유해도 안전
+    private final JwtParser jwtParser;
+    // 최근 검증한 토큰 (토큰 SHA-256 -> 인증 정보), 토큰 만료 시각에 함께 만료되고 최대 개수를 넘으면 덜 쓰인 것부터 제거
+    // 전역 잠금 없이 여러 요청 스레드가 동시에 읽고 쓸 수 있다
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
     // AccessToken 유효기간 : 1일
     public static final int ACCESS_TOKEN_EXPIRE = 1000 * 60 * 60 * 24;
     // RefreshToken 유효기간 : 15일
     public static final int REFRESH_TOKEN_EXPIRE = 1000 * 60 * 60 * 24 * 15;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String USERNAME_CLAIM = "name";
 
     /**
      * 토큰을 파싱하여 Claims 객체를 반환하는 메서드
@@ -36,7 +50,7 @@ public class JwtProvider {
      */
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
 
         } catch (ExpiredJwtException e) {
             return e.getClaims();
@@ -46,10 +60,32 @@ public class JwtProvider {
     /**
      * JwtProvider 생성자
      * @param secretKey JWT 비밀키를 Base64로 인코딩한 값
+     * @param cacheSize 검증 결과를 보관할 최대 토큰 수
      */
-    public JwtProvider(@Value("${jwt.secretKey}") String secretKey){
+    public JwtProvider(@Value("${jwt.secretKey}") String secretKey,
+                       @Value("${jwt.verified-cache-size:10000}") int cacheSize){
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     /**
@@ -62,9 +98,17 @@ public class JwtProvider {
         long now = (new Date()).getTime();
         Date accessTokenExpire = new Date(now + expireMills);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(authentication.getName())
-                .claim("auth", "ROLE_USER") // 고정된 권한
+                .claim("auth", "ROLE_USER"); // 고정된 권한
+
+        // 요청마다 유저를 조회하지 않도록 userId와 닉네임을 함께 담음
+        if (authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            builder.claim(USER_ID_CLAIM, user.getUserId())
+                    .claim(USERNAME_CLAIM, user.getUsername());
+        }
+
+        return builder
                 .setExpiration(accessTokenExpire)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
@@ -93,7 +137,10 @@ public class JwtProvider {
      * @param accessToken JWT 토큰
      */
     public Authentication getAuthentication(String accessToken){
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken));
+    }
+
+    private Authentication getAuthentication(Claims claims){
         if (claims.get("auth") == null ){
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
@@ -107,20 +154,71 @@ public class JwtProvider {
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
 
-        // UserDetails 객체를 만들어서 Authentication 리턴
+        // userId가 담긴 토큰이면 AuthenticatedUser를 principal로 사용
+        Object userId = claims.get(USER_ID_CLAIM);
+        if (userId != null) {
+            AuthenticatedUser principal = new AuthenticatedUser(((Number) userId).longValue(), claims.getSubject(),
+                    claims.get(USERNAME_CLAIM, String.class));
+            return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        }
+
+        // UserDetails 객체를 만들어서 Authentication 리턴 (userId 클레임이 없는 이전 토큰)
         UserDetails pricipal = new User(claims.getSubject(), "", authorities);
         return new UsernamePasswordAuthenticationToken(pricipal, "", authorities);
     }
 
+    /**
+     * 토큰을 검증하고 인증 정보를 반환하는 메서드
+     * 최근에 검증한 토큰은 만료 시각 전까지 서명 검증 없이 캐시된 인증 정보를 사용한다
+     * @param token JWT 토큰
+     * @return 인증 정보, 토큰이 유효하지 않으면 validateToken과 같은 예외를 발생
+     */
+    public Authentication authenticate(String token) {
+        ByteBuffer cacheKey = hash(token);
+        // 만료 시각이 지난 토큰은 캐시에서 조회되지 않는다
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached.authentication();
+        }
+
+        // 서명 검증과 클레임 파싱을 한 번에 처리
+        Claims claims = verifyClaims(token);
+        Authentication authentication = getAuthentication(claims);
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(cacheKey, new VerifiedToken(authentication, claims.getExpiration().getTime()));
+        }
+        return authentication;
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(Authentication authentication, long expiresAt) {
+    }
+
     /**
      * 토큰의 유효성을 검증하는 메서드
      * @param token JWT 토큰
      * @return 토큰이 유효하면 true, 그렇지 않으면 예외를 발생
      */
     public boolean validateToken(String token) {
+        verifyClaims(token);
+        return true;
+    }
+
+    /**
+     * 토큰의 서명과 만료를 검증하고 클레임을 반환하는 메서드
+     * @param token JWT 토큰
+     * @return 검증된 Claims, 유효하지 않으면 validateToken과 같은 예외를 발생
+     */
+    private Claims verifyClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (MalformedJwtException e) {
             throw new MalformedJwtException("위조된 토큰");
         } catch (ExpiredJwtException e) {
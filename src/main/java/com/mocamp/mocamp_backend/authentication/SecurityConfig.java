@@ -1,6 +1,7 @@
 package com.mocamp.mocamp_backend.authentication;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -26,6 +27,10 @@ public class SecurityConfig {
     // JwtAuthenticationFilter 파트에서 사용하기 위해 주입
     private final JwtProvider jwtProvider;
 
+    // Actuator 전용 포트 (이 포트로 들어온 요청만 수집/상태 엔드포인트 접근 허용)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     // 로그인 시 인증을 직접 수행하는 Manager 빈으로 등록
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration)
@@ -43,6 +48,8 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests((auth) -> {
                             auth.requestMatchers("/healthy").permitAll();
+                            auth.requestMatchers(request -> request.getLocalPort() == managementPort
+                                    && request.getRequestURI().startsWith("/actuator/")).permitAll();
                             auth.requestMatchers("/api/login/**").permitAll();
                             auth.requestMatchers("/api/user/modify").permitAll();
                             auth.requestMatchers("/api-docs/**").permitAll();
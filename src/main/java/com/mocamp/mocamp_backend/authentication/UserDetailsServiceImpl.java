@@ -43,15 +43,43 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     /**
      * JWT 필터에서 인증 성공 후, SecurityContextHolder에 담긴 인증 객체 불러와 요청한 user 찾는 메서드
+     * 유저 정보를 수정하거나 userId, 닉네임 외의 값이 필요할 때만 사용
      * @return UserEntity
      */
     public UserEntity getUserByContextHolder() {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return userRepository.findById(authenticatedUser.getUserId())
+                    .orElseThrow(() -> new UsernameNotFoundException(USER_NOT_FOUND_EXCEPTION));
+        }
         UserDetails userDetails = (UserDetails) principal;
         return userRepository.findUserByUserSeq(userDetails.getUsername())
                 .orElseThrow(() -> new UsernameNotFoundException(USER_NOT_FOUND_EXCEPTION));
     }
 
+    /**
+     * SecurityContextHolder에 담긴 인증 객체에서 유저 식별 정보를 꺼내는 메서드
+     * 액세스 토큰에 담긴 값을 사용하므로 DB를 조회하지 않는다 (userId 클레임이 없는 이전 토큰은 한 번 조회)
+     * @return AuthenticatedUser
+     */
+    public AuthenticatedUser getAuthenticatedUser() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser;
+        }
+        UserEntity user = getUserByContextHolder();
+        return new AuthenticatedUser(user.getUserId(), user.getUserSeq(), user.getUsername());
+    }
+
+    /**
+     * 연관관계 설정이나 조회 조건에 쓸 유저 참조를 반환하는 메서드
+     * userId 외의 값에 접근하기 전까지는 DB를 조회하지 않는다
+     * @return UserEntity 프록시
+     */
+    public UserEntity getUserReference() {
+        return userRepository.getReferenceById(getAuthenticatedUser().getUserId());
+    }
+
     public Authentication getAuthentication(){
         return SecurityContextHolder.getContext().getAuthentication();
     }
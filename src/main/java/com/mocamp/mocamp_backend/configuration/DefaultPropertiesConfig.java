@@ -0,0 +1,30 @@
+package com.mocamp.mocamp_backend.configuration;
+
+import org.springframework.boot.DefaultPropertiesPropertySource;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.util.Map;
+
+/**
+ * 배포 설정(application.yml)에 없을 때 사용할 기본값을 등록하는 EnvironmentPostProcessor
+ * META-INF/spring.factories 로 등록되어 main 실행뿐 아니라 @SpringBootTest, LocalCluster 노드에도 같은 기본값이 적용된다
+ * 우선순위가 가장 낮은 defaultProperties 로 들어가므로 application.yml, 프로필 설정, 실행 인자가 있으면 그 값을 사용
+ */
+public class DefaultPropertiesConfig implements EnvironmentPostProcessor {
+
+    private static final Map<String, Object> DEFAULTS = Map.of(
+            "management.endpoints.web.exposure.include", "health,prometheus",
+            // Actuator 엔드포인트는 외부에 열지 않는 별도 포트로만 제공
+            "management.server.port", "8081",
+            // 마이그레이션 도입 전부터 있던 DB는 V1(기존 스키마)을 건너뛰고 V2부터 적용
+            "spring.flyway.baseline-on-migrate", "true",
+            "spring.flyway.baseline-version", "1"
+    );
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        DefaultPropertiesPropertySource.addOrMerge(DEFAULTS, environment.getPropertySources());
+    }
+}
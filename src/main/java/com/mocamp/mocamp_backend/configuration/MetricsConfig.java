@@ -0,0 +1,32 @@
+package com.mocamp.mocamp_backend.configuration;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 공통 설정
+ * HTTP 요청 처리 시간(http.server.requests, uri 템플릿별)은 Actuator가 측정하며, 여기서는 p50/p99를 함께 내보내도록 한다
+ * 수집 엔드포인트는 관리 포트(management.server.port, 기본 8081)의 /actuator/prometheus (서비스 포트로는 노출하지 않음)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterFilter httpServerPercentiles() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().startsWith("http.server.requests")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentiles(0.5, 0.99)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.mocamp.mocamp_backend.configuration;
+
+import com.mocamp.mocamp_backend.service.room.RoomPresenceStore;
+import com.mocamp.mocamp_backend.service.room.RoomScheduler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방/소켓 상태 게이지 등록
+ * - mocamp.rooms.active: 종료 시각이 예약된(활동 중인) 방 수
+ * - mocamp.room.participants: 이 노드 메모리에 적재된 참여자 수
+ * - mocamp.stomp.sessions: 이 노드에 연결된 STOMP 세션 수
+ * 방별 처리량과 전송 대상 수는 mocamp.stomp.inbound.handle, mocamp.broadcast.* 참고
+ */
+@Component
+public class MocampMetrics {
+
+    private final Set<String> stompSessions = ConcurrentHashMap.newKeySet();
+
+    public MocampMetrics(MeterRegistry meterRegistry, RoomScheduler roomScheduler, RoomPresenceStore roomPresenceStore) {
+        Gauge.builder("mocamp.rooms.active", roomScheduler, RoomScheduler::activeRoomCount)
+                .description("활동 중인 방 수")
+                .register(meterRegistry);
+        Gauge.builder("mocamp.room.participants", roomPresenceStore, RoomPresenceStore::participantCount)
+                .description("이 노드 메모리에 적재된 방 참여자 수")
+                .register(meterRegistry);
+        Gauge.builder("mocamp.stomp.sessions", stompSessions, Set::size)
+                .description("연결된 STOMP 세션 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSessionConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            stompSessions.add(sessionId);
+        }
+    }
+
+    // 연결 실패나 중복 종료 이벤트에도 수가 어긋나지 않도록 세션 ID로 관리
+    @EventListener
+    public void onSessionDisconnected(SessionDisconnectEvent event) {
+        stompSessions.remove(event.getSessionId());
+    }
+}
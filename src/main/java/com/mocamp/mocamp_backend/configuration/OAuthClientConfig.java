@@ -0,0 +1,31 @@
+package com.mocamp.mocamp_backend.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 소셜 로그인(카카오/네이버/구글) 서버 호출에 공유하는 HTTP 클라이언트 설정
+ * JDK HttpClient가 호스트별 연결을 keep-alive로 재사용하므로 로그인마다 TCP/TLS 연결을 새로 맺지 않는다
+ */
+@Configuration
+public class OAuthClientConfig {
+
+    @Bean
+    public RestTemplate oauthRestTemplate(@Value("${oauth.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+                                          @Value("${oauth.http.read-timeout-ms:5000}") long readTimeoutMs) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return new RestTemplate(requestFactory);
+    }
+}
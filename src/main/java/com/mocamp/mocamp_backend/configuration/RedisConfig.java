@@ -1,11 +1,13 @@
 package com.mocamp.mocamp_backend.configuration;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -34,4 +36,14 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    // 다중 노드 브로드캐스트(mocamp.broadcast.mode=redis)에서 방 채널 구독에 사용
+    @Bean
+    @ConditionalOnProperty(name = "mocamp.broadcast.mode", havingValue = "redis")
+    public RedisMessageListenerContainer roomListenerContainer(){
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+
+        return container;
+    }
 }
\ No newline at end of file
@@ -3,11 +3,15 @@ package com.mocamp.mocamp_backend.configuration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 @Configuration
 public class S3Config {
@@ -18,12 +22,34 @@ public class S3Config {
     private String accessSecret;
     @Value("${cloud.aws.region.static}")
     private String region;
+    // 로컬 S3 호환 서버(MinIO 등)로 테스트할 때만 지정
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+    @Value("${cloud.aws.s3.multipart-threshold-bytes:16777216}")
+    private long multipartThresholdBytes;
 
     @Bean
     public AmazonS3 s3Client() {
         AWSCredentials credentials = new BasicAWSCredentials(accessKey, accessSecret);
-        return AmazonS3ClientBuilder.standard()
-                .withCredentials(new AWSStaticCredentialsProvider(credentials))
-                .withRegion(region).build();
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(credentials));
+        if (StringUtils.hasText(endpoint)) {
+            return builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true)
+                    .build();
+        }
+        return builder.withRegion(region).build();
+    }
+
+    /**
+     * 큰 파일을 멀티파트로 나눠 올리기 위한 TransferManager
+     * 스트림 업로드 시 파트 크기만큼만 메모리에 올라간다
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3 s3Client) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(s3Client)
+                .withMultipartUploadThreshold(multipartThresholdBytes)
+                .build();
     }
 }
@@ -1,6 +1,9 @@
 package com.mocamp.mocamp_backend.configuration;
 
+import com.mocamp.mocamp_backend.authentication.AuthenticatedUser;
 import com.mocamp.mocamp_backend.authentication.JwtProvider;
+import com.mocamp.mocamp_backend.entity.UserEntity;
+import com.mocamp.mocamp_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -9,6 +12,7 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -19,22 +23,29 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class StompChannelInterceptor implements ChannelInterceptor {
     private final JwtProvider jwtProvider;
+    private final UserRepository userRepository;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
 
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
-        System.out.println(accessor.getCommand());
+        log.debug("[웹소켓 프레임] command: {}", accessor.getCommand());
 
         if(StompCommand.CONNECT.equals(accessor.getCommand())) {
             String accessToken = accessor.getFirstNativeHeader("Authorization");
-            log.info("[웹소캣 인터셉터 토큰 확인] 액세스 토큰: {}", accessToken);
+            // 토큰 값은 로그에 남기지 않음
+            log.debug("[웹소켓 인터셉터 토큰 확인] 토큰 존재 여부: {}", accessToken != null);
 
-            if(accessToken == null || !jwtProvider.validateToken(accessToken)) {
+            if(accessToken == null) {
                 throw new UsernameNotFoundException("Invalid token");
             }
 
-            Authentication authentication = jwtProvider.getAuthentication(accessToken);
+            Authentication tokenAuthentication = jwtProvider.authenticate(accessToken);
+
+            // 이후 프레임은 세션에 저장된 principal을 사용
+            Authentication authentication = new UsernamePasswordAuthenticationToken(
+                    resolveUser(tokenAuthentication), "", tokenAuthentication.getAuthorities());
+
             SecurityContextHolder.getContext().setAuthentication(authentication);
             accessor.setUser(authentication);
             log.info("✅ CONNECT 인증 성공, SecurityContext 설정 완료");
@@ -42,4 +53,18 @@ public class StompChannelInterceptor implements ChannelInterceptor {
 
         return message;
     }
+
+    /**
+     * 토큰의 uid/name 클레임으로 유저 정보를 만드는 메서드
+     * 클레임이 없는 이전 토큰만 DB에서 유저를 조회한다
+     */
+    private AuthenticatedUser resolveUser(Authentication tokenAuthentication) {
+        if (tokenAuthentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser;
+        }
+
+        UserEntity user = userRepository.findUserByUserSeq(tokenAuthentication.getName())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return new AuthenticatedUser(user.getUserId(), user.getUserSeq(), user.getUsername());
+    }
 }
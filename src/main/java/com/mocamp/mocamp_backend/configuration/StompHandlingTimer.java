@@ -0,0 +1,83 @@
+package com.mocamp.mocamp_backend.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+/**
+ * @MessageMapping 핸들러의 처리 시간을 측정하는 인터셉터 (mocamp.stomp.inbound.handle)
+ * 스레드 모드(platform/virtual)를 태그로 남겨 두 모드의 p99 지연 시간을 비교할 수 있게 한다
+ * destination 태그는 경로의 숫자 ID를 {id}로 바꿔 핸들러 단위로 모은다 (예: /pub/data/notice/{id})
+ * 핸들러가 실제 처리를 방 작업 실행기(RoomLaneExecutor)에 넘기는 경우 completeWith 로 그 작업이 끝날 때까지 측정한다
+ */
+@Component
+public class StompHandlingTimer implements ExecutorChannelInterceptor {
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final String threadsMode;
+    // beforeHandle 과 afterMessageHandled 는 같은 스레드에서 호출된다
+    private final ThreadLocal<PendingSample> currentSample = new ThreadLocal<>();
+    private final MeterRegistry meterRegistry;
+
+    public StompHandlingTimer(MeterRegistry meterRegistry,
+                              @Value("${mocamp.threads.mode:platform}") String threadsMode) {
+        this.meterRegistry = meterRegistry;
+        this.threadsMode = threadsMode;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler) {
+            currentSample.set(new PendingSample(Timer.start(meterRegistry),
+                    SimpMessageHeaderAccessor.getDestination(message.getHeaders())));
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        PendingSample pending = currentSample.get();
+        if (pending != null) {
+            currentSample.remove();
+            pending.sample().stop(handleTimer(pending.destination(), ex));
+        }
+    }
+
+    /**
+     * 현재 처리 중인 메시지의 측정을 넘겨받은 작업이 끝날 때까지 미루는 메서드 (대기 시간 + 실행 시간 측정)
+     * 핸들러 안(인바운드 스레드)에서 호출해야 하며, 측정 중이 아니면 아무것도 하지 않는다
+     * @param future 핸들러가 넘긴 작업의 Future
+     */
+    public void completeWith(CompletableFuture<?> future) {
+        PendingSample pending = currentSample.get();
+        if (pending == null) {
+            return;
+        }
+        currentSample.remove();
+        future.whenComplete((result, e) -> pending.sample().stop(handleTimer(pending.destination(), e)));
+    }
+
+    // 같은 이름/태그의 Timer는 레지스트리가 한 번만 만들고 이후에는 조회만 한다
+    private Timer handleTimer(String destination, Throwable ex) {
+        return Timer.builder("mocamp.stomp.inbound.handle")
+                .description("STOMP 메시지 핸들러 처리 시간")
+                .tag("threads", threadsMode)
+                .tag("destination", destination == null ? "none" : ID_SEGMENT.matcher(destination).replaceAll("/{id}"))
+                .tag("outcome", ex == null ? "success" : "error")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private record PendingSample(Timer.Sample sample, String destination) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.mocamp.mocamp_backend.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+
+/**
+ * mocamp.threads.mode=virtual 일 때 STOMP 채널과 @Scheduled 작업을 가상 스레드에서 실행하도록 하는 설정 (JDK 21 이상)
+ * 기본값(platform)은 스프링 기본 스레드 풀을 그대로 사용한다
+ */
+@Configuration
+@ConditionalOnProperty(name = "mocamp.threads.mode", havingValue = "virtual")
+public class ThreadConfig {
+
+    @Bean
+    public SimpleAsyncTaskExecutor clientInboundVirtualExecutor() {
+        return virtualExecutor("stomp-inbound-");
+    }
+
+    @Bean
+    public SimpleAsyncTaskExecutor clientOutboundVirtualExecutor() {
+        return virtualExecutor("stomp-outbound-");
+    }
+
+    // @Scheduled 는 이름이 taskScheduler 인 빈을 우선 사용한다
+    @Bean(name = "taskScheduler")
+    public SimpleAsyncTaskScheduler taskScheduler() {
+        SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setVirtualThreads(true);
+        return scheduler;
+    }
+
+    private SimpleAsyncTaskExecutor virtualExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
@@ -1,7 +1,9 @@
 package com.mocamp.mocamp_backend.configuration;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -9,24 +11,55 @@ import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 @Configuration
-@RequiredArgsConstructor
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final StompChannelInterceptor stompChannelInterceptor;
+    private final StompHandlingTimer stompHandlingTimer;
+    // mocamp.threads.mode=virtual 일 때만 존재 (ThreadConfig)
+    private final SimpleAsyncTaskExecutor inboundExecutor;
+    private final SimpleAsyncTaskExecutor outboundExecutor;
+
+    public WebSocketConfig(StompChannelInterceptor stompChannelInterceptor,
+                           StompHandlingTimer stompHandlingTimer,
+                           @Qualifier("clientInboundVirtualExecutor") ObjectProvider<SimpleAsyncTaskExecutor> inboundExecutor,
+                           @Qualifier("clientOutboundVirtualExecutor") ObjectProvider<SimpleAsyncTaskExecutor> outboundExecutor) {
+        this.stompChannelInterceptor = stompChannelInterceptor;
+        this.stompHandlingTimer = stompHandlingTimer;
+        this.inboundExecutor = inboundExecutor.getIfAvailable();
+        this.outboundExecutor = outboundExecutor.getIfAvailable();
+    }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws").setAllowedOriginPatterns("*");
+        // 가상 스레드는 메시지마다 새 스레드에서 실행되므로, 세션별 수신 순서를 보장하도록 설정
+        if (inboundExecutor != null) {
+            registry.setPreserveReceiveOrder(true);
+        }
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.enableSimpleBroker("/sub");
         registry.setApplicationDestinationPrefixes("/pub");
+        // 방 채널로 보낸 순서대로 각 구독 세션에 전달되도록 설정
+        if (outboundExecutor != null) {
+            registry.setPreservePublishOrder(true);
+        }
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompChannelInterceptor);
+        registration.interceptors(stompChannelInterceptor, stompHandlingTimer);
+        if (inboundExecutor != null) {
+            registration.executor(inboundExecutor);
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (outboundExecutor != null) {
+            registration.executor(outboundExecutor);
+        }
     }
 }
@@ -1,18 +1,25 @@
 package com.mocamp.mocamp_backend.controller;
 
 import com.mocamp.mocamp_backend.dto.commonResponse.CommonResponse;
+import com.mocamp.mocamp_backend.dto.commonResponse.ErrorResponse;
 import com.mocamp.mocamp_backend.dto.room.RoomCreateRequest;
 import com.mocamp.mocamp_backend.dto.room.RoomEnterRequest;
 import com.mocamp.mocamp_backend.service.room.RoomHttpService;
+import com.mocamp.mocamp_backend.service.room.RoomLaneExecutor;
+import com.mocamp.mocamp_backend.service.room.RoomLaneTimeoutException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.function.Supplier;
+
 
 @Tag(name = "Room Controller", description = "모캠프 작업 공간(방) 메타 데이터 저장을 위한 HTTP 엔드포인트")
 @RestController
@@ -20,6 +27,28 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class RoomHttpController {
     private final RoomHttpService roomHttpService;
+    private final RoomLaneExecutor roomLaneExecutor;
+
+    private static final String LANE_BUSY_MESSAGE = "요청이 많아 처리하지 못했습니다. 다시 시도해 주세요";
+    private static final String LANE_OUTCOME_UNKNOWN_MESSAGE = "요청 처리 결과를 확인하지 못했습니다. 방 정보를 다시 조회해 주세요";
+
+    /**
+     * 방의 작업 순서(RoomLaneExecutor)에 맞춰 실행하고, 대기 시간이 초과되면 503으로 응답
+     * 작업이 시작되지 않았으면 그대로 재시도해도 되고(Retry-After), 시작되었으면 결과를 알 수 없으므로 방 상태를 다시 조회해야 한다
+     */
+    private ResponseEntity<CommonResponse> callInLane(Long roomId, Supplier<ResponseEntity<CommonResponse>> task) {
+        try {
+            return roomLaneExecutor.call(roomId, task);
+        } catch (RoomLaneTimeoutException e) {
+            if (e.isStarted()) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body(new ErrorResponse(503, "에러 메시지: " + LANE_OUTCOME_UNKNOWN_MESSAGE));
+            }
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new ErrorResponse(503, "에러 메시지: " + LANE_BUSY_MESSAGE));
+        }
+    }
 
     @Operation(
             summary = "모캠프 방 생성 (방장 전용)",
@@ -44,7 +73,7 @@ public class RoomHttpController {
     public ResponseEntity<CommonResponse> enterRoom(
             @PathVariable Long roomId,
             @RequestBody RoomEnterRequest roomEnterRequest) {
-        return roomHttpService.enterRoom(roomId, roomEnterRequest);
+        return callInLane(roomId, () -> roomHttpService.enterRoom(roomId, roomEnterRequest));
     }
 
     @Operation(
@@ -57,7 +86,7 @@ public class RoomHttpController {
     )
     @PostMapping("/exit/{roomId}")
     public ResponseEntity<CommonResponse> exitRoom(@PathVariable Long roomId) {
-        return roomHttpService.exitRoom(roomId);
+        return callInLane(roomId, () -> roomHttpService.exitRoom(roomId));
     }
 
     // 방 수정 API 필요 시 개발 예정 (WF 상 수정 로직 불필요)
@@ -116,4 +145,18 @@ public class RoomHttpController {
         return roomHttpService.getRoomParticipantData(roomId);
     }
 
+    @Operation(
+            summary = "특정 모캠프 방 참가자의 목표 목록 조회 (목표 변경분 버전이 어긋났을 때 재동기화용)",
+            parameters = {
+                    @Parameter(name = "Authorization", description = "Jwt 토큰", required = true),
+                    @Parameter(name = "roomId", description = "데이터를 조회하고자 하는 방 ID", required = true),
+                    @Parameter(name = "userId", description = "목표를 조회하고자 하는 참가자 ID", required = true)
+            },
+            responses = { @ApiResponse(responseCode = "200", description = "데이터 조회 성공") }
+    )
+    @GetMapping("/participant/{roomId}/goals/{userId}")
+    public ResponseEntity<CommonResponse> getParticipantGoals(@PathVariable Long roomId, @PathVariable Long userId) {
+        return roomHttpService.getParticipantGoals(roomId, userId);
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.mocamp.mocamp_backend.controller;
 
+import com.mocamp.mocamp_backend.configuration.StompHandlingTimer;
 import com.mocamp.mocamp_backend.dto.delegation.DelegationUpdateRequest;
 import com.mocamp.mocamp_backend.dto.goal.GoalCompleteUpdateRequest;
 import com.mocamp.mocamp_backend.dto.goal.GoalListRequest;
@@ -7,6 +8,7 @@ import com.mocamp.mocamp_backend.dto.notice.NoticeUpdateRequest;
 import com.mocamp.mocamp_backend.dto.resolution.ResolutionUpdateRequest;
 import com.mocamp.mocamp_backend.dto.status.StatusDTO;
 import com.mocamp.mocamp_backend.service.goal.GoalSocketService;
+import com.mocamp.mocamp_backend.service.room.RoomLaneExecutor;
 import com.mocamp.mocamp_backend.service.room.RoomSocketService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,30 +25,32 @@ import java.security.Principal;
 public class RoomSocketController {
     private final RoomSocketService roomSocketService;
     private final GoalSocketService goalSocketService;
+    private final RoomLaneExecutor roomLaneExecutor;
+    private final StompHandlingTimer stompHandlingTimer;
 
     @MessageMapping("/data/goal/manage/{roomId}")
     public void manageGoal(@Payload GoalListRequest goalListRequest, @DestinationVariable("roomId") Long roomId, Principal principal) {
-        goalSocketService.manageGoal(goalListRequest, roomId, principal);
+        stompHandlingTimer.completeWith(roomLaneExecutor.execute(roomId, () -> goalSocketService.manageGoal(goalListRequest, roomId, principal)));
     }
 
     @MessageMapping("/data/goal/complete/{roomId}")
     public void pressGoal(@Payload GoalCompleteUpdateRequest goalCompleteUpdateRequest, @DestinationVariable("roomId") Long roomId, Principal principal) {
-        goalSocketService.pressGoal(goalCompleteUpdateRequest, roomId, principal);
+        stompHandlingTimer.completeWith(roomLaneExecutor.execute(roomId, () -> goalSocketService.pressGoal(goalCompleteUpdateRequest, roomId, principal)));
     }
 
     @MessageMapping("/data/notice/{roomId}")
     public void updateNotice(@Payload NoticeUpdateRequest noticeUpdateRequest, @DestinationVariable("roomId") Long roomId, Principal principal) {
-        roomSocketService.updateNotice(noticeUpdateRequest, roomId, principal);
+        stompHandlingTimer.completeWith(roomLaneExecutor.execute(roomId, () -> roomSocketService.updateNotice(noticeUpdateRequest, roomId, principal)));
     }
 
     @MessageMapping("/data/resolution/{roomId}")
     public void updateResolution(@Payload ResolutionUpdateRequest resolutionUpdateRequest, @DestinationVariable("roomId") Long roomId, Principal principal) {
-        roomSocketService.updateResolution(resolutionUpdateRequest, roomId, principal);
+        stompHandlingTimer.completeWith(roomLaneExecutor.execute(roomId, () -> roomSocketService.updateResolution(resolutionUpdateRequest, roomId, principal)));
     }
 
     @MessageMapping("/data/delegation/{roomId}")
     public void UpdateDelegation(@Payload DelegationUpdateRequest delegationUpdateRequest, @DestinationVariable("roomId") Long roomId, Principal principal) {
-        roomSocketService.updateDelegation(delegationUpdateRequest, roomId, principal);
+        stompHandlingTimer.completeWith(roomLaneExecutor.execute(roomId, () -> roomSocketService.updateDelegation(delegationUpdateRequest, roomId, principal)));
     }
 
     @MessageMapping("/data/work-status/{roomId}")
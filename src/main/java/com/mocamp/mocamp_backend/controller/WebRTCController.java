@@ -4,10 +4,10 @@ import java.util.Map;
 
 import javax.annotation.PostConstruct;
 
+import com.mocamp.mocamp_backend.authentication.AuthenticatedUser;
 import com.mocamp.mocamp_backend.authentication.UserDetailsServiceImpl;
 import com.mocamp.mocamp_backend.dto.commonResponse.ErrorResponse;
 import com.mocamp.mocamp_backend.entity.RoomEntity;
-import com.mocamp.mocamp_backend.entity.UserEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -54,11 +54,11 @@ public class WebRTCController {
     @PostMapping("/api/sessions")
     public ResponseEntity<?> initializeSession(@RequestBody(required = false) Map<String, Object> params)
             throws OpenViduJavaClientException, OpenViduHttpException {
-        UserEntity userEntity;
+        AuthenticatedUser authenticatedUser;
 
         try {
-            userEntity = userDetailsService.getUserByContextHolder();
-            log.info("[유저 조회 성공] 유저 ID: {}, 닉네임: {}", userEntity.getUserId(), userEntity.getUsername());
+            authenticatedUser = userDetailsService.getAuthenticatedUser();
+            log.info("[유저 조회 성공] 유저 ID: {}, 닉네임: {}", authenticatedUser.getUserId(), authenticatedUser.getUsername());
         } catch (Exception e) {
             log.error("[유저 조회 실패] {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -78,11 +78,11 @@ public class WebRTCController {
     public ResponseEntity<?> createConnection(@PathVariable("sessionId") String sessionId,
                                                    @RequestBody(required = false) Map<String, Object> params)
             throws OpenViduJavaClientException, OpenViduHttpException {
-        UserEntity userEntity;
+        AuthenticatedUser authenticatedUser;
 
         try {
-            userEntity = userDetailsService.getUserByContextHolder();
-            log.info("[유저 조회 성공] 유저 ID: {}, 닉네임: {}", userEntity.getUserId(), userEntity.getUsername());
+            authenticatedUser = userDetailsService.getAuthenticatedUser();
+            log.info("[유저 조회 성공] 유저 ID: {}, 닉네임: {}", authenticatedUser.getUserId(), authenticatedUser.getUsername());
         } catch (Exception e) {
             log.error("[유저 조회 실패] {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,26 @@
+package com.mocamp.mocamp_backend.dto.goal;
+
+import com.mocamp.mocamp_backend.dto.websocket.WebsocketMessageType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 목표 목록 변경분 응답
+ * 클라이언트는 goalVersion이 보유 버전 + 1이 아니면 목표 목록 조회 API로 다시 동기화한다
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalListDeltaResponse {
+    private WebsocketMessageType type;
+    private Long userId;
+    private List<GoalResponse> addedGoals;
+    private List<Long> removedGoalIds;
+    private Boolean isSecret;
+    private Long goalVersion;
+}
@@ -16,5 +16,6 @@ public class GoalListResponse {
     private List<GoalResponse> goals;
     private Boolean isSecret;
     private Boolean isMyGoal;
+    private Long goalVersion;
 
 }
@@ -21,6 +21,7 @@ public class GoalResponse {
     private Long goalId;
     private String content;
     private Boolean isCompleted;
+    private Long goalVersion;
 
     public GoalResponse(Long goalId, String content, Boolean isCompleted) {
         this.goalId = goalId;
@@ -0,0 +1,17 @@
+package com.mocamp.mocamp_backend.dto.image;
+
+import com.mocamp.mocamp_backend.dto.websocket.WebsocketMessageType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUpdateResponse {
+
+    private WebsocketMessageType type;
+    private Long imageId;
+    private String imagePath;
+    private String thumbnailPath;
+}
@@ -22,6 +22,7 @@ public class RoomDataResponse {
     private LocalDateTime endedAt;
     private LocalTime duration;
     private String imagePath;
+    private String thumbnailPath;
     private Boolean micAvailability;
 
     public static RoomDataResponse convertEntityToDTO(RoomEntity roomEntity) {
@@ -36,6 +37,7 @@ public class RoomDataResponse {
                 .endedAt(roomEntity.getEndedAt())
                 .duration(roomEntity.getDuration())
                 .imagePath(roomEntity.getImage().getPath())
+                .thumbnailPath(roomEntity.getImage().getThumbnailPath())
                 .micAvailability(roomEntity.getMicAvailability())
                 .build();
     }
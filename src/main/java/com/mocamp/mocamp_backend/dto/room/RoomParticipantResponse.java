@@ -21,5 +21,6 @@ public class RoomParticipantResponse {
     private Boolean workStatus;
     private Boolean micStatus;
     private Boolean camStatus;
+    private Long goalVersion;
     private List<GoalResponse> goals;
 }
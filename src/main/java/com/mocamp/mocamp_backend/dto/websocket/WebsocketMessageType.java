@@ -3,6 +3,7 @@ package com.mocamp.mocamp_backend.dto.websocket;
 
 public enum WebsocketMessageType {
     GOAL_LIST_UPDATED,
+    GOAL_LIST_DELTA,
     GOAL_COMPLETE_UPDATED,
     NOTICE_UPDATED,
     RESOLUTION_UPDATED,
@@ -10,6 +11,8 @@ public enum WebsocketMessageType {
     USER_EXIT_UPDATED,
     ADMIN_UPDATED,
     ROOM_END_ALERT,
+    ROOM_IMAGE_UPDATED,
+    ROOM_IMAGE_FAILED,
     WORK_STATUS_UPDATED,
     CAM_STATUS_UPDATED,
     MIC_STATUS_UPDATED
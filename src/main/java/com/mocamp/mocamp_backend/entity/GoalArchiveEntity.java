@@ -0,0 +1,35 @@
+package com.mocamp.mocamp_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor
+@Entity(name = "goal_archive")
+@Table(name = "goal_archive", indexes = {
+        @Index(name = "idx_goal_archive_joined_room", columnList = "joined_room_id")
+})
+public class GoalArchiveEntity {
+    @Id
+    @Column(name = "goal_id", nullable = false)
+    private Long goalId;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(name = "is_completed", nullable = false)
+    private Boolean isCompleted;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "joined_room_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private JoinedRoomArchiveEntity joinedRoom;
+
+    public GoalEntity toGoalEntity(JoinedRoomEntity joinedRoom) {
+        return GoalEntity.builder()
+                .goalId(goalId)
+                .content(content)
+                .isCompleted(isCompleted)
+                .joinedRoom(joinedRoom)
+                .build();
+    }
+}
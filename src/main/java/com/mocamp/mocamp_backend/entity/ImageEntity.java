@@ -1,5 +1,6 @@
 package com.mocamp.mocamp_backend.entity;
 
+import com.mocamp.mocamp_backend.service.image.ImageStatus;
 import com.mocamp.mocamp_backend.service.image.ImageType;
 import jakarta.persistence.*;
 import lombok.*;
@@ -10,6 +11,7 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name = "image")
+@Table(name = "image", indexes = @Index(name = "idx_image_content_hash", columnList = "content_hash"))
 public class ImageEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,15 +22,22 @@ public class ImageEntity {
     @Column(nullable = false)
     private ImageType type;
 
+    // 변환/업로드가 끝나기 전에는 빈 문자열 (프로필 변경 시에는 이전 경로 유지)
     @Column(nullable = false)
     private String path;
 
+    @Column(name = "thumbnail_path")
+    private String thumbnailPath;
 
-    @OneToOne(mappedBy = "image", cascade = CascadeType.ALL, orphanRemoval = true)
-    private UserEntity user;
+    // 업로드 원본의 SHA-256 (hex), 같은 내용의 업로드는 이 행과 S3 객체를 재사용한다 (소셜 로그인 프로필 이미지는 null)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 
-    @OneToOne(mappedBy = "image", cascade = CascadeType.ALL, orphanRemoval = true)
-    private RoomEntity room;
+    // 기존 행과 소셜 로그인 프로필 이미지는 null(READY로 취급)
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ImageStatus status = ImageStatus.READY;
 
     public void updatePath(String path) {this.path = path;}
 }
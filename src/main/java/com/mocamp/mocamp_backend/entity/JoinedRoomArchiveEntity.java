@@ -0,0 +1,58 @@
+package com.mocamp.mocamp_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@Entity(name = "joined_room_archive")
+// 인덱스는 db/migration 마이그레이션과 같은 이름으로 유지
+@Table(name = "joined_room_archive", indexes = {
+        @Index(name = "idx_joined_room_archive_user", columnList = "user_id"),
+        @Index(name = "idx_joined_room_archive_room_user", columnList = "room_id, user_id")
+})
+public class JoinedRoomArchiveEntity {
+    @Id
+    @Column(name = "joined_room_id", nullable = false)
+    private Long joinedRoomId;
+
+    @Column(name = "is_admin", nullable = false)
+    private Boolean isAdmin;
+
+    @Column(name = "is_secret", nullable = false)
+    private Boolean isSecret;
+
+    @Column(name = "resolution", nullable = false)
+    private String resolution;
+
+    // 보관 테이블은 배치 단위로 넣고 지우므로 외래키를 만들지 않는다
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private RoomArchiveEntity room;
+
+    @OneToMany(mappedBy = "joinedRoom")
+    private List<GoalArchiveEntity> goals = new ArrayList<>();
+
+    /**
+     * 기존 이력 조회 로직을 그대로 쓰기 위해 종료된 JoinedRoomEntity 형태로 변환 (저장하지 않는 객체)
+     */
+    public JoinedRoomEntity toJoinedRoomEntity() {
+        JoinedRoomEntity joinedRoom = JoinedRoomEntity.builder()
+                .joinedRoomId(joinedRoomId)
+                .isAdmin(isAdmin)
+                .isParticipating(false)
+                .isDeleted(true)
+                .isSecret(isSecret)
+                .resolution(resolution)
+                .room(room.toRoomEntity())
+                .build();
+        goals.forEach(goal -> joinedRoom.getGoals().add(goal.toGoalEntity(joinedRoom)));
+        return joinedRoom;
+    }
+}
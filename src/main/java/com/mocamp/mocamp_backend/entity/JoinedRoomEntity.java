@@ -2,6 +2,7 @@ package com.mocamp.mocamp_backend.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,6 +13,13 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name = "joined_room")
+// 인덱스는 db/migration 마이그레이션과 같은 이름으로 유지
+@Table(name = "joined_room", indexes = {
+        @Index(name = "idx_joined_room_room_user_state", columnList = "room_id, user_id, is_participating, is_admin"),
+        @Index(name = "idx_joined_room_room_participating", columnList = "room_id, is_participating"),
+        @Index(name = "idx_joined_room_user", columnList = "user_id")
+})
+@DynamicUpdate    // 상태값은 RoomPresenceStore가 따로 반영하므로 변경된 컬럼만 UPDATE
 public class JoinedRoomEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -50,6 +58,11 @@ public class JoinedRoomEntity {
     @Column(name = "cam_status", nullable = false)
     private Boolean camStatus = true;
 
+    // 목표 목록이 바뀔 때마다 1씩 증가, 클라이언트가 누락된 변경을 감지하는 데 사용
+    @Builder.Default
+    @Column(name = "goal_version", nullable = false)
+    private Long goalVersion = 0L;
+
 
     @OneToMany(mappedBy = "joinedRoom", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
@@ -0,0 +1,70 @@
+package com.mocamp.mocamp_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Getter
+@NoArgsConstructor
+@Entity(name = "room_archive")
+@Table(name = "room_archive")
+// 종료된 방의 보관 테이블, RoomArchiveService가 room에서 ID 그대로 옮겨오며 이후에는 조회만 한다
+public class RoomArchiveEntity {
+    @Id
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "room_name", nullable = false)
+    private String roomName;
+
+    @Column(name = "room_seq", nullable = false)
+    private String roomSeq;
+
+    @Column(nullable = false)
+    private Integer capacity;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "ended_at", nullable = false)
+    private LocalDateTime endedAt;
+
+    @Column(name = "duration", nullable = false)
+    private LocalTime duration;
+
+    @Column(nullable = false)
+    private String notice;
+
+    @Column(name = "mic_availability", nullable = false)
+    private Boolean micAvailability;
+
+    // 이미지 행은 보관하지 않고 room에서 쓰던 image_id 를 그대로 가리킨다 (보관 테이블이라 외래키는 만들지 않음)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "image_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private ImageEntity image;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * 기존 이력 조회 로직을 그대로 쓰기 위해 종료된 RoomEntity 형태로 변환 (저장하지 않는 객체)
+     */
+    public RoomEntity toRoomEntity() {
+        return RoomEntity.builder()
+                .roomId(roomId)
+                .roomName(roomName)
+                .roomSeq(roomSeq)
+                .capacity(capacity)
+                .status(false)
+                .startedAt(startedAt)
+                .endedAt(endedAt)
+                .duration(duration)
+                .notice(notice)
+                .isDeleted(true)
+                .micAvailability(micAvailability)
+                .image(image)
+                .build();
+    }
+}
@@ -13,6 +13,11 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name = "room")
+// 인덱스는 db/migration 마이그레이션과 같은 이름으로 유지
+@Table(name = "room", indexes = {
+        @Index(name = "uk_room_room_seq", columnList = "room_seq", unique = true),
+        @Index(name = "idx_room_status", columnList = "status")
+})
 public class RoomEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -60,7 +65,8 @@ public class RoomEntity {
     @OneToMany(mappedBy = "room", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<JoinedRoomEntity> joinedRooms;
 
-    @OneToOne
+    // 같은 이미지를 여러 유저/방이 함께 사용할 수 있다
+    @ManyToOne
     @JoinColumn(name = "image_id", nullable = true)
     private ImageEntity image;
 
@@ -0,0 +1,42 @@
+package com.mocamp.mocamp_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 유저의 날짜별 모캠프 사용 통계 (종료된 방 기준 누적)
+ * 방이 종료될 때 해당 방 참여자들의 행에 사용 시간과 목표 수가 더해진다
+ */
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "user_daily_stat")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_daily_stat_user_date", columnNames = {"user_id", "stat_date"}))
+public class UserDailyStatEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stat_id", nullable = false)
+    private Long statId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private UserEntity user;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long minutes = 0L;
+
+    @Builder.Default
+    @Column(name = "goal_count", nullable = false)
+    private Long goalCount = 0L;
+
+    @Builder.Default
+    @Column(name = "completed_count", nullable = false)
+    private Long completedCount = 0L;
+}
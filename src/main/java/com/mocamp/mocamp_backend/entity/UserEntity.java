@@ -12,6 +12,11 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name = "`user`")
+// 인덱스는 db/migration 마이그레이션과 같은 이름으로 유지
+@Table(name = "`user`", indexes = {
+        @Index(name = "uk_user_user_seq", columnList = "user_seq", unique = true),
+        @Index(name = "idx_user_email", columnList = "email")
+})
 public class UserEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -43,9 +48,14 @@ public class UserEntity {
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<JoinedRoomEntity> joinedRooms;
 
-    @OneToOne
+    // 같은 이미지를 여러 유저/방이 함께 사용할 수 있다
+    @ManyToOne
     @JoinColumn(name = "image_id", nullable = true)
     private ImageEntity image;
 
+    // 마지막으로 요청한 프로필 이미지의 ID, 변환이 늦게 끝난 이전 요청이 최신 이미지를 덮어쓰지 않도록 비교한다
+    @Column(name = "profile_upload_id")
+    private Long profileUploadId;
+
     public void updateUsername(String username) {this.username = username;}
 }
@@ -0,0 +1,21 @@
+package com.mocamp.mocamp_backend.repository;
+
+import com.mocamp.mocamp_backend.entity.GoalArchiveEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+public interface GoalArchiveRepository extends JpaRepository<GoalArchiveEntity, Long> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into goal_archive (goal_id, joined_room_id, content, is_completed) " +
+            "select g.goal_id, g.joined_room_id, g.content, g.is_completed " +
+            "from goal g join joined_room j on j.joined_room_id = g.joined_room_id where j.room_id in :roomIds",
+            nativeQuery = true)
+    int archiveAllByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+}
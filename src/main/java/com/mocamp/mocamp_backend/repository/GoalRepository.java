@@ -3,7 +3,12 @@ package com.mocamp.mocamp_backend.repository;
 import com.mocamp.mocamp_backend.entity.GoalEntity;
 import com.mocamp.mocamp_backend.entity.JoinedRoomEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +20,20 @@ public interface GoalRepository extends JpaRepository<GoalEntity, Long> {
 
     @Override
     <S extends GoalEntity> S save(S entity);
-}
\ No newline at end of file
+
+    // 요청한 목표 중 본인 참여 정보에 속한 목표 ID만 조회
+    @Query("select g.goalId from goal g where g.goalId in :goalIds and g.joinedRoom.joinedRoomId = :joinedRoomId")
+    List<Long> findGoalIdsByGoalIdInAndJoinedRoomId(@Param("goalIds") Collection<Long> goalIds, @Param("joinedRoomId") Long joinedRoomId);
+
+    // 본인 참여 정보에 속한 목표만 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from goal g where g.goalId in :goalIds and g.joinedRoom.joinedRoomId = :joinedRoomId")
+    int deleteAllByGoalIdInAndJoinedRoomId(@Param("goalIds") Collection<Long> goalIds, @Param("joinedRoomId") Long joinedRoomId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from goal g where g.joinedRoom.joinedRoomId in " +
+            "(select j.joinedRoomId from joined_room j where j.room.roomId in :roomIds)")
+    int deleteAllByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+}
@@ -1,16 +1,39 @@
 package com.mocamp.mocamp_backend.repository;
 
 import com.mocamp.mocamp_backend.entity.ImageEntity;
+import com.mocamp.mocamp_backend.service.image.ImageStatus;
+import com.mocamp.mocamp_backend.service.image.ImageType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface ImageRepository extends JpaRepository<ImageEntity, Long> {
     @Override
     Optional<ImageEntity> findById(Long aLong);
 
-    Optional<ImageEntity> findByPath(String path);
+    // 과거에 같은 경로로 여러 행이 저장되었을 수 있어 가장 먼저 저장된 행을 사용
+    Optional<ImageEntity> findFirstByPathOrderByImageIdAsc(String path);
+
+    // 처리 중(PENDING)인 행도 함께 찾아 같은 내용이 동시에 올라와도 행과 변환 작업을 하나만 만든다
+    Optional<ImageEntity> findFirstByContentHashAndTypeAndStatusInOrderByImageIdAsc(String contentHash, ImageType type,
+                                                                                   Collection<ImageStatus> statuses);
 
     @Override
     <S extends ImageEntity> S save(S entity);
+
+    @Transactional
+    @Modifying
+    @Query("update image i set i.path = :path, i.thumbnailPath = :thumbnailPath, i.status = :status where i.imageId = :imageId")
+    int updateProcessed(@Param("imageId") Long imageId, @Param("path") String path,
+                        @Param("thumbnailPath") String thumbnailPath, @Param("status") ImageStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("update image i set i.status = :status where i.imageId = :imageId")
+    int updateStatus(@Param("imageId") Long imageId, @Param("status") ImageStatus status);
 }
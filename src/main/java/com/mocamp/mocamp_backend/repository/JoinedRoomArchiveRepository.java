@@ -0,0 +1,43 @@
+package com.mocamp.mocamp_backend.repository;
+
+import com.mocamp.mocamp_backend.entity.JoinedRoomArchiveEntity;
+import com.mocamp.mocamp_backend.service.user.UserGoalHistory;
+import com.mocamp.mocamp_backend.service.user.UserRoomHistory;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface JoinedRoomArchiveRepository extends JpaRepository<JoinedRoomArchiveEntity, Long> {
+
+    // 마이홈 방 목록용: 보관된 방 정보만 조회 (사용 시간/목표 수는 사용 통계에 이미 반영됨)
+    @Query("select new com.mocamp.mocamp_backend.service.user.UserRoomHistory(" +
+            "r.roomId, r.roomName, r.startedAt, r.endedAt, r.duration, false, 0L) " +
+            "from joined_room_archive j join j.room r " +
+            "where j.userId = :userId")
+    List<UserRoomHistory> findRoomHistoryByUserId(@Param("userId") Long userId);
+
+    // 마이홈 목표 목록용: 보관된 방의 목표를 한 번에 조회
+    @Query("select new com.mocamp.mocamp_backend.service.user.UserGoalHistory(" +
+            "r.roomId, r.endedAt, g.goalId, g.content, g.isCompleted) " +
+            "from joined_room_archive j join j.room r join j.goals g " +
+            "where j.userId = :userId")
+    List<UserGoalHistory> findGoalHistoryByUserId(@Param("userId") Long userId);
+
+    @EntityGraph(attributePaths = {"room", "goals"})
+    Optional<JoinedRoomArchiveEntity> findByUserIdAndRoom_RoomId(Long userId, Long roomId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "insert into joined_room_archive (joined_room_id, room_id, user_id, is_admin, is_secret, resolution) " +
+            "select j.joined_room_id, j.room_id, j.user_id, j.is_admin, j.is_secret, j.resolution " +
+            "from joined_room j where j.room_id in :roomIds",
+            nativeQuery = true)
+    int archiveAllByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+}
@@ -3,8 +3,16 @@ package com.mocamp.mocamp_backend.repository;
 import com.mocamp.mocamp_backend.entity.JoinedRoomEntity;
 import com.mocamp.mocamp_backend.entity.RoomEntity;
 import com.mocamp.mocamp_backend.entity.UserEntity;
+import com.mocamp.mocamp_backend.service.user.UserGoalHistory;
+import com.mocamp.mocamp_backend.service.user.UserRoomHistory;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,13 +29,103 @@ public interface JoinedRoomRepository extends JpaRepository<JoinedRoomEntity, Lo
 
     Optional<JoinedRoomEntity> findByRoomAndUser(RoomEntity room, UserEntity user);
 
+    @EntityGraph(attributePaths = "goals")
+    Optional<JoinedRoomEntity> findWithGoalsByRoomAndUser(RoomEntity room, UserEntity user);
+
+    @EntityGraph(attributePaths = "goals")
+    Optional<JoinedRoomEntity> findWithGoalsByJoinedRoomId(Long joinedRoomId);
+
     List<JoinedRoomEntity> findAllByRoom(RoomEntity room);
 
     Optional<JoinedRoomEntity> findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue(Long roomId, Long userId);
 
+    @EntityGraph(attributePaths = "user")
     List<JoinedRoomEntity> findByRoom_RoomIdAndIsParticipatingTrue(Long roomId);
 
     boolean existsByRoom_RoomIdAndUser_UserIdAndIsAdminTrue(Long roomId, Long userId);
 
+    @EntityGraph(attributePaths = "goals")
     JoinedRoomEntity findByUserAndRoom_RoomId(UserEntity user, Long roomId);
+
+    // 참가자 목록 조회용: 유저(프로필 이미지 포함), 방(대표 이미지 포함), 목표를 한 번의 조인으로 조회
+    @EntityGraph(attributePaths = {"user", "user.image", "room", "room.image", "goals"})
+    @Query("select distinct j from joined_room j where j.room.roomId = :roomId and j.isParticipating = true")
+    List<JoinedRoomEntity> findParticipantsWithGoalsByRoomId(@Param("roomId") Long roomId);
+
+    // 마이홈 방 목록용: 목표 엔티티는 읽지 않고 방 정보와 목표 수만 조회
+    @Query("select new com.mocamp.mocamp_backend.service.user.UserRoomHistory(" +
+            "r.roomId, r.roomName, r.startedAt, r.endedAt, r.duration, r.status, count(g)) " +
+            "from joined_room j join j.room r left join j.goals g " +
+            "where j.user.userId = :userId " +
+            "group by j.joinedRoomId, r.roomId, r.roomName, r.startedAt, r.endedAt, r.duration, r.status")
+    List<UserRoomHistory> findRoomHistoryByUserId(@Param("userId") Long userId);
+
+    // 마이홈 목표 목록용: 유저의 모든 방의 목표를 한 번에 조회 (방/목표 엔티티는 만들지 않음)
+    @Query("select new com.mocamp.mocamp_backend.service.user.UserGoalHistory(" +
+            "r.roomId, r.endedAt, g.goalId, g.content, g.isCompleted) " +
+            "from joined_room j join j.room r join j.goals g " +
+            "where j.user.userId = :userId")
+    List<UserGoalHistory> findGoalHistoryByUserId(@Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("update joined_room j set j.workStatus = :workStatus, j.camStatus = :camStatus, j.micStatus = :micStatus " +
+            "where j.joinedRoomId in :joinedRoomIds")
+    int updateStatuses(@Param("joinedRoomIds") Collection<Long> joinedRoomIds,
+                       @Param("workStatus") Boolean workStatus,
+                       @Param("camStatus") Boolean camStatus,
+                       @Param("micStatus") Boolean micStatus);
+
+    // 퇴장했던 참여 정보를 다시 참여 중으로 바꿈 (이미 참여 중이면 0을 반환, 다른 노드의 동시 재입장과 자리를 두 번 잡지 않도록)
+    @Transactional
+    @Modifying
+    @Query("update joined_room j set j.isParticipating = true, j.isDeleted = false, j.camStatus = :camStatus, j.micStatus = :micStatus " +
+            "where j.joinedRoomId = :joinedRoomId and j.isParticipating = false")
+    int rejoinIfLeft(@Param("joinedRoomId") Long joinedRoomId,
+                     @Param("camStatus") Boolean camStatus,
+                     @Param("micStatus") Boolean micStatus);
+
+    // 퇴장 처리 (방장이었다면 권한도 함께 해제)
+    @Transactional
+    @Modifying
+    @Query("update joined_room j set j.isParticipating = false, j.isAdmin = false where j.joinedRoomId = :joinedRoomId")
+    int leave(@Param("joinedRoomId") Long joinedRoomId);
+
+    // 현재 방장인 경우에만 방장 권한 해제 (노드 간 동시 위임/퇴장 중 하나만 1을 반환)
+    @Transactional
+    @Modifying
+    @Query("update joined_room j set j.isAdmin = false " +
+            "where j.room.roomId = :roomId and j.user.userId = :userId and j.isAdmin = true")
+    int revokeAdminIfCurrent(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    // 아직 참여 중인 유저에게만 방장 권한 부여 (이미 퇴장했다면 0을 반환)
+    @Transactional
+    @Modifying
+    @Query("update joined_room j set j.isAdmin = true where j.joinedRoomId = :joinedRoomId and j.isParticipating = true")
+    int grantAdminIfParticipating(@Param("joinedRoomId") Long joinedRoomId);
+
+    @Transactional
+    @Modifying
+    @Query("update joined_room j set j.resolution = :resolution where j.joinedRoomId = :joinedRoomId")
+    int updateResolution(@Param("joinedRoomId") Long joinedRoomId, @Param("resolution") String resolution);
+
+    // isSecret이 null이면 기존 값 유지
+    @Transactional
+    @Modifying
+    @Query("update joined_room j set j.goalVersion = j.goalVersion + 1, j.isSecret = coalesce(:isSecret, j.isSecret) " +
+            "where j.joinedRoomId = :joinedRoomId")
+    int increaseGoalVersion(@Param("joinedRoomId") Long joinedRoomId, @Param("isSecret") Boolean isSecret);
+
+    @Query("select j.goalVersion from joined_room j where j.joinedRoomId = :joinedRoomId")
+    Long findGoalVersion(@Param("joinedRoomId") Long joinedRoomId);
+
+    @Transactional
+    @Modifying
+    @Query("update joined_room j set j.isDeleted = true, j.isParticipating = false where j.room.roomId in :roomIds")
+    int closeAllByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    @Transactional
+    @Modifying
+    @Query("delete from joined_room j where j.room.roomId in :roomIds")
+    int deleteAllByRoomIds(@Param("roomIds") Collection<Long> roomIds);
 }
@@ -0,0 +1,24 @@
+package com.mocamp.mocamp_backend.repository;
+
+import com.mocamp.mocamp_backend.entity.RoomArchiveEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface RoomArchiveRepository extends JpaRepository<RoomArchiveEntity, Long> {
+
+    // 라이브 테이블의 행을 ID 그대로 보관 테이블에 복사 (INSERT ... SELECT 한 번)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into room_archive (room_id, room_name, room_seq, capacity, started_at, ended_at, duration, " +
+            "notice, mic_availability, image_id, archived_at) " +
+            "select r.room_id, r.room_name, r.room_seq, r.capacity, r.started_at, r.ended_at, r.duration, " +
+            "r.notice, r.mic_availability, r.image_id, :archivedAt from room r where r.room_id in :roomIds",
+            nativeQuery = true)
+    int archiveAllByRoomIds(@Param("roomIds") Collection<Long> roomIds, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -1,9 +1,17 @@
 package com.mocamp.mocamp_backend.repository;
 
 import com.mocamp.mocamp_backend.entity.RoomEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +27,45 @@ public interface RoomRepository extends JpaRepository<RoomEntity, Long> {
 
     @Override
     <S extends RoomEntity> S save(S entity);
+
+    @Transactional
+    @Modifying
+    @Query("update room r set r.notice = :notice where r.roomId = :roomId")
+    int updateNotice(@Param("roomId") Long roomId, @Param("notice") String notice);
+
+    @Transactional
+    @Modifying
+    @Query("update room r set r.roomNum = :roomNum where r.roomId = :roomId and r.status = true")
+    int updateRoomNumIfActive(@Param("roomId") Long roomId, @Param("roomNum") Integer roomNum);
+
+    @Query("select r.roomId from room r where r.image.imageId = :imageId and r.status = true")
+    List<Long> findActiveRoomIdsByImageId(@Param("imageId") Long imageId);
+
+    @Query("select r.roomId from room r where r.roomId in :roomIds and r.status = true")
+    List<Long> findActiveRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 일괄 종료 대상 잠금: 같은 방을 다른 노드의 마지막 퇴장이 동시에 종료하지 못하도록 커밋까지 행을 잠근다
+    @Query(value = "select room_id from room where room_id in (:roomIds) and status = true for update", nativeQuery = true)
+    List<Long> lockActiveRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    @Transactional
+    @Modifying
+    @Query("update room r set r.status = false, r.isDeleted = true, r.roomNum = 0 where r.roomId in :roomIds and r.status = true")
+    int expireAllByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 마지막 참가자 퇴장으로 방을 종료 (이미 종료된 방이면 0을 반환하고 아무것도 바꾸지 않음)
+    @Transactional
+    @Modifying
+    @Query("update room r set r.status = false, r.isDeleted = true, r.roomNum = 0, r.endedAt = :endedAt, r.duration = :duration " +
+            "where r.roomId = :roomId and r.status = true")
+    int endIfActive(@Param("roomId") Long roomId, @Param("endedAt") LocalDateTime endedAt, @Param("duration") LocalTime duration);
+
+    // 보관 대상: 종료된 지 일정 시간이 지난 방, ID 순으로 배치 크기만큼
+    @Query("select r.roomId from room r where r.status = false and r.endedAt < :endedBefore order by r.roomId")
+    List<Long> findArchivableRoomIds(@Param("endedBefore") LocalDateTime endedBefore, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from room r where r.roomId in :roomIds")
+    int deleteAllByRoomIds(@Param("roomIds") Collection<Long> roomIds);
 }
@@ -1,18 +1,37 @@
 package com.mocamp.mocamp_backend.repository;
 
 import com.mocamp.mocamp_backend.authentication.JwtProvider;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Repository
 public class TokenRepository {
 
-    private final long REFRESH_TOKEN_EXPIRE = JwtProvider.REFRESH_TOKEN_EXPIRE;
+    private final long REFRESH_TOKEN_EXPIRE = JwtProvider.REFRESH_TOKEN_EXPIRE;   // ms
     private final String REFRESH_TOKEN_PREFIX = "refreshToken:";
 
+    /**
+     * 저장된 토큰이 ARGV[1]과 같으면 ARGV[2]로 교체하고 1, 다르거나 없으면 키를 지우고 0을 반환하는 스크립트
+     * 비교와 교체를 한 번에 처리해 동시에 들어온 재발급 요청 중 하나만 성공한다
+     * 토큰은 RedisTemplate의 값 직렬화 방식으로 저장되어 있으므로 만료 시간(ms)은 인자가 아닌 스크립트에 넣는다
+     */
+    private final DefaultRedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'PX', %d)
+                return 1
+            end
+            redis.call('DEL', KEYS[1])
+            return 0
+            """.formatted(REFRESH_TOKEN_EXPIRE), Long.class);
+
     private RedisTemplate<String, String> redisTemplate;
     private ValueOperations<String, String> valueOperations;
 
@@ -22,13 +41,12 @@ public class TokenRepository {
     }
 
     /**
-     * Redis에 유저 ID를 key로 refreshToken을 value로 저장하는 메서드
+     * Redis에 유저 ID를 key로 refreshToken을 value로 만료 시간과 함께 저장하는 메서드 (SET PX 한 번)
      * @param userId 유저 ID
      * @param refreshToken 리프레쉬 토큰
      */
     public void save(Long userId, String refreshToken) {
-        valueOperations.set(REFRESH_TOKEN_PREFIX + userId, refreshToken);
-        redisTemplate.expire(REFRESH_TOKEN_PREFIX + userId, REFRESH_TOKEN_EXPIRE, TimeUnit.SECONDS);
+        valueOperations.set(REFRESH_TOKEN_PREFIX + userId, refreshToken, REFRESH_TOKEN_EXPIRE, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -40,6 +58,20 @@ public class TokenRepository {
         return valueOperations.get(REFRESH_TOKEN_PREFIX + userId);
     }
 
+    /**
+     * 저장된 리프레쉬 토큰이 요청의 토큰과 같을 때만 새 토큰으로 교체하는 메서드
+     * 다르거나 없으면 탈취/재사용으로 보고 저장된 토큰을 삭제한다
+     * @param userId 유저 ID
+     * @param currentRefreshToken 요청에 담긴 리프레쉬 토큰
+     * @param newRefreshToken 새로 발급한 리프레쉬 토큰
+     * @return 교체했으면 true
+     */
+    public boolean rotate(Long userId, String currentRefreshToken, String newRefreshToken) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(REFRESH_TOKEN_PREFIX + userId),
+                currentRefreshToken, newRefreshToken);
+        return result != null && result == 1L;
+    }
+
     /**
      * 유저 ID로 리프레쉬 토큰 삭제하는 메서드
      * @param userId 유저 ID
@@ -48,4 +80,22 @@ public class TokenRepository {
         redisTemplate.delete(REFRESH_TOKEN_PREFIX + userId);
     }
 
+    /**
+     * 여러 유저의 리프레쉬 토큰을 한 번의 왕복으로 삭제하는 메서드 (전체 로그아웃용)
+     * 키마다 DEL을 파이프라인으로 보내 클러스터에서도 슬롯과 관계없이 동작한다
+     * @param userIds 유저 ID 목록
+     */
+    public void deleteAllById(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> keySerializer = RedisSerializer.string();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                connection.keyCommands().del(keySerializer.serialize(REFRESH_TOKEN_PREFIX + userId));
+            }
+            return null;
+        });
+    }
+
 }
@@ -0,0 +1,37 @@
+package com.mocamp.mocamp_backend.repository;
+
+import com.mocamp.mocamp_backend.entity.UserDailyStatEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserDailyStatRepository extends JpaRepository<UserDailyStatEntity, Long> {
+
+    List<UserDailyStatEntity> findAllByUser_UserIdOrderByStatDateAsc(Long userId);
+
+    /**
+     * 종료된 방의 참여자별 사용 시간/목표 수를 종료 날짜 행에 누적하는 메서드
+     * 같은 날 끝난 방이 여러 개면 ON DUPLICATE KEY UPDATE로 기존 값에 더한다
+     * MySQL과 H2(MySQL 모드) 양쪽에서 도는 함수만 쓴다 (time_to_sec/div/date 대신 hour/minute/cast)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into user_daily_stat (user_id, stat_date, minutes, goal_count, completed_count) " +
+            "select j.user_id, cast(r.ended_at as date), hour(r.duration) * 60 + minute(r.duration), count(g.goal_id), " +
+            "coalesce(sum(case when g.is_completed = true then 1 else 0 end), 0) " +
+            "from joined_room j " +
+            "join room r on r.room_id = j.room_id " +
+            "left join goal g on g.joined_room_id = j.joined_room_id " +
+            "where j.room_id in (:roomIds) " +
+            "group by j.joined_room_id, j.user_id, r.ended_at, r.duration " +
+            "on duplicate key update minutes = minutes + values(minutes), " +
+            "goal_count = goal_count + values(goal_count), " +
+            "completed_count = completed_count + values(completed_count)",
+            nativeQuery = true)
+    int accumulateEndedRooms(@Param("roomIds") Collection<Long> roomIds);
+}
@@ -1,8 +1,13 @@
 package com.mocamp.mocamp_backend.repository;
 
+import com.mocamp.mocamp_backend.entity.ImageEntity;
 import com.mocamp.mocamp_backend.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 @Repository
@@ -16,6 +21,13 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     @Override
     <S extends UserEntity> S save(S entity);
 
+    // 변환이 끝난 프로필 이미지를 마지막 프로필 변경(profileUploadId)이 이 이미지인 유저 모두에 연결
+    // (같은 내용을 올려 처리 중인 행을 재사용한 유저 포함, 그 사이 더 나중 변경이 있었던 유저는 제외)
+    @Transactional
+    @Modifying
+    @Query("update user u set u.image = :image where u.profileUploadId = :uploadId")
+    int updateImageForLatestUpload(@Param("image") ImageEntity image, @Param("uploadId") Long uploadId);
+
     @Override
     void delete(UserEntity entity);
 }
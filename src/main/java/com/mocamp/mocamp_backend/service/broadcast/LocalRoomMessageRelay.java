@@ -0,0 +1,22 @@
+package com.mocamp.mocamp_backend.service.broadcast;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 JVM의 STOMP 브로커로만 메시지를 보내는 전송 계층 (단일 노드 기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "mocamp.broadcast.mode", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalRoomMessageRelay implements RoomMessageRelay {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void relay(Long roomId, Object payload) {
+        messagingTemplate.convertAndSend(RoomBroadcaster.ROOM_DESTINATION_PREFIX + roomId, payload);
+    }
+}
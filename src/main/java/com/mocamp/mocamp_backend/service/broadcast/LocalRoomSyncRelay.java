@@ -0,0 +1,16 @@
+package com.mocamp.mocamp_backend.service.broadcast;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드 기본값: 맞출 다른 노드가 없으므로 아무것도 보내지 않는다
+ */
+@Component
+@ConditionalOnProperty(name = "mocamp.broadcast.mode", havingValue = "local", matchIfMissing = true)
+public class LocalRoomSyncRelay implements RoomSyncRelay {
+
+    @Override
+    public void publish(RoomSyncMessage message) {
+    }
+}
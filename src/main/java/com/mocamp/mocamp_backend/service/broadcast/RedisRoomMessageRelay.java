@@ -0,0 +1,180 @@
+package com.mocamp.mocamp_backend.service.broadcast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Redis pub/sub으로 방 메시지를 모든 노드에 중계하는 전송 계층 (mocamp.broadcast.mode=redis)
+ * 각 노드는 자신에게 연결된 세션이 구독 중인 방 채널만 Redis에서 구독하고,
+ * 수신한 메시지를 로컬 STOMP 브로커로 전달한다
+ */
+@Component
+@ConditionalOnProperty(name = "mocamp.broadcast.mode", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisRoomMessageRelay implements RoomMessageRelay {
+    private static final String CHANNEL_PREFIX = "mocamp:room:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer roomListenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    // roomId -> 이 노드에서 해당 방을 구독 중인 구독 수
+    private final Map<Long, Integer> localSubscriptionCounts = new ConcurrentHashMap<>();
+    // roomId -> Redis 채널 리스너
+    private final Map<Long, MessageListener> roomListeners = new ConcurrentHashMap<>();
+    // Redis 채널 리스너 등록/해제를 방 단위로 순서 맞추는 잠금 (가상 스레드를 고정하지 않도록 synchronized 대신 Lock)
+    private final Lock[] subscriptionLocks = createLocks(64);
+    // sessionId -> (subscriptionId -> roomId)
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    @Override
+    public void relay(Long roomId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("[방 메시지 직렬화 실패] roomId: {}, type: {}", roomId, payload.getClass().getSimpleName(), e);
+            return;
+        }
+        stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + roomId, json);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = parseRoomId(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long previous = sessionSubscriptions
+                .computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), roomId);
+        if (previous != null) {
+            release(previous);
+        }
+        acquire(roomId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long roomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (roomId != null) {
+            release(roomId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.values().forEach(this::release);
+    }
+
+    /**
+     * 방 구독 수를 늘리고, 이 노드의 첫 구독이면 Redis 채널 구독을 시작하는 메서드
+     */
+    private void acquire(Long roomId) {
+        if (localSubscriptionCounts.merge(roomId, 1, Integer::sum) == 1) {
+            syncChannelSubscription(roomId);
+        }
+    }
+
+    /**
+     * 방 구독 수를 줄이고, 이 노드의 마지막 구독이면 Redis 채널 구독을 해제하는 메서드
+     */
+    private void release(Long roomId) {
+        boolean last = localSubscriptionCounts.computeIfPresent(roomId, (id, count) -> count > 1 ? count - 1 : null) == null;
+        if (last) {
+            syncChannelSubscription(roomId);
+        }
+    }
+
+    /**
+     * 현재 구독 수에 맞게 Redis 채널 리스너를 붙이거나 떼는 메서드
+     * 리스너 등록/해제는 Redis 왕복이 있는 호출이라 ConcurrentHashMap.compute 안(버킷 잠금)에서 하지 않고,
+     * 방 ID로 나눈 잠금 안에서 최신 구독 수를 다시 읽어 맞춘다 (구독/해제가 엇갈려도 마지막 호출이 최종 상태를 만든다)
+     */
+    private void syncChannelSubscription(Long roomId) {
+        Lock lock = subscriptionLocks[Math.floorMod(roomId.hashCode(), subscriptionLocks.length)];
+        lock.lock();
+        try {
+            boolean subscribed = roomListeners.containsKey(roomId);
+            boolean needed = localSubscriptionCounts.containsKey(roomId);
+            if (needed && !subscribed) {
+                MessageListener listener = (message, pattern) -> deliver(roomId, message.getBody());
+                roomListenerContainer.addMessageListener(listener, new ChannelTopic(CHANNEL_PREFIX + roomId));
+                roomListeners.put(roomId, listener);
+                log.info("[방 채널 구독 시작] roomId: {}", roomId);
+            } else if (!needed && subscribed) {
+                MessageListener listener = roomListeners.remove(roomId);
+                roomListenerContainer.removeMessageListener(listener, new ChannelTopic(CHANNEL_PREFIX + roomId));
+                log.info("[방 채널 구독 해제] roomId: {}", roomId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Redis에서 받은 JSON을 다시 직렬화하지 않고 로컬 구독자에게 그대로 전달하는 메서드
+     */
+    private void deliver(Long roomId, byte[] body) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(RoomBroadcaster.ROOM_DESTINATION_PREFIX + roomId,
+                MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+    }
+
+    private static Lock[] createLocks(int size) {
+        Lock[] locks = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(RoomBroadcaster.ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(destination.substring(RoomBroadcaster.ROOM_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.mocamp.mocamp_backend.service.broadcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 채널 하나로 방 상태 변경을 모든 노드에 알리는 전송 계층 (mocamp.broadcast.mode=redis)
+ * 받은 메시지 중 다른 노드가 보낸 것만 Spring 이벤트(RoomSyncMessage)로 발행한다
+ * pub/sub은 전달을 보장하지 않으므로, 받는 쪽은 놓친 메시지를 DB 재조회나 캐시 만료로 복구할 수 있어야 한다
+ */
+@Component
+@ConditionalOnProperty(name = "mocamp.broadcast.mode", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisRoomSyncRelay implements RoomSyncRelay {
+    private static final String CHANNEL = "mocamp:room-sync";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer roomListenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    // 자신이 보낸 메시지를 구분하기 위한 노드 ID
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    public void subscribe() {
+        roomListenerContainer.addMessageListener((message, pattern) -> receive(message.getBody()), new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void publish(RoomSyncMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(new Envelope(nodeId, message)));
+        } catch (Exception e) {
+            log.error("[방 상태 동기화 전송 실패] type: {}, roomId: {}", message.type(), message.roomId(), e);
+        }
+    }
+
+    private void receive(byte[] body) {
+        Envelope envelope;
+        try {
+            envelope = objectMapper.readValue(body, Envelope.class);
+        } catch (Exception e) {
+            log.error("[방 상태 동기화 메시지 해석 실패] {}", e.getMessage(), e);
+            return;
+        }
+        if (nodeId.equals(envelope.nodeId())) {
+            return;
+        }
+        eventPublisher.publishEvent(envelope.message());
+    }
+
+    private record Envelope(String nodeId, RoomSyncMessage message) {
+    }
+}
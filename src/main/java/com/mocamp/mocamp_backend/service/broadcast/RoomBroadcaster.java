@@ -0,0 +1,190 @@
+package com.mocamp.mocamp_backend.service.broadcast;
+
+import com.mocamp.mocamp_backend.dto.notice.NoticeUpdateResponse;
+import com.mocamp.mocamp_backend.dto.resolution.ResolutionUpdateResponse;
+import com.mocamp.mocamp_backend.dto.status.StatusDTO;
+import com.mocamp.mocamp_backend.dto.websocket.WebsocketMessageType;
+import com.mocamp.mocamp_backend.service.room.RoomPresenceStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서비스 계층에서 방 채널로 메시지를 보낼 때 사용하는 진입점
+ * 전송 방식(단일 노드/Redis 중계)은 RoomMessageRelay 구현체에 위임한다
+ *
+ * mocamp.broadcast.coalesce.enabled=true 이면 방마다 window-ms 동안 메시지를 모아 배열 한 프레임으로 보낸다
+ * 같은 유저의 같은 상태 메시지(작업/캠/마이크, 해상도)와 공지는 마지막 값만 남긴다
+ */
+@Component
+@Slf4j
+public class RoomBroadcaster {
+    public static final String ROOM_DESTINATION_PREFIX = "/sub/data/";
+
+    private final RoomMessageRelay roomMessageRelay;
+    private final RoomPresenceStore roomPresenceStore;
+    private final boolean coalesceEnabled;
+    private final long coalesceWindowMs;
+
+    // roomId -> 전송 대기 중인 메시지
+    private final Map<Long, PendingFrame> pendingFrames = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingMessageCount = new AtomicInteger();
+    private final ScheduledThreadPoolExecutor flushExecutor;
+
+    private final DistributionSummary frameSizeSummary;
+    private final DistributionSummary fanoutSummary;
+    private final Counter coalescedCounter;
+
+    public RoomBroadcaster(RoomMessageRelay roomMessageRelay,
+                           RoomPresenceStore roomPresenceStore,
+                           MeterRegistry meterRegistry,
+                           @Value("${mocamp.broadcast.coalesce.enabled:false}") boolean coalesceEnabled,
+                           @Value("${mocamp.broadcast.coalesce.window-ms:30}") long coalesceWindowMs) {
+        this.roomMessageRelay = roomMessageRelay;
+        this.roomPresenceStore = roomPresenceStore;
+        this.coalesceEnabled = coalesceEnabled;
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.flushExecutor = coalesceEnabled ? createFlushExecutor() : null;
+
+        Gauge.builder("mocamp.broadcast.pending.rooms", pendingFrames, Map::size)
+                .description("전송 대기 중인 메시지가 있는 방 수")
+                .register(meterRegistry);
+        Gauge.builder("mocamp.broadcast.pending.messages", pendingMessageCount, AtomicInteger::get)
+                .description("전송 대기 중인 전체 메시지 수")
+                .register(meterRegistry);
+        this.frameSizeSummary = DistributionSummary.builder("mocamp.broadcast.frame.size")
+                .description("방 하나에서 한 번에 보낸 메시지 수 (방별 대기열 깊이)")
+                .register(meterRegistry);
+        this.fanoutSummary = DistributionSummary.builder("mocamp.broadcast.fanout")
+                .description("프레임 하나를 받는 방 참여자 수 (이 노드에 적재된 참여자 기준)")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("mocamp.broadcast.coalesced")
+                .description("뒤에 온 같은 종류의 메시지로 대체되어 보내지 않은 메시지 수")
+                .register(meterRegistry);
+    }
+
+    private static ScheduledThreadPoolExecutor createFlushExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "room-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * 방 채널로 메시지를 전송하는 메서드
+     * @param roomId 방 ID
+     * @param payload 전송할 메시지
+     */
+    public void broadcast(Long roomId, Object payload) {
+        if (!coalesceEnabled) {
+            fanoutSummary.record(roomPresenceStore.participantCount(roomId));
+            roomMessageRelay.relay(roomId, payload);
+            return;
+        }
+
+        // compute와 flush의 remove가 같은 키에서 직렬화되므로, 꺼내간 프레임에 메시지가 추가되는 일은 없다
+        pendingFrames.compute(roomId, (id, frame) -> {
+            if (frame == null) {
+                frame = new PendingFrame();
+                flushExecutor.schedule(() -> flush(id), coalesceWindowMs, TimeUnit.MILLISECONDS);
+            }
+            if (frame.add(payload)) {
+                coalescedCounter.increment();
+            } else {
+                pendingMessageCount.incrementAndGet();
+            }
+            return frame;
+        });
+    }
+
+    private void flush(Long roomId) {
+        PendingFrame frame = pendingFrames.remove(roomId);
+        if (frame == null) {
+            return;
+        }
+
+        List<Object> messages = frame.messages();
+        pendingMessageCount.addAndGet(-messages.size());
+        frameSizeSummary.record(messages.size());
+        fanoutSummary.record(roomPresenceStore.participantCount(roomId));
+        try {
+            roomMessageRelay.relay(roomId, messages);
+        } catch (Exception e) {
+            log.error("[방 메시지 일괄 전송 실패] roomId: {}, 메시지 수: {}, {}", roomId, messages.size(), e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flushExecutor == null) {
+            return;
+        }
+        flushExecutor.shutdownNow();
+        // 종료 전에 남아 있는 메시지는 바로 보낸다
+        new ArrayList<>(pendingFrames.keySet()).forEach(this::flush);
+    }
+
+    /**
+     * 마지막 값만 의미 있는 메시지의 병합 키 (방 안에서 type + userId 기준)
+     * 병합 대상이 아니면 null
+     */
+    private static CoalesceKey coalesceKey(Object payload) {
+        if (payload instanceof StatusDTO status) {
+            return new CoalesceKey(status.getType(), status.getUserId());
+        }
+        if (payload instanceof ResolutionUpdateResponse resolution) {
+            return new CoalesceKey(resolution.getType(), resolution.getUserId());
+        }
+        if (payload instanceof NoticeUpdateResponse notice) {
+            return new CoalesceKey(notice.getType(), null);
+        }
+        return null;
+    }
+
+    private record CoalesceKey(WebsocketMessageType type, Long userId) {
+    }
+
+    /**
+     * 한 방에서 전송을 기다리는 메시지 묶음 (도착 순서 유지)
+     * pendingFrames.compute 안에서만 수정된다
+     */
+    private static class PendingFrame {
+        private final Map<Object, Object> messages = new LinkedHashMap<>();
+
+        /**
+         * @return 앞서 쌓인 같은 키의 메시지를 대체했으면 true
+         */
+        boolean add(Object payload) {
+            CoalesceKey key = coalesceKey(payload);
+            if (key == null) {
+                messages.put(new Object(), payload);
+                return false;
+            }
+            // 대체된 메시지는 새 위치(맨 뒤)로 옮겨, 그 사이에 온 입장/퇴장 등의 메시지보다 늦게 도착하도록 한다
+            boolean replaced = messages.remove(key) != null;
+            messages.put(key, payload);
+            return replaced;
+        }
+
+        List<Object> messages() {
+            return new ArrayList<>(messages.values());
+        }
+    }
+}
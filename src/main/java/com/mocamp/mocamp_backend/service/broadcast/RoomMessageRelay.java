@@ -0,0 +1,15 @@
+package com.mocamp.mocamp_backend.service.broadcast;
+
+/**
+ * 방 채널(/sub/data/{roomId})로 보낼 메시지를 실제 구독자에게 전달하는 전송 계층
+ * mocamp.broadcast.mode 값에 따라 구현체가 선택된다 (local: 단일 노드, redis: 다중 노드)
+ */
+public interface RoomMessageRelay {
+
+    /**
+     * 방을 구독 중인 모든 클라이언트에게 메시지를 전달하는 메서드
+     * @param roomId 방 ID
+     * @param payload JSON으로 직렬화될 메시지
+     */
+    void relay(Long roomId, Object payload);
+}
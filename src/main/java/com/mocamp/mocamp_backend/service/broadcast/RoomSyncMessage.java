@@ -0,0 +1,38 @@
+package com.mocamp.mocamp_backend.service.broadcast;
+
+/**
+ * 노드마다 메모리에 들고 있는 방 상태(참여자 상태 등)를 다른 노드와 맞추기 위한 메시지
+ * RoomSyncRelay로 보내면 다른 노드에서는 같은 객체가 Spring 이벤트로 발행된다 (보낸 노드에는 발행되지 않음)
+ */
+public record RoomSyncMessage(Type type, Long roomId, Long userId,
+                              Long joinedRoomId, Boolean workStatus, Boolean camStatus, Boolean micStatus) {
+
+    public enum Type {
+        PARTICIPANT_UPDATED,    // 입장 또는 상태 변경 (최신 상태 포함)
+        PARTICIPANT_LEFT,       // 퇴장
+        ROOM_CREATED,           // 방 생성 (모든 노드가 종료 알림/종료 시각을 예약)
+        ROOM_CLOSED,            // 방 종료
+        ACCESS_CHANGED          // 방 활성 여부, 참여자 목록, 방장 변경 (권한 캐시 무효화)
+    }
+
+    public static RoomSyncMessage participantUpdated(Long roomId, Long userId, Long joinedRoomId,
+                                                     Boolean workStatus, Boolean camStatus, Boolean micStatus) {
+        return new RoomSyncMessage(Type.PARTICIPANT_UPDATED, roomId, userId, joinedRoomId, workStatus, camStatus, micStatus);
+    }
+
+    public static RoomSyncMessage participantLeft(Long roomId, Long userId) {
+        return new RoomSyncMessage(Type.PARTICIPANT_LEFT, roomId, userId, null, null, null, null);
+    }
+
+    public static RoomSyncMessage roomCreated(Long roomId) {
+        return new RoomSyncMessage(Type.ROOM_CREATED, roomId, null, null, null, null, null);
+    }
+
+    public static RoomSyncMessage roomClosed(Long roomId) {
+        return new RoomSyncMessage(Type.ROOM_CLOSED, roomId, null, null, null, null, null);
+    }
+
+    public static RoomSyncMessage accessChanged(Long roomId) {
+        return new RoomSyncMessage(Type.ACCESS_CHANGED, roomId, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,14 @@
+package com.mocamp.mocamp_backend.service.broadcast;
+
+/**
+ * 노드 메모리에 있는 방 상태 변경을 다른 노드에 알리는 전송 계층
+ * mocamp.broadcast.mode 값에 따라 구현체가 선택된다 (local: 단일 노드라 보내지 않음, redis: 다중 노드)
+ */
+public interface RoomSyncRelay {
+
+    /**
+     * 다른 노드에 상태 변경을 알리는 메서드 (보낸 노드의 상태는 호출한 쪽이 직접 반영한다)
+     * @param message 상태 변경 메시지
+     */
+    void publish(RoomSyncMessage message);
+}
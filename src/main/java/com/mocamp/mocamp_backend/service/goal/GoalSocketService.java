@@ -1,28 +1,28 @@
 package com.mocamp.mocamp_backend.service.goal;
 
+import com.mocamp.mocamp_backend.authentication.AuthenticatedUser;
 import com.mocamp.mocamp_backend.dto.commonResponse.ErrorResponse;
 import com.mocamp.mocamp_backend.dto.goal.GoalCompleteUpdateRequest;
 import com.mocamp.mocamp_backend.dto.goal.GoalListRequest;
-import com.mocamp.mocamp_backend.dto.goal.GoalListResponse;
+import com.mocamp.mocamp_backend.dto.goal.GoalListDeltaResponse;
 import com.mocamp.mocamp_backend.dto.goal.GoalResponse;
 import com.mocamp.mocamp_backend.dto.websocket.WebsocketErrorMessage;
 import com.mocamp.mocamp_backend.dto.websocket.WebsocketMessageType;
 import com.mocamp.mocamp_backend.entity.GoalEntity;
 import com.mocamp.mocamp_backend.entity.JoinedRoomEntity;
-import com.mocamp.mocamp_backend.entity.RoomEntity;
-import com.mocamp.mocamp_backend.entity.UserEntity;
 import com.mocamp.mocamp_backend.repository.GoalRepository;
 import com.mocamp.mocamp_backend.repository.JoinedRoomRepository;
-import com.mocamp.mocamp_backend.repository.RoomRepository;
-import com.mocamp.mocamp_backend.repository.UserRepository;
+import com.mocamp.mocamp_backend.service.broadcast.RoomBroadcaster;
+import com.mocamp.mocamp_backend.service.room.RoomAccess;
+import com.mocamp.mocamp_backend.service.room.RoomAccessGuard;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.security.Principal;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -37,49 +37,48 @@ public class GoalSocketService {
     private static final String ANOTHER_USER_GOAL_TOGGLE_MESSAGE = "다른 유저의 목표를 토글했습니다";
 
 
-    private final SimpMessagingTemplate messagingTemplate;
-    private final RoomRepository roomRepository;
+    private final RoomBroadcaster roomBroadcaster;
     private final JoinedRoomRepository joinedRoomRepository;
     private final GoalRepository goalRepository;
-    private final UserRepository userRepository;
+    private final RoomAccessGuard roomAccessGuard;
 
     /**
      * 목표 생성 및 삭제하는 메서드
+     * 변경분(추가된 목표, 삭제된 목표 ID)과 증가된 목표 버전만 방에 전송한다
      * @param roomId room ID
-     * @return 목표 Response
      */
     @Transactional
     public void manageGoal(GoalListRequest goalListRequest, Long roomId, Principal principal) {
-        String userSeq = principal.getName();
-        UserEntity user = userRepository.findUserByUserSeq(userSeq).orElse(null);
+        AuthenticatedUser user = AuthenticatedUser.of(principal);
         if (user == null) {
-            log.warn("[유저 조회 실패] userId: {}", user.getUserId());
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), USER_NOT_FOUND_MESSAGE)));
+            log.warn("[유저 조회 실패] 인증 정보 없음 - principal: {}", principal == null ? null : principal.getName());
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(null, USER_NOT_FOUND_MESSAGE)));
             return;
         }
         log.info("[목표 관리 요청] userId: {}, roomId: {}", user.getUserId(), roomId);
 
-        RoomEntity roomEntity = roomRepository.findById(roomId).orElse(null);
-        if (roomEntity == null) {
+        RoomAccess roomAccess = roomAccessGuard.get(roomId);
+        if (roomAccess == null) {
             log.warn("[목표 관리 실패] 존재하지 않는 방 - roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_FOUND_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_FOUND_MESSAGE)));
             return;
         }
 
-        if (!roomEntity.getStatus()) {
+        if (!roomAccess.isActive()) {
             log.warn("[목표 관리 실패] 비활성화된 방 - roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ACTIVE_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ACTIVE_MESSAGE)));
             return;
         }
 
-        JoinedRoomEntity joinedRoomEntity = joinedRoomRepository.findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue(roomId, user.getUserId()).orElse(null);
-        if (joinedRoomEntity == null) {
+        Long joinedRoomId = roomAccess.getJoinedRoomId(user.getUserId());
+        if (joinedRoomId == null) {
             log.warn("[목표 관리 실패] 방에 소속되지 않은 사용자 - userId: {}, roomId: {}", user.getUserId(), roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_IN_ROOM_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_IN_ROOM_MESSAGE)));
             return;
         }
 
-        // 목표 생성
+        // 목표 생성 (참여 정보는 참조만 사용하여 추가 조회 없이 연결)
+        JoinedRoomEntity joinedRoomEntity = joinedRoomRepository.getReferenceById(joinedRoomId);
         List<GoalEntity> goalEntities = goalListRequest.getCreateGoals().stream()
                 .map(goal -> GoalEntity.builder()
                         .content(goal.getContent())
@@ -90,25 +89,37 @@ public class GoalSocketService {
         goalRepository.saveAll(goalEntities);
         log.info("[목표 생성 완료] 생성된 목표 수: {}", goalEntities.size());
 
-        // 목표 삭제
-        for (Long deleteGoal : goalListRequest.getDeleteGoals()) {
-            goalRepository.deleteById(deleteGoal);
-            log.info("[목표 삭제] 삭제된 goalId: {}", deleteGoal);
+        // 목표 삭제 (요청 중 본인 목표만 골라 한 번에 삭제하고, 실제로 지운 ID만 전송)
+        List<Long> requestedGoalIds = goalListRequest.getDeleteGoals().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        List<Long> deleteGoalIds = requestedGoalIds.isEmpty()
+                ? List.of()
+                : goalRepository.findGoalIdsByGoalIdInAndJoinedRoomId(requestedGoalIds, joinedRoomId);
+        if (!deleteGoalIds.isEmpty()) {
+            int deletedCount = goalRepository.deleteAllByGoalIdInAndJoinedRoomId(deleteGoalIds, joinedRoomId);
+            log.info("[목표 삭제] 요청 수: {}, 본인 목표 수: {}, 삭제 수: {}", requestedGoalIds.size(), deleteGoalIds.size(), deletedCount);
         }
 
-        // 목표 시크릿 변경 및 저장
-        joinedRoomEntity.updateIsSecret(goalListRequest.getIsSecret());
-        JoinedRoomEntity updatedJoinedRoomEntity = joinedRoomRepository.save(joinedRoomEntity);
+        // 목표 시크릿 변경 및 목표 버전 증가
+        joinedRoomRepository.increaseGoalVersion(joinedRoomId, goalListRequest.getIsSecret());
+        Long goalVersion = joinedRoomRepository.findGoalVersion(joinedRoomId);
 
-        // 전체 목표 조회 후 응답
-        List<GoalEntity> updateGoalList = goalRepository.findAllByJoinedRoom(joinedRoomEntity);
-        List<GoalResponse> goalResponseList = updateGoalList.stream()
+        // 전체 목록 대신 추가/삭제된 목표만 전송
+        List<GoalResponse> addedGoals = goalEntities.stream()
                 .map(goal -> new GoalResponse(goal.getGoalId(), goal.getContent(), goal.getIsCompleted()))
                 .toList();
 
-
-        messagingTemplate.convertAndSend("/sub/data/" + roomId, new GoalListResponse(WebsocketMessageType.GOAL_LIST_UPDATED, user.getUserId(), goalResponseList, updatedJoinedRoomEntity.getIsSecret(), user.getUserId().equals(joinedRoomEntity.getUser().getUserId())));
-        log.info("[목표 리스트 응답 전송 완료] userId: {}, roomId: {}, 총 목표 수: {}", user.getUserId(), roomId, goalResponseList.size());
+        roomBroadcaster.broadcast(roomId, GoalListDeltaResponse.builder()
+                .type(WebsocketMessageType.GOAL_LIST_DELTA)
+                .userId(user.getUserId())
+                .addedGoals(addedGoals)
+                .removedGoalIds(deleteGoalIds)
+                .isSecret(goalListRequest.getIsSecret())
+                .goalVersion(goalVersion)
+                .build());
+        log.info("[목표 변경분 전송 완료] userId: {}, roomId: {}, 추가: {}, 삭제: {}, version: {}", user.getUserId(), roomId, addedGoals.size(), deleteGoalIds.size(), goalVersion);
     }
 
     /**
@@ -119,53 +130,54 @@ public class GoalSocketService {
      */
     @Transactional
     public void pressGoal(GoalCompleteUpdateRequest goalCompleteUpdateRequest, Long roomId, Principal principal) {
-        String userSeq = principal.getName();
-        UserEntity user = userRepository.findUserByUserSeq(userSeq).orElse(null);
-
+        AuthenticatedUser user = AuthenticatedUser.of(principal);
         if (user == null) {
-            log.warn("[유저 조회 실패] userId: {}", user.getUserId());
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), USER_NOT_FOUND_MESSAGE)));
+            log.warn("[유저 조회 실패] 인증 정보 없음 - principal: {}", principal == null ? null : principal.getName());
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(null, USER_NOT_FOUND_MESSAGE)));
             return;
         }
         log.info("[목표 완료 토글 요청] userId: {}, roomId: {}, goalId: {}, 완료 여부: {}",
                 user.getUserId(), roomId, goalCompleteUpdateRequest.getGoalId(), goalCompleteUpdateRequest.getIsCompleted());
 
-        RoomEntity roomEntity = roomRepository.findById(roomId).orElse(null);
-        if (roomEntity == null) {
+        RoomAccess roomAccess = roomAccessGuard.get(roomId);
+        if (roomAccess == null) {
             log.warn("[목표 토글 실패] 존재하지 않는 방 - roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_FOUND_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_FOUND_MESSAGE)));
             return;
         }
 
-        if (!roomEntity.getStatus()) {
+        if (!roomAccess.isActive()) {
             log.warn("[목표 토글 실패] 비활성화된 방 - roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ACTIVE_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ACTIVE_MESSAGE)));
             return;
         }
 
-        JoinedRoomEntity joinedRoomEntity = joinedRoomRepository.findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue(roomId, user.getUserId()).orElse(null);
-        if (joinedRoomEntity == null) {
+        Long joinedRoomId = roomAccess.getJoinedRoomId(user.getUserId());
+        if (joinedRoomId == null) {
             log.warn("[목표 토글 실패] 방에 소속되지 않은 사용자 - userId: {}, roomId: {}", user.getUserId(), roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_IN_ROOM_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_IN_ROOM_MESSAGE)));
             return;
         }
 
         GoalEntity goalEntity = goalRepository.findById(goalCompleteUpdateRequest.getGoalId()).orElse(null);
         if (goalEntity == null) {
             log.warn("[목표 토글 실패] 존재하지 않는 목표 - goalId: {}", goalCompleteUpdateRequest.getGoalId());
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), GOAL_NOT_FOUND_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), GOAL_NOT_FOUND_MESSAGE)));
             return;
         }
 
-        if(!goalEntity.getJoinedRoom().getUser().getUserId().equals(user.getUserId())) {
+        if(!goalEntity.getJoinedRoom().getJoinedRoomId().equals(joinedRoomId)) {
             log.warn("[다른 사용자 목표 토글] - goalId: {}", goalCompleteUpdateRequest.getGoalId());
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ANOTHER_USER_GOAL_TOGGLE_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ANOTHER_USER_GOAL_TOGGLE_MESSAGE)));
+            return;
         }
 
         goalEntity.updateIsCompleted(goalCompleteUpdateRequest.getIsCompleted());
         GoalEntity updatedGoalEntity = goalRepository.save(goalEntity);
-        log.info("[목표 완료 상태 변경 성공] goalId: {}, isCompleted: {}", updatedGoalEntity.getGoalId(), updatedGoalEntity.getIsCompleted());
+        joinedRoomRepository.increaseGoalVersion(joinedRoomId, null);
+        Long goalVersion = joinedRoomRepository.findGoalVersion(joinedRoomId);
+        log.info("[목표 완료 상태 변경 성공] goalId: {}, isCompleted: {}, version: {}", updatedGoalEntity.getGoalId(), updatedGoalEntity.getIsCompleted(), goalVersion);
 
-        messagingTemplate.convertAndSend("/sub/data/" + roomId, new GoalResponse(WebsocketMessageType.GOAL_COMPLETE_UPDATED, user.getUserId(), updatedGoalEntity.getGoalId(), updatedGoalEntity.getContent(), updatedGoalEntity.getIsCompleted()));
+        roomBroadcaster.broadcast(roomId, new GoalResponse(WebsocketMessageType.GOAL_COMPLETE_UPDATED, user.getUserId(), updatedGoalEntity.getGoalId(), updatedGoalEntity.getContent(), updatedGoalEntity.getIsCompleted(), goalVersion));
     }
 }
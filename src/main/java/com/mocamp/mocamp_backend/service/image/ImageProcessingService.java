@@ -0,0 +1,330 @@
+package com.mocamp.mocamp_backend.service.image;
+
+import com.mocamp.mocamp_backend.dto.image.ImageUpdateResponse;
+import com.mocamp.mocamp_backend.dto.websocket.WebsocketMessageType;
+import com.mocamp.mocamp_backend.repository.ImageRepository;
+import com.mocamp.mocamp_backend.repository.RoomRepository;
+import com.mocamp.mocamp_backend.repository.UserRepository;
+import com.mocamp.mocamp_backend.service.broadcast.RoomBroadcaster;
+import com.mocamp.mocamp_backend.service.s3.S3Uploader;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방 대표 이미지와 프로필 이미지를 요청 처리와 분리해 변환/업로드하는 서비스
+ * 요청에서는 원본을 임시 파일로 받아 두고 PENDING 상태의 ImageEntity만 저장하며,
+ * 커밋 후 작업 스레드에서 원본/썸네일 크기로 다시 인코딩해 S3에 올린 뒤 경로를 반영한다
+ * 디코딩 전에 헤더의 가로/세로로 픽셀 수를 확인하고, 큰 이미지는 건너뛰며 읽어(subsampling) 메모리에 올리는 크기를 제한한다
+ * 대기열이 가득 차면 작업을 요청 스레드에서 대신 처리하지 않고 거절하며, 실패한 이미지는 FAILED로 남기고 방 채널에 알린다
+ */
+@Service
+@Slf4j
+public class ImageProcessingService {
+
+    private final ImageRepository imageRepository;
+    private final UserRepository userRepository;
+    private final RoomRepository roomRepository;
+    private final S3Uploader s3Uploader;
+    private final RoomBroadcaster roomBroadcaster;
+    private final ThreadPoolExecutor workerExecutor;
+    private final int fullMaxWidth;
+    private final int thumbnailWidth;
+    private final long maxPixels;
+
+    public ImageProcessingService(ImageRepository imageRepository,
+                                  UserRepository userRepository,
+                                  RoomRepository roomRepository,
+                                  S3Uploader s3Uploader,
+                                  RoomBroadcaster roomBroadcaster,
+                                  @Value("${mocamp.image.workers:2}") int workers,
+                                  @Value("${mocamp.image.queue-capacity:100}") int queueCapacity,
+                                  @Value("${mocamp.image.full-max-width:1920}") int fullMaxWidth,
+                                  @Value("${mocamp.image.thumbnail-width:320}") int thumbnailWidth,
+                                  @Value("${mocamp.image.max-pixels:40000000}") long maxPixels) {
+        this.imageRepository = imageRepository;
+        this.userRepository = userRepository;
+        this.roomRepository = roomRepository;
+        this.s3Uploader = s3Uploader;
+        this.roomBroadcaster = roomBroadcaster;
+        this.fullMaxWidth = fullMaxWidth;
+        this.thumbnailWidth = thumbnailWidth;
+        this.maxPixels = maxPixels;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 대기열이 가득 차면 거절 (요청/방 작업 스레드에서 변환과 업로드를 대신 처리하지 않음)
+        this.workerExecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 변환 대기열에 자리가 있는지 확인하는 메서드
+     * 업로드를 받기 전에 확인해 가득 찼으면 재시도 가능한 오류로 바로 응답하게 한다
+     * (확인 후 커밋 전까지 다른 요청이 자리를 채우면 해당 이미지는 FAILED로 처리된다)
+     */
+    public boolean hasCapacity() {
+        return workerExecutor.getQueue().remainingCapacity() > 0;
+    }
+
+    /**
+     * 업로드된 이미지를 변환 전까지 보관할 임시 파일로 옮기는 메서드
+     * 요청이 끝나면 MultipartFile이 지워지므로 작업 스레드에서 읽을 수 있도록 따로 보관한다
+     * 업로드가 이미 디스크에 있으면 transferTo가 복사 대신 이동하므로, 파일을 한 번만 읽어 중복 판별용 SHA-256을 계산한다
+     * @param imageFile 업로드된 이미지
+     * @return 임시 파일 경로와 내용 해시
+     */
+    public StagedImage stage(MultipartFile imageFile) throws IOException {
+        Path sourceFile = Files.createTempFile("mocamp-image-", ".upload");
+        try {
+            Files.delete(sourceFile);
+            imageFile.transferTo(sourceFile.toFile());
+            return new StagedImage(sourceFile, sha256(sourceFile));
+        } catch (IOException e) {
+            deleteQuietly(sourceFile);
+            throw e;
+        }
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest = newSha256();
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 대기열이 가득 차 거절되면 요청 스레드에서 FAILED로 바꾸므로, 커밋이 끝난 트랜잭션이 아닌 새 트랜잭션에서 실행
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageUploadRequested(ImageUploadRequestedEvent event) {
+        try {
+            workerExecutor.execute(() -> process(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("[이미지 처리 거절] 대기열 초과, 이미지 ID: {}", event.getImageId());
+            fail(event, e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onImageUploadRolledBack(ImageUploadRequestedEvent event) {
+        deleteQuietly(event.getSourceFile());
+    }
+
+    private void process(ImageUploadRequestedEvent event) {
+        Long imageId = event.getImageId();
+        try {
+            // 내용 해시를 키로 써서 동시에 올라온 같은 이미지도 같은 S3 객체를 덮어쓰게 한다
+            String baseName = event.getDirName() + "/"
+                    + (event.getContentHash() != null ? event.getContentHash() : UUID.randomUUID().toString());
+            String imagePath;
+            String thumbnailPath = null;
+
+            BufferedImage source = decode(event.getSourceFile());
+            if (source == null) {
+                // ImageIO가 읽지 못하는 형식은 변환 없이 원본 그대로 스트림으로 업로드
+                imagePath = s3Uploader.upload(event.getSourceFile(), event.getContentType(), baseName);
+            } else {
+                boolean hasAlpha = source.getColorModel().hasAlpha();
+                String format = hasAlpha ? "png" : "jpg";
+                String contentType = hasAlpha ? "image/png" : "image/jpeg";
+
+                BufferedImage full = resize(source, fullMaxWidth);
+                source = null;  // 디코딩한 원본은 더 쓰지 않으므로 썸네일은 줄인 이미지에서 만든다
+                imagePath = s3Uploader.upload(encode(full, format), contentType, baseName + "_full." + format);
+                thumbnailPath = s3Uploader.upload(encode(resize(full, thumbnailWidth), format), contentType,
+                        baseName + "_thumb." + format);
+            }
+
+            imageRepository.updateProcessed(imageId, imagePath, thumbnailPath, ImageStatus.READY);
+            log.info("[이미지 처리 완료] 이미지 ID: {}, 경로: {}", imageId, imagePath);
+
+            if (event.getUserId() != null) {
+                // 처리 중에 더 나중 프로필 변경이 있었던 유저는 그 변경을 덮어쓰지 않는다
+                int updated = userRepository.updateImageForLatestUpload(imageRepository.getReferenceById(imageId), imageId);
+                if (updated == 0) {
+                    log.info("[프로필 이미지 연결 생략] 더 나중 변경이 있음, 유저 ID: {}, 이미지 ID: {}", event.getUserId(), imageId);
+                }
+            }
+
+            if (event.getRoomId() != null) {
+                // 같은 내용으로 이 행을 재사용한 방에도 함께 알린다
+                ImageUpdateResponse response = new ImageUpdateResponse(WebsocketMessageType.ROOM_IMAGE_UPDATED, imageId, imagePath, thumbnailPath);
+                for (Long roomId : roomIdsUsing(event)) {
+                    roomBroadcaster.broadcast(roomId, response);
+                }
+            }
+        } catch (Exception e) {
+            log.error("[이미지 처리 실패] 이미지 ID: {}, {}", imageId, e.getMessage(), e);
+            fail(event, e);
+        } finally {
+            deleteQuietly(event.getSourceFile());
+        }
+    }
+
+    /**
+     * 이미지 처리 결과를 알릴 방 목록 (요청한 방과, 같은 내용으로 이 행을 재사용한 진행 중인 방)
+     */
+    private Set<Long> roomIdsUsing(ImageUploadRequestedEvent event) {
+        Set<Long> roomIds = new LinkedHashSet<>();
+        roomIds.add(event.getRoomId());
+        roomIds.addAll(roomRepository.findActiveRoomIdsByImageId(event.getImageId()));
+        return roomIds;
+    }
+
+    /**
+     * 처리 중인 프로필 이미지를 재사용한 변경이 커밋된 뒤, 그 사이 변환이 이미 끝났으면 유저에 연결하는 메서드
+     * (아직 처리 중이면 변환 작업이 끝날 때 함께 연결된다)
+     * 커밋이 끝난 트랜잭션에 참여하면 UPDATE가 반영되지 않으므로 새 트랜잭션에서 실행한다
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileImageReused(ProfileImageReusedEvent event) {
+        imageRepository.findById(event.getImageId())
+                .filter(image -> image.getStatus() == ImageStatus.READY)
+                .ifPresent(image -> userRepository.updateImageForLatestUpload(image, image.getImageId()));
+    }
+
+    /**
+     * 처리하지 못한 이미지를 FAILED로 바꾸고, 방 대표 이미지이면 방 채널에 실패를 알리는 메서드
+     * 프로필 이미지는 유저에 연결되기 전이므로 이전 프로필 이미지가 그대로 유지된다
+     */
+    private void fail(ImageUploadRequestedEvent event, Exception cause) {
+        try {
+            imageRepository.updateStatus(event.getImageId(), ImageStatus.FAILED);
+            if (event.getRoomId() != null) {
+                ImageUpdateResponse response = new ImageUpdateResponse(WebsocketMessageType.ROOM_IMAGE_FAILED, event.getImageId(), null, null);
+                for (Long roomId : roomIdsUsing(event)) {
+                    roomBroadcaster.broadcast(roomId, response);
+                }
+            }
+        } catch (Exception e) {
+            e.addSuppressed(cause);
+            log.error("[이미지 실패 처리 실패] 이미지 ID: {}", event.getImageId(), e);
+        } finally {
+            deleteQuietly(event.getSourceFile());
+        }
+    }
+
+    /**
+     * 이미지 파일을 필요한 크기만큼만 디코딩하는 메서드
+     * 헤더의 가로/세로로 픽셀 수를 먼저 확인해 mocamp.image.max-pixels 를 넘으면 디코딩하지 않고,
+     * 원본 크기 이미지가 필요하지 않으므로 가로가 fullMaxWidth 근처가 되도록 행/열을 건너뛰며 읽는다
+     * @return 디코딩한 이미지, ImageIO가 읽지 못하는 형식이면 null
+     */
+    private BufferedImage decode(Path file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = input == null ? Collections.emptyIterator() : ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("이미지 픽셀 수 초과: " + width + "x" + height);
+                }
+
+                // 디코딩 결과가 가로 fullMaxWidth 이상, 픽셀 수 fullMaxWidth^2 * 2 이하가 되도록 건너뛸 간격을 정한다
+                long decodedPixelBudget = (long) fullMaxWidth * fullMaxWidth * 2;
+                int subsampling = Math.max(1, Math.max(width / fullMaxWidth,
+                        (int) Math.ceil(Math.sqrt((double) width * height / decodedPixelBudget))));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가로 maxWidth 이하로 비율을 유지해 줄이는 메서드 (작은 이미지는 크기를 유지한 채 다시 그림)
+     */
+    private static BufferedImage resize(BufferedImage source, int maxWidth) {
+        int width = Math.min(source.getWidth(), maxWidth);
+        int height = Math.max(1, (int) Math.round(source.getHeight() * (width / (double) source.getWidth())));
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage resized = new BufferedImage(width, height, type);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, outputStream)) {
+            throw new IOException("지원하지 않는 이미지 형식: " + format);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[임시 이미지 삭제 실패] {}", file, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerExecutor.shutdown();
+    }
+}
@@ -0,0 +1,70 @@
+package com.mocamp.mocamp_backend.service.image;
+
+import com.mocamp.mocamp_backend.entity.ImageEntity;
+import com.mocamp.mocamp_backend.repository.ImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * 같은 내용/경로의 이미지를 한 행으로 재사용하도록 ImageEntity를 찾거나 만드는 서비스
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImageService {
+
+    private final ImageRepository imageRepository;
+
+    /**
+     * 소셜 로그인 프로필 이미지 URL에 해당하는 이미지를 찾고, 없으면 새로 저장하는 메서드
+     * 기본 프로필 이미지처럼 여러 유저가 같은 URL을 쓰는 경우 한 행을 함께 사용한다
+     * @param path 프로필 이미지 URL
+     * @return Image 엔티티
+     */
+    public ImageEntity findOrCreateProfileImage(String path) {
+        return imageRepository.findFirstByPathOrderByImageIdAsc(path)
+                .orElseGet(() -> imageRepository.save(ImageEntity.builder()
+                        .type(ImageType.profile)
+                        .path(path)
+                        .build()));
+    }
+
+    /**
+     * 임시 파일로 받아 둔 업로드와 같은 내용의 이미지가 이미 처리되었거나 처리 중이면 그 행을 재사용하고,
+     * 없으면 PENDING 상태의 새 행을 저장하는 메서드
+     * 재사용한 경우 임시 파일은 바로 삭제하며, 새 행을 만든 경우(created)에만 변환/업로드를 요청하면 된다
+     * 처리 중인 행을 재사용하면 먼저 올린 요청의 변환 작업이 끝날 때 함께 반영된다
+     * @param stagedImage 임시 파일로 받아 둔 업로드
+     * @param type 이미지 종류
+     * @return Image 엔티티와 새로 만들었는지 여부
+     */
+    public UploadedImage findOrCreateUploadedImage(StagedImage stagedImage, ImageType type) {
+        ImageEntity existing = imageRepository
+                .findFirstByContentHashAndTypeAndStatusInOrderByImageIdAsc(stagedImage.contentHash(), type,
+                        List.of(ImageStatus.READY, ImageStatus.PENDING))
+                .orElse(null);
+
+        if (existing != null) {
+            log.info("[중복 이미지 재사용] 이미지 ID: {}, 상태: {}, 해시: {}",
+                    existing.getImageId(), existing.getStatus(), stagedImage.contentHash());
+            try {
+                Files.deleteIfExists(stagedImage.file());
+            } catch (IOException e) {
+                log.warn("[임시 이미지 삭제 실패] {}", stagedImage.file(), e);
+            }
+            return new UploadedImage(existing, false);
+        }
+
+        return new UploadedImage(imageRepository.save(ImageEntity.builder()
+                .type(type)
+                .path("")
+                .contentHash(stagedImage.contentHash())
+                .status(ImageStatus.PENDING)
+                .build()), true);
+    }
+}
@@ -0,0 +1,5 @@
+package com.mocamp.mocamp_backend.service.image;
+
+public enum ImageStatus {
+    PENDING, READY, FAILED
+}
@@ -0,0 +1,25 @@
+package com.mocamp.mocamp_backend.service.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+
+/**
+ * 업로드된 원본 이미지를 임시 파일로 받아 둔 뒤 변환/업로드를 요청하는 이벤트
+ * ImageProcessingService가 트랜잭션 커밋 후 작업 스레드에서 처리한다
+ */
+@Getter
+@RequiredArgsConstructor
+public class ImageUploadRequestedEvent {
+    private final Long imageId;
+    private final Path sourceFile;
+    private final String contentHash;
+    private final String contentType;
+    private final String dirName;
+    // 방 대표 이미지이면 처리 완료 후 방 채널로 알림, 프로필 이미지이면 null
+    private final Long roomId;
+    // 프로필 이미지이면 처리 완료 후 유저에 연결 (그 전까지는 이전 프로필 이미지 유지), 방 대표 이미지이면 null
+    // profileUploadId가 아직 imageId인 유저(같은 내용으로 이 행을 재사용한 유저 포함)에 연결한다
+    private final Long userId;
+}
@@ -0,0 +1,14 @@
+package com.mocamp.mocamp_backend.service.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 프로필 변경이 다른 요청에서 처리 중(PENDING)인 이미지 행을 재사용했음을 알리는 이벤트
+ * 재사용한 트랜잭션이 커밋되기 전에 변환이 끝났으면 유저 연결에서 빠지므로, 커밋 후 한 번 더 연결을 시도한다
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProfileImageReusedEvent {
+    private final Long imageId;
+}
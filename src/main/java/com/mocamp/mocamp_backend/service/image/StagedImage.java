@@ -0,0 +1,11 @@
+package com.mocamp.mocamp_backend.service.image;
+
+import java.nio.file.Path;
+
+/**
+ * 변환 전까지 임시 파일로 받아 둔 업로드 이미지
+ * @param file 임시 파일 경로
+ * @param contentHash 원본의 SHA-256 (hex)
+ */
+public record StagedImage(Path file, String contentHash) {
+}
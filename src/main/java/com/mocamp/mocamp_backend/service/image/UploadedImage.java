@@ -0,0 +1,11 @@
+package com.mocamp.mocamp_backend.service.image;
+
+import com.mocamp.mocamp_backend.entity.ImageEntity;
+
+/**
+ * 업로드 이미지에 연결할 Image 엔티티
+ * @param image Image 엔티티 (READY 또는 PENDING)
+ * @param created 이번 요청에서 새로 만든 행인지 여부 (true일 때만 변환/업로드를 요청)
+ */
+public record UploadedImage(ImageEntity image, boolean created) {
+}
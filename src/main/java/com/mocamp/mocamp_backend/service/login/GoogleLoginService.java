@@ -1,5 +1,6 @@
 package com.mocamp.mocamp_backend.service.login;
 
+import com.mocamp.mocamp_backend.authentication.AuthenticatedUser;
 import com.mocamp.mocamp_backend.authentication.JwtProvider;
 import com.mocamp.mocamp_backend.configuration.GoogleLoginConfig;
 import com.mocamp.mocamp_backend.dto.commonResponse.CommonResponse;
@@ -8,10 +9,9 @@ import com.mocamp.mocamp_backend.dto.commonResponse.SuccessResponse;
 import com.mocamp.mocamp_backend.dto.loginResponse.LoginResponse;
 import com.mocamp.mocamp_backend.entity.ImageEntity;
 import com.mocamp.mocamp_backend.entity.UserEntity;
-import com.mocamp.mocamp_backend.repository.ImageRepository;
 import com.mocamp.mocamp_backend.repository.TokenRepository;
 import com.mocamp.mocamp_backend.repository.UserRepository;
-import com.mocamp.mocamp_backend.service.image.ImageType;
+import com.mocamp.mocamp_backend.service.image.ImageService;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
@@ -35,16 +35,16 @@ public class GoogleLoginService {
     private final GoogleLoginConfig googleLoginConfig;
     private final JwtProvider jwtProvider;
     private final RestTemplate restTemplate;
-    private final ImageRepository imageRepository;
+    private final ImageService imageService;
 
     public GoogleLoginService(final UserRepository userRepository, final TokenRepository tokenRepository, final GoogleLoginConfig googleLoginConfig,
-                              final JwtProvider jwtProvider, ImageRepository imageRepository) {
+                              final JwtProvider jwtProvider, ImageService imageService, final RestTemplate oauthRestTemplate) {
         this.userRepository = userRepository;
         this.tokenRepository = tokenRepository;
         this.googleLoginConfig = googleLoginConfig;
         this.jwtProvider = jwtProvider;
-        this.restTemplate = new RestTemplate();
-        this.imageRepository = imageRepository;
+        this.restTemplate = oauthRestTemplate;
+        this.imageService = imageService;
     }
 
     /**
@@ -107,12 +107,13 @@ public class GoogleLoginService {
 
     /**
      * JwtProvider의 토큰 생성 기능을 그대로 사용하기 위해 Authentication 객체를 만드는 메서드
-     * @param email 사용자의 이메일 입력
+     * 토큰에 userId, 닉네임을 함께 담아 요청마다 유저를 조회하지 않도록 한다
+     * @param user 로그인한 유저
      * @return 사용자별 설정 권한이 포함된 Authentication 객체
      */
-    private Authentication createAuthenticationFromEmail(String email) {
+    private Authentication createAuthentication(UserEntity user) {
         return new UsernamePasswordAuthenticationToken(
-                email, // principal - 유저 이메일
+                new AuthenticatedUser(user.getUserId(), user.getUserSeq(), user.getUsername()), // principal - 유저 식별 정보
                 null, // credentials - 소셜 로그인이므로 별도 비밀번호 설정 X
                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
         );
@@ -158,7 +159,6 @@ public class GoogleLoginService {
         UserEntity userEntity;
         GoogleUserProfile googleUserProfile;
         String jwtToken, refreshToken;
-        ImageEntity imageEntity;
 
         try {
             String accessToken = requestGoogleAccessToken(code, redirectUrl);
@@ -171,11 +171,8 @@ public class GoogleLoginService {
         try {
             Optional<UserEntity> optionalUserEntity = userRepository.findUserByUserSeq(googleUserProfile.getId());
             if (optionalUserEntity.isEmpty()) {   // 회원가입
-                imageEntity = ImageEntity.builder()
-                        .type(ImageType.profile)
-                        .path(googleUserProfile.getPicture())
-                        .build();
-                ImageEntity updatedImageEntity = imageRepository.save(imageEntity);
+                // 기본 프로필 이미지처럼 같은 URL이면 기존 이미지 행을 재사용
+                ImageEntity updatedImageEntity = imageService.findOrCreateProfileImage(googleUserProfile.getPicture());
 
                 UserEntity newUserEntity = createUserEntity(googleUserProfile, updatedImageEntity);
                 userEntity = userRepository.save(newUserEntity);
@@ -188,7 +185,7 @@ public class GoogleLoginService {
         }
 
         try {
-            Authentication authentication = createAuthenticationFromEmail(userEntity.getUserSeq());
+            Authentication authentication = createAuthentication(userEntity);
             jwtToken = jwtProvider.generateAccessToken(authentication);
             refreshToken = jwtProvider.generateRefreshToken(authentication);
 
@@ -3,6 +3,7 @@ package com.mocamp.mocamp_backend.service.login;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocamp.mocamp_backend.authentication.AuthenticatedUser;
 import com.mocamp.mocamp_backend.authentication.JwtProvider;
 import com.mocamp.mocamp_backend.dto.commonResponse.CommonResponse;
 import com.mocamp.mocamp_backend.dto.commonResponse.ErrorResponse;
@@ -10,10 +11,9 @@ import com.mocamp.mocamp_backend.dto.commonResponse.SuccessResponse;
 import com.mocamp.mocamp_backend.dto.loginResponse.LoginResult;
 import com.mocamp.mocamp_backend.entity.ImageEntity;
 import com.mocamp.mocamp_backend.entity.UserEntity;
-import com.mocamp.mocamp_backend.repository.ImageRepository;
 import com.mocamp.mocamp_backend.repository.TokenRepository;
 import com.mocamp.mocamp_backend.repository.UserRepository;
-import com.mocamp.mocamp_backend.service.image.ImageType;
+import com.mocamp.mocamp_backend.service.image.ImageService;
 import com.mocamp.mocamp_backend.service.s3.S3Uploader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,7 +39,7 @@ public class KakaoLoginService {
 
     private static final String IMAGE_SAVING_MESSAGE = "이미지 저장에 실패했습니다";
 
-    private final ImageRepository imageRepository;
+    private final ImageService imageService;
     @Value("${cloud.aws.s3.bucket}")
     private String DirName;
     private final UserRepository userRepository;
@@ -50,6 +50,12 @@ public class KakaoLoginService {
     private String clientId;
     @Value("${kakao.page.uri}")
     private String pageUri;
+    @Value("${kakao.auth.uri:https://kauth.kakao.com}")
+    private String kakaoAuthUri;
+    @Value("${kakao.api.uri:https://kapi.kakao.com}")
+    private String kakaoApiUri;
+    private final RestTemplate oauthRestTemplate;
+    private final ObjectMapper objectMapper;
 
     /**
      * "인가 코드"로 카카오 "액세스 토큰" 요청하는 메서드
@@ -70,9 +76,8 @@ public class KakaoLoginService {
 
         // HTTP 요청 보내기
         HttpEntity<MultiValueMap<String, String>> kakaoTokenRequest = new HttpEntity<>(body, headers);
-        RestTemplate rt = new RestTemplate();
-        ResponseEntity<String> response = rt.exchange(
-                "https://kauth.kakao.com/oauth/token",
+        ResponseEntity<String> response = oauthRestTemplate.exchange(
+                kakaoAuthUri + "/oauth/token",
                 HttpMethod.POST,
                 kakaoTokenRequest,
                 String.class
@@ -80,7 +85,6 @@ public class KakaoLoginService {
 
         // HTTP 응답 (JSON) -> 액세스 토큰 파싱
         String responseBody = response.getBody();
-        ObjectMapper objectMapper = new ObjectMapper();
         JsonNode jsonNode = null;
         try {
             jsonNode = objectMapper.readTree(responseBody);
@@ -105,9 +109,8 @@ public class KakaoLoginService {
 
         // HTTP 요청 보내기
         HttpEntity<MultiValueMap<String, String>> kakaoUserInfoRequest = new HttpEntity<>(headers);
-        RestTemplate rt = new RestTemplate();
-        ResponseEntity<String> response = rt.exchange(
-                "https://kapi.kakao.com/v2/user/me",
+        ResponseEntity<String> response = oauthRestTemplate.exchange(
+                kakaoApiUri + "/v2/user/me",
                 HttpMethod.POST,
                 kakaoUserInfoRequest,
                 String.class
@@ -115,7 +118,6 @@ public class KakaoLoginService {
 
         // responseBody에 있는 정보를 꺼냄
         String responseBody = response.getBody();
-        ObjectMapper objectMapper = new ObjectMapper();
         JsonNode jsonNode = null;
         try {
             jsonNode = objectMapper.readTree(responseBody);
@@ -158,21 +160,17 @@ public class KakaoLoginService {
         String kakaoEmail = kakaoUserInfo.get("email").toString();
         String nickname = kakaoUserInfo.get("nickname").toString();
         String profile_image = kakaoUserInfo.get("profile_image").toString();
-        ImageEntity imageEntity;
 
         UserEntity optionalUserEntity = userRepository.findUserByUserSeq(kakaoUserInfo.get("id").toString()).orElse(null);
 
         if(optionalUserEntity == null) { // 회원가입의 경우
-            imageEntity = ImageEntity.builder()
-                    .type(ImageType.profile)
-                    .path(profile_image)
-                    .build();
-            ImageEntity updatedImageEntity = imageRepository.save(imageEntity);
+            // 기본 프로필 이미지처럼 같은 URL이면 기존 이미지 행을 재사용
+            ImageEntity updatedImageEntity = imageService.findOrCreateProfileImage(profile_image);
 
             UserEntity newUserEntity = createUserEntity(userSeq, kakaoEmail, nickname, updatedImageEntity);
             userRepository.save(newUserEntity);
 
-            Authentication authentication = createAuthenticationFromEmail(newUserEntity.getUserSeq());
+            Authentication authentication = createAuthentication(newUserEntity);
             String accessToken = jwtProvider.generateAccessToken(authentication);
             String refreshToken = jwtProvider.generateRefreshToken(authentication);
 
@@ -180,7 +178,7 @@ public class KakaoLoginService {
 
             return createLoginResult(accessToken, refreshToken);
         } else { // 기존 로그인의 경우
-            Authentication authentication = createAuthenticationFromEmail(optionalUserEntity.getUserSeq());
+            Authentication authentication = createAuthentication(optionalUserEntity);
             String accessToken = jwtProvider.generateAccessToken(authentication);
             String refreshToken = jwtProvider.generateRefreshToken(authentication);
 
@@ -205,12 +203,13 @@ public class KakaoLoginService {
 
     /**
      * JwtProvider의 토큰 생성 기능을 그대로 사용하기 위해 Authentication 객체를 만드는 메서드
-     * @param email 사용자의 이메일 입력
+     * 토큰에 userId, 닉네임을 함께 담아 요청마다 유저를 조회하지 않도록 한다
+     * @param user 로그인한 유저
      * @return 사용자별 설정 권한이 포함된 Authentication 객체
      */
-    private Authentication createAuthenticationFromEmail(String email) {
+    private Authentication createAuthentication(UserEntity user) {
         return new UsernamePasswordAuthenticationToken(
-                email, // principal - 유저 이메일
+                new AuthenticatedUser(user.getUserId(), user.getUserSeq(), user.getUsername()), // principal - 유저 식별 정보
                 null, // credentials - 소셜 로그인이므로 별도 비밀번호 설정 X
                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
         );
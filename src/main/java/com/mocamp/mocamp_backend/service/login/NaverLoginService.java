@@ -3,16 +3,16 @@ package com.mocamp.mocamp_backend.service.login;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocamp.mocamp_backend.authentication.AuthenticatedUser;
 import com.mocamp.mocamp_backend.authentication.JwtProvider;
 import com.mocamp.mocamp_backend.dto.commonResponse.CommonResponse;
 import com.mocamp.mocamp_backend.dto.commonResponse.SuccessResponse;
 import com.mocamp.mocamp_backend.dto.loginResponse.LoginResult;
 import com.mocamp.mocamp_backend.entity.ImageEntity;
 import com.mocamp.mocamp_backend.entity.UserEntity;
-import com.mocamp.mocamp_backend.repository.ImageRepository;
 import com.mocamp.mocamp_backend.repository.TokenRepository;
 import com.mocamp.mocamp_backend.repository.UserRepository;
-import com.mocamp.mocamp_backend.service.image.ImageType;
+import com.mocamp.mocamp_backend.service.image.ImageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -38,13 +38,17 @@ public class NaverLoginService {
     private final UserRepository userRepository;
     private final TokenRepository tokenRepository;
     private final JwtProvider jwtProvider;
-    private final ImageRepository imageRepository;
+    private final ImageService imageService;
     @Value("${naver.client.id}")
     private String clientId;
     @Value("${naver.client.secret}")
     private String clientSecret;
-    private final static String NAVER_AUTH_URI = "https://nid.naver.com";
-    private final static String NAVER_API_URI = "https://openapi.naver.com";
+    @Value("${naver.auth.uri:https://nid.naver.com}")
+    private String naverAuthUri;
+    @Value("${naver.api.uri:https://openapi.naver.com}")
+    private String naverApiUri;
+    private final RestTemplate oauthRestTemplate;
+    private final ObjectMapper objectMapper;
 
     /**
      * "인가 코드"로 네이버 "액세스 토큰" 요청하는 메서드
@@ -67,10 +71,8 @@ public class NaverLoginService {
 
         // HTTP 요청 보내기
         HttpEntity<MultiValueMap<String, String>> naverTokenRequest = new HttpEntity<>(body, headers);
-        RestTemplate rt = new RestTemplate();
-
-        ResponseEntity<String> response = rt.exchange(
-                NAVER_AUTH_URI + "/oauth2.0/token",
+        ResponseEntity<String> response = oauthRestTemplate.exchange(
+                naverAuthUri + "/oauth2.0/token",
                 HttpMethod.POST,
                 naverTokenRequest,
                 String.class
@@ -78,7 +80,6 @@ public class NaverLoginService {
 
         // HTTP 응답 (JSON) -> 액세스 토큰 파싱
         String responseBody = response.getBody();
-        ObjectMapper objectMapper = new ObjectMapper();
         JsonNode jsonNode = null;
         try {
             jsonNode = objectMapper.readTree(responseBody);
@@ -103,9 +104,8 @@ public class NaverLoginService {
 
         // HTTP 요청 보내기
         HttpEntity<MultiValueMap<String, String>> naverUserInfoRequest = new HttpEntity<>(headers);
-        RestTemplate rt = new RestTemplate();
-        ResponseEntity<String> response = rt.exchange(
-                NAVER_API_URI + "/v1/nid/me",
+        ResponseEntity<String> response = oauthRestTemplate.exchange(
+                naverApiUri + "/v1/nid/me",
                 HttpMethod.POST,
                 naverUserInfoRequest,
                 String.class
@@ -113,7 +113,6 @@ public class NaverLoginService {
 
         // responseBody에 있는 정보를 꺼냄
         String responseBody = response.getBody();
-        ObjectMapper objectMapper = new ObjectMapper();
         JsonNode jsonNode = null;
         try {
             jsonNode = objectMapper.readTree(responseBody);
@@ -143,21 +142,17 @@ public class NaverLoginService {
         String naverEmail = naverUserInfo.get("email").toString();
         String nickname = naverUserInfo.get("nickname").toString();
         String profile_image = naverUserInfo.get("profile_image").toString();
-        ImageEntity imageEntity;
 
         UserEntity optionalUserEntity = userRepository.findUserByUserSeq(naverUserInfo.get("id").toString()).orElse(null);
 
         if(optionalUserEntity == null) { // 회원가입의 경우
-            imageEntity = ImageEntity.builder()
-                    .type(ImageType.profile)
-                    .path(profile_image)
-                    .build();
-            ImageEntity updatedImageEntity = imageRepository.save(imageEntity);
+            // 기본 프로필 이미지처럼 같은 URL이면 기존 이미지 행을 재사용
+            ImageEntity updatedImageEntity = imageService.findOrCreateProfileImage(profile_image);
 
             UserEntity newUserEntity = createUserEntity(userSeq, naverEmail, nickname, updatedImageEntity);
             userRepository.save(newUserEntity);
 
-            Authentication authentication = createAuthenticationFromEmail(newUserEntity.getUserSeq());
+            Authentication authentication = createAuthentication(newUserEntity);
             String accessToken = jwtProvider.generateAccessToken(authentication);
             String refreshToken = jwtProvider.generateRefreshToken(authentication);
 
@@ -165,7 +160,7 @@ public class NaverLoginService {
 
             return createLoginResult(accessToken, refreshToken);
         } else { // 기존 로그인의 경우
-            Authentication authentication = createAuthenticationFromEmail(optionalUserEntity.getUserSeq());
+            Authentication authentication = createAuthentication(optionalUserEntity);
             String accessToken = jwtProvider.generateAccessToken(authentication);
             String refreshToken = jwtProvider.generateRefreshToken(authentication);
 
@@ -196,12 +191,13 @@ public class NaverLoginService {
 
     /**
      * JwtProvider 토큰 생성 기능을 사용하기 위해 Authentication 객체를 만드는 메서드
-     * @param email 사용자의 이메일
+     * 토큰에 userId, 닉네임을 함께 담아 요청마다 유저를 조회하지 않도록 한다
+     * @param user 로그인한 유저
      * @return 사용자별 설정 권한이 포함된 Authentication 객체
      */
-    private Authentication createAuthenticationFromEmail(String email) {
+    private Authentication createAuthentication(UserEntity user) {
         return new UsernamePasswordAuthenticationToken(
-                email, // principal - 유저 이메일
+                new AuthenticatedUser(user.getUserId(), user.getUserSeq(), user.getUsername()), // principal - 유저 식별 정보
                 null, // credentials - 소셜 로그인이므로 별도 비밀번호 설정 X
                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
         );
@@ -226,7 +222,7 @@ public class NaverLoginService {
      * @return 로그인 페이지 uri
      */
     public ResponseEntity<CommonResponse> loadNaverLoginPage(String redirect_url) {
-        String uri = NAVER_AUTH_URI+ "/oauth2.0/authorize"
+        String uri = naverAuthUri + "/oauth2.0/authorize"
                 + "?client_id=" + clientId
                 + "&redirect_uri=" + redirect_url
                 + "&response_type=code";
@@ -1,5 +1,6 @@
 package com.mocamp.mocamp_backend.service.login;
 
+import com.mocamp.mocamp_backend.authentication.AuthenticatedUser;
 import com.mocamp.mocamp_backend.authentication.JwtProvider;
 import com.mocamp.mocamp_backend.authentication.UserDetailsServiceImpl;
 import com.mocamp.mocamp_backend.dto.commonResponse.CommonResponse;
@@ -57,12 +58,13 @@ public class TokenService {
 
     /**
      * JwtProvider의 토큰 생성 기능을 그대로 사용하기 위해 Authentication 객체를 만드는 메서드
-     * @param email 사용자의 이메일 입력
+     * 토큰에 userId, 닉네임을 함께 담아 요청마다 유저를 조회하지 않도록 한다
+     * @param user 로그인한 유저
      * @return 사용자별 설정 권한이 포함된 Authentication 객체
      */
-    private Authentication createAuthenticationFromEmail(String email) {
+    private Authentication createAuthentication(UserEntity user) {
         return new UsernamePasswordAuthenticationToken(
-                email, // principal - 유저 이메일
+                new AuthenticatedUser(user.getUserId(), user.getUserSeq(), user.getUsername()), // principal - 유저 식별 정보
                 null, // credentials - 소셜 로그인이므로 별도 비밀번호 설정 X
                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
         );
@@ -106,21 +108,22 @@ public class TokenService {
     public ResponseEntity<CommonResponse> reIssueToken(HttpServletRequest request, HttpServletResponse response) {
         UserEntity user = userDetailsService.getUserByContextHolder();
 
-        // 쿠키에 담긴 리프레쉬 토큰과 Redis에 저장된 리프레쉬 토큰을 꺼내 일치하는지 확인
         String refreshToken = resolveTokenFromCookies(request);
-        String refreshTokenInRedis = tokenRepository.findById(user.getUserId());
-
-        if (refreshTokenInRedis == null || !refreshTokenInRedis.equals(refreshToken)) {
+        if (refreshToken == null) {
             deleteRefreshToken(user.getUserId());
             return ResponseEntity.status(HttpStatus.CONFLICT)
                     .body(new ErrorResponse(403, DIFFERENT_REFRESH_TOKEN_EXCEPTION_MESSAGE));
         }
 
-        // 일치하면 새로운 액세스 토큰과 리프레쉬 토큰 생성
-        Authentication authentication = createAuthenticationFromEmail(user.getEmail());
+        Authentication authentication = createAuthentication(user);
         String newAccessToken = jwtProvider.generateAccessToken(authentication);
         String newRefreshToken = jwtProvider.generateRefreshToken(authentication);
-        tokenRepository.save(user.getUserId(), newRefreshToken);
+
+        // 쿠키에 담긴 리프레쉬 토큰이 Redis에 저장된 토큰과 일치할 때만 새 토큰으로 교체 (불일치 시 저장된 토큰 삭제)
+        if (!tokenRepository.rotate(user.getUserId(), refreshToken, newRefreshToken)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ErrorResponse(403, DIFFERENT_REFRESH_TOKEN_EXCEPTION_MESSAGE));
+        }
 
         LoginResult loginResult = createLoginResult(newAccessToken, newRefreshToken);
 
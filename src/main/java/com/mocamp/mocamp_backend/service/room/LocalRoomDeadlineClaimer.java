@@ -0,0 +1,17 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드에서는 선점할 필요가 없으므로 항상 실행하는 구현 (기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "mocamp.broadcast.mode", havingValue = "local", matchIfMissing = true)
+public class LocalRoomDeadlineClaimer implements RoomDeadlineClaimer {
+
+    @Override
+    public boolean claim(Long roomId, String deadline) {
+        return true;
+    }
+}
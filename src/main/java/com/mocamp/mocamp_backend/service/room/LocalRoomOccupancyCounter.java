@@ -0,0 +1,49 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 현재 JVM 메모리에서 방 인원 수를 관리하는 카운터 (단일 노드 기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "mocamp.room.occupancy.mode", havingValue = "local", matchIfMissing = true)
+public class LocalRoomOccupancyCounter implements RoomOccupancyCounter {
+
+    private final Map<Long, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public long tryReserve(Long roomId, int capacity, int seed) {
+        AtomicLong counter = counters.computeIfAbsent(roomId, id -> new AtomicLong(seed));
+        while (true) {
+            long current = counter.get();
+            if (current >= capacity) {
+                return -1;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    @Override
+    public long release(Long roomId, int seed) {
+        return counters.computeIfAbsent(roomId, id -> new AtomicLong(seed))
+                .updateAndGet(current -> Math.max(0, current - 1));
+    }
+
+    @Override
+    public Long get(Long roomId) {
+        AtomicLong counter = counters.get(roomId);
+        return counter == null ? null : counter.get();
+    }
+
+    @Override
+    public void remove(Long roomId) {
+        counters.remove(roomId);
+    }
+}
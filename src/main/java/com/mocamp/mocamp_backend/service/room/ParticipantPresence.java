@@ -0,0 +1,28 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import com.mocamp.mocamp_backend.entity.JoinedRoomEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.With;
+
+/**
+ * 방에 참여 중인 유저의 작업/캠/마이크 상태 스냅샷
+ * 상태 변경 시 객체를 수정하지 않고 새 객체로 교체한다
+ */
+@Getter
+@With
+@AllArgsConstructor
+public class ParticipantPresence {
+    private final Long joinedRoomId;
+    private final Boolean workStatus;
+    private final Boolean camStatus;
+    private final Boolean micStatus;
+
+    public static ParticipantPresence from(JoinedRoomEntity joinedRoomEntity) {
+        return new ParticipantPresence(
+                joinedRoomEntity.getJoinedRoomId(),
+                joinedRoomEntity.getWorkStatus(),
+                joinedRoomEntity.getCamStatus(),
+                joinedRoomEntity.getMicStatus());
+    }
+}
@@ -0,0 +1,41 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Redis SET NX 로 방의 예약 작업을 먼저 선점한 노드만 실행하게 하는 구현 (mocamp.broadcast.mode=redis)
+ * 키는 모든 노드의 예약 시각이 지나갈 만큼만 남겨두고 만료시킨다
+ */
+@Component
+@ConditionalOnProperty(name = "mocamp.broadcast.mode", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisRoomDeadlineClaimer implements RoomDeadlineClaimer {
+    private static final String KEY_PREFIX = "mocamp:room:deadline:";
+    private static final Duration CLAIM_TTL = Duration.ofHours(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 선점한 노드를 확인하기 위한 노드 ID
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Override
+    public boolean claim(Long roomId, String deadline) {
+        try {
+            Boolean claimed = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(KEY_PREFIX + roomId + ":" + deadline, nodeId, CLAIM_TTL);
+            return Boolean.TRUE.equals(claimed);
+        } catch (Exception e) {
+            // Redis 장애 시 알림/종료가 빠지는 것보다 중복되는 편이 낫다
+            log.error("[예약 작업 선점 실패] roomId: {}, deadline: {}, {}", roomId, deadline, e.getMessage(), e);
+            return true;
+        }
+    }
+}
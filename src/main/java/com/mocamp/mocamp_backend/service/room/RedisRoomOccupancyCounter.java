@@ -0,0 +1,67 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis에서 방 인원 수를 관리하는 카운터 (mocamp.room.occupancy.mode=redis)
+ * 정원 검사와 증가를 Lua 스크립트 한 번으로 처리해 여러 노드에서도 정원을 넘지 않는다
+ */
+@Component
+@ConditionalOnProperty(name = "mocamp.room.occupancy.mode", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisRoomOccupancyCounter implements RoomOccupancyCounter {
+    private static final String KEY_PREFIX = "mocamp:room:occupancy:";
+    // 종료 처리에서 지우지 못한 카운터가 남지 않도록 하루 뒤 만료
+    private static final String TTL_SECONDS = "86400";
+
+    // ARGV[1] = 정원, ARGV[2] = seed, ARGV[3] = TTL
+    private static final DefaultRedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or ARGV[2])
+            if current >= tonumber(ARGV[1]) then
+                return -1
+            end
+            redis.call('SET', KEYS[1], current + 1, 'EX', ARGV[3])
+            return current + 1
+            """, Long.class);
+
+    // ARGV[1] = seed, ARGV[2] = TTL
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or ARGV[1])
+            local next = math.max(0, current - 1)
+            redis.call('SET', KEYS[1], next, 'EX', ARGV[2])
+            return next
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public long tryReserve(Long roomId, int capacity, int seed) {
+        Long result = stringRedisTemplate.execute(RESERVE_SCRIPT, List.of(KEY_PREFIX + roomId),
+                String.valueOf(capacity), String.valueOf(seed), TTL_SECONDS);
+        return result == null ? -1 : result;
+    }
+
+    @Override
+    public long release(Long roomId, int seed) {
+        Long result = stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + roomId),
+                String.valueOf(seed), TTL_SECONDS);
+        return result == null ? 0 : result;
+    }
+
+    @Override
+    public Long get(Long roomId) {
+        String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + roomId);
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    @Override
+    public void remove(Long roomId) {
+        stringRedisTemplate.delete(KEY_PREFIX + roomId);
+    }
+}
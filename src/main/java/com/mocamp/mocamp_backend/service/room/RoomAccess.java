@@ -0,0 +1,54 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import com.mocamp.mocamp_backend.entity.JoinedRoomEntity;
+import com.mocamp.mocamp_backend.entity.RoomEntity;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 소켓 핸들러의 권한 확인에 필요한 방 정보 스냅샷 (활성 여부, 참여자, 방장)
+ */
+public class RoomAccess {
+    @Getter
+    private final boolean active;
+    // userId -> joinedRoomId
+    private final Map<Long, Long> participants;
+    private final Long adminUserId;
+
+    private RoomAccess(boolean active, Map<Long, Long> participants, Long adminUserId) {
+        this.active = active;
+        this.participants = participants;
+        this.adminUserId = adminUserId;
+    }
+
+    public static RoomAccess of(RoomEntity roomEntity, List<JoinedRoomEntity> participatingList) {
+        Map<Long, Long> participants = new HashMap<>();
+        Long adminUserId = null;
+        for (JoinedRoomEntity joinedRoom : participatingList) {
+            Long userId = joinedRoom.getUser().getUserId();
+            participants.put(userId, joinedRoom.getJoinedRoomId());
+            if (joinedRoom.getIsAdmin()) {
+                adminUserId = userId;
+            }
+        }
+        return new RoomAccess(roomEntity.getStatus(), Map.copyOf(participants), adminUserId);
+    }
+
+    public boolean isParticipant(Long userId) {
+        return participants.containsKey(userId);
+    }
+
+    public boolean isAdmin(Long userId) {
+        return userId != null && userId.equals(adminUserId);
+    }
+
+    /**
+     * @return 참여 중이 아니면 null
+     */
+    public Long getJoinedRoomId(Long userId) {
+        return participants.get(userId);
+    }
+}
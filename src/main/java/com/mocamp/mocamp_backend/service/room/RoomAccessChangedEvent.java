@@ -0,0 +1,14 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 방의 활성 여부, 참여자 목록, 방장이 바뀌었음을 알리는 이벤트
+ * RoomAccessGuard가 트랜잭션 커밋 후 해당 방의 캐시를 비운다
+ */
+@Getter
+@RequiredArgsConstructor
+public class RoomAccessChangedEvent {
+    private final Long roomId;
+}
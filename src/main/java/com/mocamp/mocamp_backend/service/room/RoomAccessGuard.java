@@ -0,0 +1,116 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import com.mocamp.mocamp_backend.entity.RoomEntity;
+import com.mocamp.mocamp_backend.repository.JoinedRoomRepository;
+import com.mocamp.mocamp_backend.repository.RoomRepository;
+import com.mocamp.mocamp_backend.service.broadcast.RoomSyncMessage;
+import com.mocamp.mocamp_backend.service.broadcast.RoomSyncRelay;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 소켓 메시지마다 반복되는 방 존재/활성/참여/방장 확인을 메모리에서 처리하는 컴포넌트
+ * 방 단위로 최근 사용 순 캐시를 두고, RoomAccessChangedEvent가 커밋되면 해당 방을 비우고 다른 노드에도 알린다
+ * 다른 노드의 알림(pub/sub)은 유실될 수 있으므로 캐시 항목은 mocamp.room-access.ttl-ms 가 지나면 다시 조회한다
+ */
+@Component
+@Slf4j
+public class RoomAccessGuard {
+
+    private final RoomRepository roomRepository;
+    private final JoinedRoomRepository joinedRoomRepository;
+    private final RoomSyncRelay roomSyncRelay;
+    private final long ttlMillis;
+    private final Map<Long, CachedAccess> cache;
+
+    public RoomAccessGuard(RoomRepository roomRepository,
+                           JoinedRoomRepository joinedRoomRepository,
+                           RoomSyncRelay roomSyncRelay,
+                           @Value("${mocamp.room-access.cache-size:1000}") int cacheSize,
+                           @Value("${mocamp.room-access.ttl-ms:30000}") long ttlMillis) {
+        this.roomRepository = roomRepository;
+        this.joinedRoomRepository = joinedRoomRepository;
+        this.roomSyncRelay = roomSyncRelay;
+        this.ttlMillis = ttlMillis;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedAccess> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * 방의 권한 정보를 조회하는 메서드
+     * @param roomId 방 ID
+     * @return 존재하지 않는 방이면 null
+     */
+    public RoomAccess get(Long roomId) {
+        // 조회를 시작할 때 방마다 토큰을 걸어두고, 조회가 끝났을 때 같은 토큰이 남아 있을 때만 결과를 캐시에 넣는다
+        // 조회 도중 그 방이 무효화되면 토큰이 지워지므로 오래된 결과가 남지 않고, 다른 방의 무효화에는 영향받지 않는다
+        Object loadToken = new Object();
+        synchronized (cache) {
+            CachedAccess cached = cache.get(roomId);
+            if (cached != null && cached.access() != null && cached.expiresAt() > System.currentTimeMillis()) {
+                return cached.access();
+            }
+            cache.put(roomId, new CachedAccess(null, 0, loadToken));
+        }
+
+        RoomEntity roomEntity = roomRepository.findById(roomId).orElse(null);
+        RoomAccess access = roomEntity == null
+                ? null
+                : RoomAccess.of(roomEntity, joinedRoomRepository.findByRoom_RoomIdAndIsParticipatingTrue(roomId));
+
+        synchronized (cache) {
+            CachedAccess current = cache.get(roomId);
+            if (current != null && current.loadToken() == loadToken) {
+                if (access == null) {
+                    cache.remove(roomId);
+                } else {
+                    cache.put(roomId, new CachedAccess(access, System.currentTimeMillis() + ttlMillis, loadToken));
+                }
+            }
+        }
+        return access;
+    }
+
+    /**
+     * 이 노드에 캐시된 방 권한 정보를 비우는 메서드 (다른 노드에는 알리지 않음)
+     * @param roomId 방 ID
+     */
+    public void invalidate(Long roomId) {
+        cache.remove(roomId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomAccessChanged(RoomAccessChangedEvent event) {
+        invalidate(event.getRoomId());
+        roomSyncRelay.publish(RoomSyncMessage.accessChanged(event.getRoomId()));
+        log.debug("[방 권한 캐시 무효화] roomId: {}", event.getRoomId());
+    }
+
+    /**
+     * 다른 노드에서 방 권한 정보가 바뀌었거나 방이 종료되었을 때 이 노드의 캐시를 비우는 메서드
+     */
+    @EventListener
+    public void onRoomSync(RoomSyncMessage message) {
+        if (message.type() == RoomSyncMessage.Type.ACCESS_CHANGED || message.type() == RoomSyncMessage.Type.ROOM_CLOSED) {
+            invalidate(message.roomId());
+            log.debug("[방 권한 캐시 무효화(다른 노드)] roomId: {}", message.roomId());
+        }
+    }
+
+    /**
+     * 캐시 항목 (loadToken은 조회 중인 자리표시 항목과 그 결과를 짝짓는 용도, access가 null이면 조회 중)
+     */
+    private record CachedAccess(RoomAccess access, long expiresAt, Object loadToken) {
+    }
+}
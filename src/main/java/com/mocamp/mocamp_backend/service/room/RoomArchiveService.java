@@ -0,0 +1,52 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import com.mocamp.mocamp_backend.repository.GoalArchiveRepository;
+import com.mocamp.mocamp_backend.repository.GoalRepository;
+import com.mocamp.mocamp_backend.repository.JoinedRoomArchiveRepository;
+import com.mocamp.mocamp_backend.repository.JoinedRoomRepository;
+import com.mocamp.mocamp_backend.repository.RoomArchiveRepository;
+import com.mocamp.mocamp_backend.repository.RoomRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoomArchiveService {
+
+    private final RoomRepository roomRepository;
+    private final JoinedRoomRepository joinedRoomRepository;
+    private final GoalRepository goalRepository;
+    private final RoomArchiveRepository roomArchiveRepository;
+    private final JoinedRoomArchiveRepository joinedRoomArchiveRepository;
+    private final GoalArchiveRepository goalArchiveRepository;
+
+    /**
+     * 종료된 방들을 참여 정보, 목표와 함께 보관 테이블로 옮기는 메서드
+     * 테이블마다 INSERT ... SELECT 한 번으로 복사한 뒤 라이브 테이블에서 삭제하며, 한 트랜잭션이라 중간에 실패하면 배치 전체가 그대로 남는다
+     * @param roomIds 옮길 방 ID 목록 (IN 절 하나에 들어갈 크기)
+     * @return 옮긴 방 수
+     */
+    @Transactional
+    public int archiveRooms(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return 0;
+        }
+
+        roomArchiveRepository.archiveAllByRoomIds(roomIds, LocalDateTime.now());
+        int joinedRooms = joinedRoomArchiveRepository.archiveAllByRoomIds(roomIds);
+        int goals = goalArchiveRepository.archiveAllByRoomIds(roomIds);
+
+        goalRepository.deleteAllByRoomIds(roomIds);
+        joinedRoomRepository.deleteAllByRoomIds(roomIds);
+        int rooms = roomRepository.deleteAllByRoomIds(roomIds);
+
+        log.info("[방 보관 이동] 방 수: {}, 참여 정보 수: {}, 목표 수: {}", rooms, joinedRooms, goals);
+        return rooms;
+    }
+}
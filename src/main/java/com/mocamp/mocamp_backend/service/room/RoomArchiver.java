@@ -0,0 +1,68 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import com.mocamp.mocamp_backend.repository.RoomRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 종료된 지 일정 시간이 지난 방을 주기적으로 보관 테이블로 옮기는 작업
+ * 한 번 실행에 최대 max-batches-per-run 개의 배치만 처리하고, 배치마다 커밋되므로 중간에 멈춰도 다음 실행에서 남은 방부터 이어간다
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mocamp.archive.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class RoomArchiver {
+
+    private final RoomRepository roomRepository;
+    private final RoomArchiveService roomArchiveService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mocamp.archive.min-age-hours:24}")
+    private long minAgeHours;
+
+    @Value("${mocamp.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${mocamp.archive.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(initialDelayString = "${mocamp.archive.interval-ms:600000}", fixedDelayString = "${mocamp.archive.interval-ms:600000}")
+    public void archiveEndedRooms() {
+        LocalDateTime endedBefore = LocalDateTime.now().minusHours(minAgeHours);
+        int archived = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> roomIds = roomRepository.findArchivableRoomIds(endedBefore, PageRequest.of(0, batchSize));
+            if (roomIds.isEmpty()) {
+                break;
+            }
+
+            try {
+                archived += roomArchiveService.archiveRooms(roomIds);
+            } catch (Exception e) {
+                // 배치 단위로 롤백되므로 다음 실행에서 같은 방부터 다시 시도
+                meterRegistry.counter("mocamp.room.archive.failures").increment();
+                log.error("[방 보관 이동 실패] 다음 주기에 재시도 - 첫 roomId: {}, {}", roomIds.get(0), e.getMessage(), e);
+                break;
+            }
+            if (roomIds.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            meterRegistry.counter("mocamp.room.archived").increment(archived);
+            log.info("[방 보관 이동 완료] 이동한 방 수: {}", archived);
+        }
+    }
+}
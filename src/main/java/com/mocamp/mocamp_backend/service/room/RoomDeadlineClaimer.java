@@ -0,0 +1,16 @@
+package com.mocamp.mocamp_backend.service.room;
+
+/**
+ * 방의 종료 알림/종료 처리를 여러 노드 중 한 노드만 실행하도록 선점하는 컴포넌트
+ * 노드마다 서버 시작 시 활동 중인 모든 방을 예약하므로, 예약 작업은 실행 직전에 선점에 성공한 경우에만 진행한다
+ */
+public interface RoomDeadlineClaimer {
+
+    /**
+     * 방의 예약 작업 하나를 선점하는 메서드
+     * @param roomId 방 ID
+     * @param deadline 예약 작업 이름 (예: alert-30, expiry)
+     * @return 이 노드가 실행해야 하면 true, 다른 노드가 이미 선점했으면 false
+     */
+    boolean claim(Long roomId, String deadline);
+}
@@ -0,0 +1,60 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import com.mocamp.mocamp_backend.repository.JoinedRoomRepository;
+import com.mocamp.mocamp_backend.repository.RoomRepository;
+import com.mocamp.mocamp_backend.service.user.UserStatService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoomExpiryService {
+
+    // IN 절 하나에 넣을 최대 방 개수
+    private static final int BATCH_SIZE = 1000;
+
+    private final RoomRepository roomRepository;
+    private final JoinedRoomRepository joinedRoomRepository;
+    private final UserStatService userStatService;
+
+    /**
+     * 종료 시각에 도달한 방들을 한 번에 종료시키는 메서드
+     * 방마다 참여 정보를 불러와 수정하지 않고, room / joined_room 각각 IN 절 UPDATE 한 번으로 처리한다
+     * 활동 중인 방을 잠근 뒤(select ... for update) 처리하므로, 다른 노드의 마지막 퇴장과 겹쳐도
+     * 이 트랜잭션이 실제로 종료한 방만 사용 통계에 반영된다
+     * @param roomIds 종료할 방 ID 목록
+     * @return 실제로 종료된 (아직 활동 중이던) 방 ID 목록
+     */
+    @Transactional
+    public List<Long> expireRooms(Collection<Long> roomIds) {
+        List<Long> requested = new ArrayList<>(roomIds);
+        List<Long> expiredRoomIds = new ArrayList<>();
+
+        for (int from = 0; from < requested.size(); from += BATCH_SIZE) {
+            List<Long> batch = requested.subList(from, Math.min(from + BATCH_SIZE, requested.size()));
+            List<Long> activeRoomIds = roomRepository.lockActiveRoomIds(batch);
+            if (activeRoomIds.isEmpty()) {
+                continue;
+            }
+
+            joinedRoomRepository.closeAllByRoomIds(activeRoomIds);
+            int expired = roomRepository.expireAllByRoomIds(activeRoomIds);
+            if (expired != activeRoomIds.size()) {
+                // 잠근 행이므로 일어나지 않아야 함, 어느 방이 빠졌는지 모르므로 통계를 반영하지 않고 롤백
+                throw new IllegalStateException("잠근 방 수와 종료된 방 수가 다릅니다: " + activeRoomIds.size() + " != " + expired);
+            }
+            userStatService.recordEndedRooms(activeRoomIds);
+            expiredRoomIds.addAll(activeRoomIds);
+        }
+
+        log.info("[방 일괄 종료] 요청 수: {}, 종료 수: {}", requested.size(), expiredRoomIds.size());
+        return expiredRoomIds;
+    }
+}
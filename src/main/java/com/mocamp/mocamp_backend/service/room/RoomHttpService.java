@@ -1,28 +1,38 @@
 package com.mocamp.mocamp_backend.service.room;
 
+import com.mocamp.mocamp_backend.authentication.AuthenticatedUser;
 import com.mocamp.mocamp_backend.authentication.UserDetailsServiceImpl;
 import com.mocamp.mocamp_backend.dto.commonResponse.CommonResponse;
 import com.mocamp.mocamp_backend.dto.commonResponse.ErrorResponse;
 import com.mocamp.mocamp_backend.dto.commonResponse.SuccessResponse;
 import com.mocamp.mocamp_backend.dto.delegation.DelegationUpdateResponse;
+import com.mocamp.mocamp_backend.dto.goal.GoalListResponse;
 import com.mocamp.mocamp_backend.dto.goal.GoalResponse;
 import com.mocamp.mocamp_backend.dto.room.*;
 import com.mocamp.mocamp_backend.dto.websocket.WebsocketMessageType;
 import com.mocamp.mocamp_backend.entity.*;
-import com.mocamp.mocamp_backend.repository.ImageRepository;
 import com.mocamp.mocamp_backend.repository.JoinedRoomRepository;
 import com.mocamp.mocamp_backend.repository.RoomRepository;
 import com.mocamp.mocamp_backend.repository.UserRepository;
+import com.mocamp.mocamp_backend.service.image.ImageProcessingService;
+import com.mocamp.mocamp_backend.service.image.ImageService;
 import com.mocamp.mocamp_backend.service.image.ImageType;
-import com.mocamp.mocamp_backend.service.s3.S3Uploader;
+import com.mocamp.mocamp_backend.service.image.ImageUploadRequestedEvent;
+import com.mocamp.mocamp_backend.service.image.StagedImage;
+import com.mocamp.mocamp_backend.service.image.UploadedImage;
+import com.mocamp.mocamp_backend.service.broadcast.RoomBroadcaster;
+import com.mocamp.mocamp_backend.service.user.UserStatService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.Duration;
@@ -30,6 +40,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -41,17 +52,25 @@ import java.util.stream.Collectors;
 @Slf4j
 public class RoomHttpService {
     private final RoomRepository roomRepository;
-    private final ImageRepository imageRepository;
+    private final ImageService imageService;
     private final JoinedRoomRepository joinedRoomRepository;
     private final UserDetailsServiceImpl userDetailsService;
-    private final S3Uploader s3Uploader;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ImageProcessingService imageProcessingService;
+    private final RoomBroadcaster roomBroadcaster;
+    private final RoomPresenceStore roomPresenceStore;
+    private final RoomScheduler roomScheduler;
+    private final UserStatService userStatService;
+    private final RoomAccessGuard roomAccessGuard;
+    private final RoomOccupancyService roomOccupancyService;
+    private final RoomLaneExecutor roomLaneExecutor;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${cloud.aws.s3.bucket}")
     private String DirName;
     private static final String USER_NOT_FOUND_MESSAGE = "유저정보 조회에 실패했습니다";
     private static final String ROOM_CREATION_MESSAGE = "방 생성에 실패했습니다";
     private static final String IMAGE_SAVING_MESSAGE = "이미지 저장에 실패했습니다";
+    private static final String IMAGE_BUSY_MESSAGE = "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해 주세요";
     private static final String JOINED_ROOM_CREATION_MESSAGE = "방 입장정보 저장에 실패했습니다";
     private static final String ROOM_NOT_FOUND_MESSAGE = "방 정보 조회에 실패했습니다";
     private static final String ROOM_NOT_EXISTING_MESSAGE = "현재 활동 중인 방이 아닙니다";
@@ -73,6 +92,40 @@ public class RoomHttpService {
         return sb.toString();
     }
 
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행할 작업 등록 (트랜잭션 밖에서 호출되면 바로 실행)
+     */
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 롤백되면 실행할 보상 작업 등록 (Redis 인원 카운터처럼 DB 롤백에 묶이지 않는 변경 되돌리기용)
+     * 트랜잭션 밖에서 호출되면 되돌릴 대상이 없으므로 등록하지 않음
+     */
+    private void runOnRollback(Runnable compensation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensation.run();
+                }
+            }
+        });
+    }
+
     /**
      * 방 생성 메서드
      * 방 생성에 필요한 정보를 수신하여 방을 생성하는 메서드
@@ -83,29 +136,39 @@ public class RoomHttpService {
     public ResponseEntity<CommonResponse> createRoom(RoomCreateRequest roomCreateRequest, MultipartFile imageFile) {
         log.info("[방 생성 시작] 요청 roomCreateRequest: {}, 이미지파일: {}", roomCreateRequest, imageFile != null ? imageFile.getOriginalFilename() : "null");
         UserEntity userEntity;
+        AuthenticatedUser authenticatedUser;
         RoomEntity roomEntity;
         JoinedRoomEntity joinedRoomEntity;
         ImageEntity imageEntity;
-        String imagePath = null;
+        StagedImage stagedImage;
+        boolean imageCreated;
 
         try {
-            userEntity = userDetailsService.getUserByContextHolder();
-            log.info("[유저 조회 성공] 유저 ID: {}, 닉네임: {}", userEntity.getUserId(), userEntity.getUsername());
+            authenticatedUser = userDetailsService.getAuthenticatedUser();
+            userEntity = userDetailsService.getUserReference();
+            log.info("[유저 조회 성공] 유저 ID: {}, 닉네임: {}", authenticatedUser.getUserId(), authenticatedUser.getUsername());
         } catch (Exception e) {
             log.error("[유저 조회 실패] {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new ErrorResponse(403, "에러 메시지: " + USER_NOT_FOUND_MESSAGE));
         }
 
+        // 변환 대기열이 가득 차면 업로드를 받지 않고 재시도 가능한 오류로 응답
+        if (!imageProcessingService.hasCapacity()) {
+            log.warn("[이미지 처리 대기열 초과] 유저 ID: {}", authenticatedUser.getUserId());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .body(new ErrorResponse(503, "에러 메시지: " + IMAGE_BUSY_MESSAGE));
+        }
+
         try {
-            imagePath = s3Uploader.uploadImage(imageFile, DirName);
-            log.info("[이미지 업로드 성공] 경로: {}", imagePath);
+            // 변환/업로드는 커밋 후 ImageProcessingService에서 처리
+            stagedImage = imageProcessingService.stage(imageFile);
 
-            imageEntity = ImageEntity.builder()
-                    .type(ImageType.room)
-                    .path(imagePath)
-                    .build();
-            imageEntity = imageRepository.save(imageEntity);
+            // 같은 내용의 이미지가 이미 있거나 처리 중이면 그 행을 재사용
+            UploadedImage uploadedImage = imageService.findOrCreateUploadedImage(stagedImage, ImageType.room);
+            imageEntity = uploadedImage.image();
+            imageCreated = uploadedImage.created();
             log.info("[이미지 저장 성공] 이미지 ID: {}", imageEntity.getImageId());
         } catch (Exception e) {
             log.error("[이미지 저장 실패] {}", e.getMessage(), e);
@@ -131,6 +194,10 @@ public class RoomHttpService {
                     .build();
             roomEntity = roomRepository.save(roomEntity);   // Id 포함한 객체로 재할당
             log.info("[방 저장 성공] 방 ID: {}, 방 이름: {}", roomEntity.getRoomId(), roomEntity.getRoomName());
+            if (imageCreated) {
+                eventPublisher.publishEvent(new ImageUploadRequestedEvent(imageEntity.getImageId(), stagedImage.file(),
+                        stagedImage.contentHash(), imageFile.getContentType(), DirName, roomEntity.getRoomId(), null));
+            }
         } catch (Exception e) {
             log.error("[방 저장 실패] {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -147,6 +214,17 @@ public class RoomHttpService {
                     .micStatus(roomCreateRequest.getMicTurnedOn())
                     .build();
             joinedRoomEntity = joinedRoomRepository.save(joinedRoomEntity);
+            eventPublisher.publishEvent(new RoomAccessChangedEvent(roomEntity.getRoomId()));
+
+            // 메모리 상태(참여자, 종료 예약)는 커밋된 방에만 반영하고, 이후 입장/퇴장과 순서가 섞이지 않도록 방의 작업 순서로 실행
+            Long roomId = roomEntity.getRoomId();
+            Long userId = userEntity.getUserId();
+            RoomEntity createdRoom = roomEntity;
+            JoinedRoomEntity adminJoinedRoom = joinedRoomEntity;
+            runAfterCommit(() -> roomLaneExecutor.execute(roomId, () -> {
+                roomPresenceStore.join(roomId, userId, adminJoinedRoom);
+                roomScheduler.registerCreated(createdRoom);
+            }));
         } catch (Exception e) {
             System.out.println(e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -167,6 +245,7 @@ public class RoomHttpService {
     @Transactional
     public ResponseEntity<CommonResponse> enterRoom(Long roomId, RoomEnterRequest roomEnterRequest) {
         UserEntity userEntity;
+        AuthenticatedUser authenticatedUser;
         RoomEntity roomEntity;
         JoinedRoomEntity joinedRoomEntity;
 
@@ -174,8 +253,9 @@ public class RoomHttpService {
 
         // 유저 검증
         try {
-            userEntity = userDetailsService.getUserByContextHolder();
-            log.info("[유저 확인 완료] userId: {}", userEntity.getUserId());
+            authenticatedUser = userDetailsService.getAuthenticatedUser();
+            userEntity = userDetailsService.getUserReference();
+            log.info("[유저 확인 완료] userId: {}", authenticatedUser.getUserId());
         } catch (Exception e) {
             log.error("[유저 확인 실패] {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -199,60 +279,71 @@ public class RoomHttpService {
                     .body(new ErrorResponse(403, "에러 메시지: " + ROOM_NOT_EXISTING_MESSAGE));
         }
 
-        // 재입장 여부 확인
-        if (joinedRoomRepository.existsByRoomAndUser(roomEntity, userEntity)) {
+        // 재입장 여부 확인 (기존 참여 정보와 목표를 한 번에 조회)
+        Optional<JoinedRoomEntity> optionalJoinedRoom = joinedRoomRepository.findWithGoalsByRoomAndUser(roomEntity, userEntity);
+        if (optionalJoinedRoom.isPresent()) {
             // 재입장 처리
             log.info("[재입장 요청] userId: {}, roomId: {}", userEntity.getUserId(), roomId);
-            joinedRoomEntity = joinedRoomRepository.findByRoomAndUser(roomEntity, userEntity).orElse(null);
-            if(joinedRoomEntity != null) {
-                joinedRoomEntity.setIsParticipating(true);
-                joinedRoomEntity.setIsDeleted(false);
-                joinedRoomEntity.setCamStatus(roomEnterRequest.getCamTurnedOn());
-                joinedRoomEntity.setMicStatus(roomEnterRequest.getMicTurnedOn());
-
-                joinedRoomRepository.save(joinedRoomEntity);
+            joinedRoomEntity = optionalJoinedRoom.get();
+            long occupancy = -1;
+
+            // 이미 참여 중이면(중복 입장) 자리를 다시 잡지 않고, 퇴장했던 유저는 신규 입장과 같이 정원을 확인한다
+            if (!joinedRoomEntity.getIsParticipating()) {
+                occupancy = roomOccupancyService.reserve(roomEntity);
+                if (occupancy < 0) {
+                    log.warn("[재입장 실패] 방 정원 초과. roomId: {}, 최대 인원: {}", roomId, roomEntity.getCapacity());
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(new ErrorResponse(403, "에러 메시지: " + ROOM_ALREADY_FULL_MESSAGE));
+                }
+                // 다른 노드에서 같은 유저의 재입장이 먼저 반영되었으면 잡은 자리를 바로 반납
+                if (joinedRoomRepository.rejoinIfLeft(joinedRoomEntity.getJoinedRoomId(),
+                        roomEnterRequest.getCamTurnedOn(), roomEnterRequest.getMicTurnedOn()) == 0) {
+                    occupancy = roomOccupancyService.release(roomEntity);
+                    log.info("[중복 재입장] userId: {}, roomId: {}", userEntity.getUserId(), roomId);
+                } else {
+                    // 트랜잭션이 롤백되면 잡은 자리를 반납
+                    runOnRollback(() -> roomOccupancyService.release(roomEntity));
+                }
+            } else {
+                log.info("[중복 입장] 이미 참여 중, userId: {}, roomId: {}", userEntity.getUserId(), roomId);
             }
 
-            // 방에 참가 인원에 +1 반영
-            roomEntity.updateRoomNum(roomEntity.getRoomNum() + 1);
-            roomRepository.save(roomEntity);
-
+            joinedRoomEntity.setIsParticipating(true);
+            joinedRoomEntity.setIsDeleted(false);
+            joinedRoomEntity.setCamStatus(roomEnterRequest.getCamTurnedOn());
+            joinedRoomEntity.setMicStatus(roomEnterRequest.getMicTurnedOn());
 
-            Optional<JoinedRoomEntity> optionalJoinedRoom =
-                    joinedRoomRepository.findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue(roomId, userEntity.getUserId());
+            joinedRoomRepository.save(joinedRoomEntity);
+            // 참여자 메모리 상태와 다른 노드 동기화는 커밋된 입장에만 반영 (컨트롤러가 방의 작업 순서 안에서 호출하므로 커밋 직후 같은 순서로 실행됨)
+            Long userId = userEntity.getUserId();
+            JoinedRoomEntity enteredRoom = joinedRoomEntity;
+            runAfterCommit(() -> roomPresenceStore.join(roomId, userId, enteredRoom));
+            eventPublisher.publishEvent(new RoomAccessChangedEvent(roomId));
 
             List<GoalResponse> goalResponses = new ArrayList<>();
-
-            if (optionalJoinedRoom.isPresent()) {
-                JoinedRoomEntity joinedRoom = optionalJoinedRoom.get();
-                log.info("joinedRoom id 확인 {}",joinedRoom.getJoinedRoomId());
-                List<GoalEntity> goals = joinedRoom.getGoals();
-                if (goals != null) {
-                    for (GoalEntity goal : goals) {
-                        log.info("나의 목표 갖고오기 -> {}", goal.toString());
-                        log.info("➡️ GoalEntity: id = {}, content = {}, isCompleted = {}");
-                        goalResponses.add(GoalResponse.builder()
-                                .goalId(goal.getGoalId())
-                                .content(goal.getContent())
-                                .isCompleted(goal.getIsCompleted())
-                                .build());
-                    }
-                }
+            for (GoalEntity goal : joinedRoomEntity.getGoals()) {
+                goalResponses.add(GoalResponse.builder()
+                        .goalId(goal.getGoalId())
+                        .content(goal.getContent())
+                        .isCompleted(goal.getIsCompleted())
+                        .build());
             }
 
             // 새로운 인원 들어온 새 유저 정보를 채널로 전송
-            messagingTemplate.convertAndSend("/sub/data/" + roomId , new RoomEnterUserUpdateResponse(WebsocketMessageType.USER_ENTER_UPDATED, userEntity.getUserId(), userEntity.getUsername(), goalResponses));
+            roomBroadcaster.broadcast(roomId, new RoomEnterUserUpdateResponse(WebsocketMessageType.USER_ENTER_UPDATED, authenticatedUser.getUserId(), authenticatedUser.getUsername(), goalResponses));
 
-            log.info("[재입장 완료] userId: {}, roomId: {}, 현재 인원 수: {}", userEntity.getUserId(), roomId, roomEntity.getRoomNum());
+            log.info("[재입장 완료] userId: {}, roomId: {}, 현재 인원 수: {}", userEntity.getUserId(), roomId, occupancy);
             return ResponseEntity.ok(new SuccessResponse(200, "재입장이 완료되었습니다"));
         } else {
-            // 신규 입장
-            if (roomEntity.getRoomNum() >= roomEntity.getCapacity()) {
-                log.warn("[입장 실패] 방 정원 초과. roomId: {}, 현재 인원: {}, 최대 인원: {}",
-                        roomId, roomEntity.getRoomNum(), roomEntity.getCapacity());
+            // 신규 입장 (정원 확인과 인원 +1을 카운터에서 한 번에 처리, room_num에는 주기적으로 반영)
+            long occupancy = roomOccupancyService.reserve(roomEntity);
+            if (occupancy < 0) {
+                log.warn("[입장 실패] 방 정원 초과. roomId: {}, 최대 인원: {}", roomId, roomEntity.getCapacity());
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                         .body(new ErrorResponse(403, "에러 메시지: " + ROOM_ALREADY_FULL_MESSAGE));
             }
+            // 참여 정보 저장 등으로 트랜잭션이 롤백되면 예약한 자리를 반납 (커밋 시점 실패도 포함)
+            runOnRollback(() -> roomOccupancyService.release(roomEntity));
 
             log.info("[신규 입장 요청] userId: {}, roomId: {}", userEntity.getUserId(), roomId);
             joinedRoomEntity = JoinedRoomEntity.builder()
@@ -263,35 +354,20 @@ public class RoomHttpService {
                     .micStatus(roomEnterRequest.getMicTurnedOn())
                     .camStatus(roomEnterRequest.getCamTurnedOn())
                     .build();
-            joinedRoomRepository.save(joinedRoomEntity);
-
-            // 방에 참가 인원에 +1 반영
-            roomEntity.updateRoomNum(roomEntity.getRoomNum() + 1);
-            roomRepository.save(roomEntity);
-
-            Optional<JoinedRoomEntity> optionalJoinedRoom =
-                    joinedRoomRepository.findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue(roomId, userEntity.getUserId());
+            joinedRoomEntity = joinedRoomRepository.save(joinedRoomEntity);
+            // 참여자 메모리 상태와 다른 노드 동기화는 커밋된 입장에만 반영
+            Long userId = userEntity.getUserId();
+            JoinedRoomEntity enteredRoom = joinedRoomEntity;
+            runAfterCommit(() -> roomPresenceStore.join(roomId, userId, enteredRoom));
+            eventPublisher.publishEvent(new RoomAccessChangedEvent(roomId));
 
+            // 신규 참여 정보에는 아직 목표가 없음
             List<GoalResponse> goalResponses = new ArrayList<>();
 
-            if (optionalJoinedRoom.isPresent()) {
-                JoinedRoomEntity joinedRoom = optionalJoinedRoom.get();
-                List<GoalEntity> goals = joinedRoom.getGoals();
-                if (goals != null) {
-                    for (GoalEntity goal : goals) {
-                        goalResponses.add(GoalResponse.builder()
-                                .goalId(goal.getGoalId())
-                                .content(goal.getContent())
-                                .isCompleted(goal.getIsCompleted())
-                                .build());
-                    }
-                }
-            }
-
             // 새로운 인원 들어온 새 유저 정보를 채널로 전송
-            messagingTemplate.convertAndSend("/sub/data/" + roomId , new RoomEnterUserUpdateResponse(WebsocketMessageType.USER_ENTER_UPDATED, userEntity.getUserId(), userEntity.getUsername(), goalResponses));
+            roomBroadcaster.broadcast(roomId, new RoomEnterUserUpdateResponse(WebsocketMessageType.USER_ENTER_UPDATED, authenticatedUser.getUserId(), authenticatedUser.getUsername(), goalResponses));
 
-            log.info("[신규 입장 완료] userId: {}, roomId: {}, 현재 인원 수: {}", userEntity.getUserId(), roomId, roomEntity.getRoomNum());
+            log.info("[신규 입장 완료] userId: {}, roomId: {}, 현재 인원 수: {}", userEntity.getUserId(), roomId, occupancy);
             return ResponseEntity.ok(new SuccessResponse(200, "입장이 완료되었습니다"));
         }
     }
@@ -304,13 +380,15 @@ public class RoomHttpService {
     @Transactional
     public ResponseEntity<CommonResponse> exitRoom(Long roomId) {
         UserEntity userEntity;
+        AuthenticatedUser authenticatedUser;
         RoomEntity roomEntity;
         JoinedRoomEntity currentRoomEntity;
         String delegationName;
 
         // 유저 검증
         try {
-            userEntity = userDetailsService.getUserByContextHolder();
+            authenticatedUser = userDetailsService.getAuthenticatedUser();
+            userEntity = userDetailsService.getUserReference();
         } catch (Exception e) {
             log.error("[유저 확인 실패] {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -326,31 +404,44 @@ public class RoomHttpService {
         }
         roomEntity = optionalRoomEntity.get();
 
+        // 참여 중이 아닌 유저(이미 퇴장했거나 종료된 방 포함)는 아무것도 바꾸지 않음
+        RoomAccess roomAccess = roomAccessGuard.get(roomId);
+        if (roomAccess == null || !roomAccess.isParticipant(userEntity.getUserId())) {
+            log.warn("[퇴장 실패] userId: {} 는 roomId: {} 에 참여하지 않음", userEntity.getUserId(), roomId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ErrorResponse(403, "에러 메시지: " + USER_NOT_IN_ROOM_MESSAGE));
+        }
+
+        // 인원 -1 (room_num에는 RoomOccupancyService가 주기적으로 반영)
+        long remainingNum = roomOccupancyService.release(roomEntity);
+        // 트랜잭션이 롤백되면 퇴장도 취소되므로 줄인 인원을 되돌림
+        runOnRollback(() -> roomOccupancyService.reserveIgnoringCapacity(roomEntity));
+
         // 마지막 참가자 퇴장 (모캠프 방 종료)
         // status 변경, 사용시간 계산 후 폐쇄 조치 (isDeleted = true)
         // 마지막 참가자가 퇴장하면, 해당 방에 들어왔던 참가자의 모든 joinedRoomEntity의 isDeleted를 true로 바꿔줘야 함
-        if(roomEntity.getRoomNum() <= 1) {
+        if(remainingNum <= 0) {
             log.info("[마지막 참가자 퇴장 감지] roomId: {}, userId: {}", roomId, userEntity.getUserId());
-            roomEntity.setStatus(false);
-            roomEntity.setEndedAt(LocalDateTime.now());
-            roomEntity.setIsDeleted(true);
-
-            // 사용 시간 계산
-            Duration duration = Duration.between(roomEntity.getStartedAt(), roomEntity.getEndedAt());
-            roomEntity.setDuration(LocalTime.ofSecondOfDay(duration.getSeconds()));    // 종료시각 - 시작시각으로 설정
-            log.info("[방 종료 처리 완료] roomId: {}, 사용 시간: {}", roomId, roomEntity.getDuration());
-
-            // 해당 방에 연결된 모든 JoinedRoomEntity 가져오기
-            List<JoinedRoomEntity> joinedRoomList = joinedRoomRepository.findAllByRoom(roomEntity);
-            for (JoinedRoomEntity joinedRoom : joinedRoomList) {
-                joinedRoom.setIsDeleted(true);
-                joinedRoom.setIsParticipating(false);
+            // 이미 종료된 방(다른 노드의 퇴장이나 일괄 종료가 먼저 처리)이면 종료 시각, 사용 시간, 통계가 반영되어 있으므로 다시 처리하지 않음
+            // status = true 조건의 UPDATE가 성공한 트랜잭션만 이후 처리를 하므로 동시에 종료해도 통계가 두 번 쌓이지 않는다
+            LocalDateTime endedAt = LocalDateTime.now();
+            Duration duration = Duration.between(roomEntity.getStartedAt(), endedAt);   // 종료시각 - 시작시각으로 설정
+            if (roomRepository.endIfActive(roomId, endedAt, LocalTime.ofSecondOfDay(duration.getSeconds())) == 1) {
+                log.info("[방 종료 처리 완료] roomId: {}, 사용 시간: {}", roomId, LocalTime.ofSecondOfDay(duration.getSeconds()));
+
+                // 해당 방에 연결된 모든 JoinedRoomEntity를 UPDATE 한 번으로 종료 처리
+                joinedRoomRepository.closeAllByRoomIds(List.of(roomId));
+                userStatService.recordEndedRooms(List.of(roomId));
+                // 메모리 상태 정리와 종료 예약 취소는 종료가 커밋된 뒤에만 (롤백되면 방은 계속 진행 중이어야 함)
+                runAfterCommit(() -> {
+                    roomPresenceStore.removeRoom(roomId);
+                    roomOccupancyService.clear(roomId);
+                    roomScheduler.cancel(roomId);
+                });
+                eventPublisher.publishEvent(new RoomAccessChangedEvent(roomId));
+
+                log.info("[모든 참가자 퇴장 처리 완료] roomId: {}", roomId);
             }
-            roomEntity.setRoomNum(0);
-            joinedRoomRepository.saveAll(joinedRoomList);
-            roomRepository.save(roomEntity);
-
-            log.info("[모든 참가자 퇴장 처리 완료] roomId: {}", roomId);
 
             return ResponseEntity.ok(new SuccessResponse(200, "퇴장 성공(모캠프 종료)"));
         } else {
@@ -359,49 +450,47 @@ public class RoomHttpService {
             // 방장일 경우, 그냥 나가면 랜덤으로 방장 위임 진행
             currentRoomEntity = joinedRoomRepository.findByRoomAndUser(roomEntity, userEntity).orElse(null);
 
+            // 방장 여부는 읽어 둔 엔티티가 아니라 조건부 UPDATE 결과로 판단
+            // (다른 노드에서 같은 방장의 위임이 먼저 커밋되었으면 0이 되어 일반 참가자로 퇴장)
+            boolean wasAdmin = joinedRoomRepository.revokeAdminIfCurrent(roomId, userEntity.getUserId()) == 1;
+            joinedRoomRepository.leave(currentRoomEntity.getJoinedRoomId());
+
             // 방장인 경우
-            if (currentRoomEntity.getIsAdmin()) {
+            if (wasAdmin) {
                 log.info("[방장 퇴장 시도] roomId: {}, userId: {}", roomId, userEntity.getUserId());
 
-                currentRoomEntity.setIsAdmin(false);
-                currentRoomEntity.setIsParticipating(false);
-
                 // 참여 중이고, 나가는 사람 제외한 유저 목록
                 List<JoinedRoomEntity> remaining = joinedRoomRepository
                         .findByRoom_RoomIdAndIsParticipatingTrue(roomEntity.getRoomId()).stream()
                         .filter(j -> !j.getUser().getUserId().equals(userEntity.getUserId()))
                         .collect(Collectors.toList());
 
-                // 남은 사람이 있다면 랜덤으로 방장 위임
-                if (!remaining.isEmpty()) {
-                    JoinedRoomEntity newAdmin = remaining.get(new Random().nextInt(remaining.size()));
-                    newAdmin.setIsAdmin(true);
-                    delegationName = newAdmin.getUser().getUsername();
-                    joinedRoomRepository.save(newAdmin);
+                // 남은 사람이 있다면 랜덤으로 방장 위임 (그 사이 다른 노드로 퇴장한 유저는 건너뜀)
+                Collections.shuffle(remaining);
+                for (JoinedRoomEntity newAdmin : remaining) {
+                    if (joinedRoomRepository.grantAdminIfParticipating(newAdmin.getJoinedRoomId()) == 1) {
+                        delegationName = newAdmin.getUser().getUsername();
 
-                    log.info("[방장 위임 완료] from userId: {} to userId: {}", userEntity.getUserId(), newAdmin.getUser().getUserId());
-                    messagingTemplate.convertAndSend("/sub/data/" + roomId , new DelegationUpdateResponse(WebsocketMessageType.ADMIN_UPDATED, userEntity.getUsername(), delegationName));
+                        log.info("[방장 위임 완료] from userId: {} to userId: {}", userEntity.getUserId(), newAdmin.getUser().getUserId());
+                        roomBroadcaster.broadcast(roomId, new DelegationUpdateResponse(WebsocketMessageType.ADMIN_UPDATED, authenticatedUser.getUsername(), delegationName));
+                        break;
+                    }
                 }
 
-                roomEntity.setRoomNum(roomEntity.getRoomNum() - 1);
-                roomRepository.save(roomEntity);
-
                 // 나가는 유저 정보를 채널로 전송
-                messagingTemplate.convertAndSend("/sub/data/" + roomId , new RoomExitUserUpdateResponse(WebsocketMessageType.USER_EXIT_UPDATED, userEntity.getUserId()));
+                roomBroadcaster.broadcast(roomId, new RoomExitUserUpdateResponse(WebsocketMessageType.USER_EXIT_UPDATED, userEntity.getUserId()));
 
                 log.info("[방장 퇴장 완료] userId: {}, roomId: {}", userEntity.getUserId(), roomId);
             } else {
                 // 일반 참가자
-                currentRoomEntity.setIsParticipating(false);
-                roomEntity.setRoomNum(roomEntity.getRoomNum() - 1);
-                roomRepository.save(roomEntity);
-
                 // 나가는 유저 정보를 채널로 전송
-                messagingTemplate.convertAndSend("/sub/data/" + roomId , new RoomExitUserUpdateResponse(WebsocketMessageType.USER_EXIT_UPDATED, userEntity.getUserId()));
+                roomBroadcaster.broadcast(roomId, new RoomExitUserUpdateResponse(WebsocketMessageType.USER_EXIT_UPDATED, userEntity.getUserId()));
 
                 log.info("[일반 참가자 퇴장 완료] userId: {}, roomId: {}", userEntity.getUserId(), roomId);
             }
-            joinedRoomRepository.save(currentRoomEntity);
+            Long userId = userEntity.getUserId();
+            runAfterCommit(() -> roomPresenceStore.leave(roomId, userId));
+            eventPublisher.publishEvent(new RoomAccessChangedEvent(roomId));
             return ResponseEntity.ok(new SuccessResponse(200, "퇴장 성공"));
         }
     }
@@ -426,15 +515,15 @@ public class RoomHttpService {
      * @return 자신을 포함하여 현재 방에 속해 있는 멤버들의 데이터 전체
      */
     public ResponseEntity<CommonResponse> getRoomDataById(Long roomId) {
-        UserEntity userEntity;
+        AuthenticatedUser authenticatedUser;
         RoomEntity roomEntity;
 
         log.info("[방 데이터 조회 요청] roomId: {}", roomId);
 
         // 유저 검증
         try {
-            userEntity = userDetailsService.getUserByContextHolder();
-            log.info("[유저 인증 완료] userId: {}", userEntity.getUserId());
+            authenticatedUser = userDetailsService.getAuthenticatedUser();
+            log.info("[유저 인증 완료] userId: {}", authenticatedUser.getUserId());
         } catch (Exception e) {
             log.error("[유저 인증 실패] {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -460,15 +549,15 @@ public class RoomHttpService {
      * @return 자신을 포함하여 현재 방에 속해 있는 멤버들의 데이터 전체
      */
     public ResponseEntity<CommonResponse> getRoomDataBySeq(String roomSeq) {
-        UserEntity userEntity;
+        AuthenticatedUser authenticatedUser;
         RoomEntity roomEntity;
 
         log.info("[방 데이터 조회 요청] roomSeq: {}", roomSeq);
 
         // 유저 검증
         try {
-            userEntity = userDetailsService.getUserByContextHolder();
-            log.info("[유저 인증 완료] userId: {}", userEntity.getUserId());
+            authenticatedUser = userDetailsService.getAuthenticatedUser();
+            log.info("[유저 인증 완료] userId: {}", authenticatedUser.getUserId());
         } catch (Exception e) {
             log.error("[유저 인증 실패] {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -496,9 +585,9 @@ public class RoomHttpService {
     public ResponseEntity<CommonResponse> getRoomParticipantData(Long roomId) {
         log.info("[방 참가자 데이터 조회 요청] roomId: {}", roomId);
 
-        UserEntity user;
+        AuthenticatedUser user;
         try {
-            user = userDetailsService.getUserByContextHolder();
+            user = userDetailsService.getAuthenticatedUser();
             log.info("[유저 인증 완료] userId: {}", user.getUserId());
         } catch (Exception e) {
             log.error("[유저 인증 실패] {}", e.getMessage());
@@ -507,32 +596,29 @@ public class RoomHttpService {
         }
 
         // roomId에 해당하는 방이 존재하는지 확인
-        RoomEntity roomEntity = roomRepository.findById(roomId).orElse(null);
-        if (roomEntity == null) {
+        RoomAccess roomAccess = roomAccessGuard.get(roomId);
+        if (roomAccess == null) {
             log.warn("[방 조회 실패] 존재하지 않는 roomId: {}", roomId);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(new ErrorResponse(404, ROOM_NOT_FOUND_MESSAGE));
         }
 
         // 해당하는 방이 활동중인지 확인
-        if (!roomEntity.getStatus()) {
+        if (!roomAccess.isActive()) {
             log.warn("[비활성 방] roomId: {}", roomId);
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(new ErrorResponse(403, ROOM_NOT_ACTIVE_MESSAGE));
         }
 
         // 해당 방에 현재 유저가 참여 중인지 확인
-        JoinedRoomEntity joinedRoomEntity = joinedRoomRepository
-                .findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue(roomId, user.getUserId())
-                .orElse(null);
-        if (joinedRoomEntity == null) {
+        if (!roomAccess.isParticipant(user.getUserId())) {
             log.warn("[참여 중 아님] userId: {} 는 roomId: {} 에 참여하지 않음", user.getUserId(), roomId);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(new ErrorResponse(403, USER_NOT_IN_ROOM_MESSAGE));
         }
 
-        // 현재 방에 참여 중인 유저 목록 조회
-        List<JoinedRoomEntity> joinedRoomEntityList = joinedRoomRepository.findByRoom_RoomIdAndIsParticipatingTrue(roomId);
+        // 현재 방에 참여 중인 유저 목록을 유저 정보, 목표와 함께 한 번에 조회
+        List<JoinedRoomEntity> joinedRoomEntityList = joinedRoomRepository.findParticipantsWithGoalsByRoomId(roomId);
         log.info("[방 참가자 수] roomId: {}, 참여 인원 수: {}", roomId, joinedRoomEntityList.size());
 
         List<RoomParticipantResponse> roomParticipantResponseList = new ArrayList<>();
@@ -547,15 +633,22 @@ public class RoomHttpService {
                         .build());
             }
 
+            // 상태값은 DB 반영 전일 수 있으므로 메모리에 있는 최신 상태를 우선 사용
+            ParticipantPresence presence = roomPresenceStore.peek(roomId, joinedRoom.getUser().getUserId());
+            if (presence == null) {
+                presence = ParticipantPresence.from(joinedRoom);
+            }
+
             RoomParticipantResponse roomParticipantResponse = RoomParticipantResponse.builder()
                     .userId(joinedRoom.getUser().getUserId())
                     .username(joinedRoom.getUser().getUsername())
                     .resolution(joinedRoom.getResolution())
                     .isMyGoal(user.getUserId().equals(joinedRoom.getUser().getUserId()))
                     .isSecret(joinedRoom.getIsSecret())
-                    .workStatus(joinedRoom.getWorkStatus())
-                    .micStatus(joinedRoom.getMicStatus())
-                    .camStatus(joinedRoom.getCamStatus())
+                    .workStatus(presence.getWorkStatus())
+                    .micStatus(presence.getMicStatus())
+                    .camStatus(presence.getCamStatus())
+                    .goalVersion(joinedRoom.getGoalVersion())
                     .goals(goalResponses)
                     .build();
 
@@ -564,4 +657,56 @@ public class RoomHttpService {
 
         return ResponseEntity.ok(new SuccessResponse(200, roomParticipantResponseList));
     }
+
+    /**
+     * 방 참가자 한 명의 목표 목록 조회 메서드
+     * 목표 변경분(GOAL_LIST_DELTA)의 버전이 건너뛰어진 경우 클라이언트가 다시 동기화할 때 사용
+     * @param roomId 방 ID
+     * @param userId 목표를 조회할 참가자 ID
+     * @return 목표 목록, 공개 여부, 현재 목표 버전
+     */
+    public ResponseEntity<CommonResponse> getParticipantGoals(Long roomId, Long userId) {
+        AuthenticatedUser user;
+        try {
+            user = userDetailsService.getAuthenticatedUser();
+        } catch (Exception e) {
+            log.error("[유저 인증 실패] {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse(403, "에러 메시지: " + USER_NOT_FOUND_MESSAGE));
+        }
+
+        RoomAccess roomAccess = roomAccessGuard.get(roomId);
+        if (roomAccess == null) {
+            log.warn("[방 조회 실패] 존재하지 않는 roomId: {}", roomId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ErrorResponse(404, ROOM_NOT_FOUND_MESSAGE));
+        }
+
+        if (!roomAccess.isActive()) {
+            log.warn("[비활성 방] roomId: {}", roomId);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ErrorResponse(403, ROOM_NOT_ACTIVE_MESSAGE));
+        }
+
+        // 요청자와 조회 대상 모두 방에 참여 중이어야 함
+        Long joinedRoomId = roomAccess.getJoinedRoomId(userId);
+        if (!roomAccess.isParticipant(user.getUserId()) || joinedRoomId == null) {
+            log.warn("[참여 중 아님] 요청자: {}, 대상: {}, roomId: {}", user.getUserId(), userId, roomId);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ErrorResponse(403, USER_NOT_IN_ROOM_MESSAGE));
+        }
+
+        JoinedRoomEntity joinedRoom = joinedRoomRepository.findWithGoalsByJoinedRoomId(joinedRoomId).orElse(null);
+        if (joinedRoom == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ErrorResponse(403, USER_NOT_IN_ROOM_MESSAGE));
+        }
+
+        List<GoalResponse> goalResponses = joinedRoom.getGoals().stream()
+                .map(goal -> new GoalResponse(goal.getGoalId(), goal.getContent(), goal.getIsCompleted()))
+                .toList();
+
+        return ResponseEntity.ok(new SuccessResponse(200, new GoalListResponse(null, userId, goalResponses,
+                joinedRoom.getIsSecret(), user.getUserId().equals(userId), joinedRoom.getGoalVersion())));
+    }
 }
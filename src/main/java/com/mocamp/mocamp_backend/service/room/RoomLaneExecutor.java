@@ -0,0 +1,207 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 방 단위로 변경 작업을 순서대로 실행하는 실행기
+ * 같은 방의 입장/퇴장/방장 위임/목표/공지 변경은 한 줄(lane)로 차례대로 실행되고, 서로 다른 방은 병렬로 실행된다
+ * 순서는 이 JVM 안에서만 보장되므로 여러 노드(redis 모드)에서의 경쟁은 막지 못한다
+ * 노드 간 정합성은 DB의 조건부 UPDATE(방장 위임/해제, 재입장, 방 종료)와 Redis 인원 카운터가 맡고,
+ * 이 실행기는 한 노드 안의 메모리 상태(참여자, 종료 예약) 갱신 순서와 DB 경합을 줄이는 용도로 사용한다
+ */
+@Component
+@Slf4j
+public class RoomLaneExecutor {
+
+    private final Executor workerExecutor;
+    private final long callTimeoutMs;
+
+    // roomId -> 해당 방에서 마지막으로 등록된 작업 (완료되면 제거)
+    private final Map<Long, CompletableFuture<?>> laneTails = new ConcurrentHashMap<>();
+    private final Object multiLaneLock = new Object();
+
+    public RoomLaneExecutor(MeterRegistry meterRegistry,
+                            @Value("${mocamp.threads.mode:platform}") String threadsMode,
+                            @Value("${mocamp.room-lane.threads:0}") int threads,
+                            @Value("${mocamp.room-lane.call-timeout-ms:10000}") long callTimeoutMs) {
+        this.workerExecutor = createWorkerExecutor(threadsMode, threads);
+        this.callTimeoutMs = callTimeoutMs;
+
+        Gauge.builder("mocamp.room.lane.active", laneTails, Map::size)
+                .description("실행 중이거나 대기 중인 작업이 있는 방 수")
+                .register(meterRegistry);
+    }
+
+    private static Executor createWorkerExecutor(String threadsMode, int threads) {
+        if ("virtual".equals(threadsMode)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("room-lane-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        // 작업이 DB 호출로 블로킹되므로 기본값은 코어 수의 2배
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors() * 2;
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "room-lane-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 방의 작업 순서에 맞춰 실행하고 결과를 기다리는 메서드 (HTTP 요청용)
+     * 호출 스레드의 SecurityContext를 그대로 넘겨 실행한다
+     * 시간 안에 끝나지 않으면 아직 시작하지 않은 작업은 취소하고, 이미 시작한 작업은 그대로 두고 결과를 알 수 없다고 알린다
+     * @param roomId 방 ID
+     * @param task 실행할 작업
+     * @return 작업 결과
+     * @throws RoomLaneTimeoutException 대기 시간 초과 (started 로 작업 실행 여부 구분)
+     */
+    public <T> T call(Long roomId, Supplier<T> task) {
+        AtomicBoolean claimed = new AtomicBoolean();
+        CompletableFuture<T> future = submit(roomId, claimed, task);
+        try {
+            return future.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            // 작업보다 먼저 선점하면 작업은 실행되지 않는다
+            boolean started = !claimed.compareAndSet(false, true);
+            log.warn("[방 작업 대기 시간 초과] roomId: {}, {}ms, 작업 시작 여부: {}", roomId, callTimeoutMs, started);
+            throw new RoomLaneTimeoutException(roomId, started);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 방의 작업 순서에 맞춰 실행하고 결과는 기다리지 않는 메서드 (웹소켓 메시지용)
+     * @param roomId 방 ID
+     * @param task 실행할 작업
+     * @return 작업이 끝나면 완료되는 Future (처리 시간 측정용)
+     */
+    public CompletableFuture<Void> execute(Long roomId, Runnable task) {
+        CompletableFuture<Void> future = submit(roomId, new AtomicBoolean(), () -> {
+            task.run();
+            return null;
+        });
+        future.whenComplete((result, e) -> {
+            if (e != null) {
+                log.error("[방 작업 실패] roomId: {}, {}", roomId, e.getMessage(), e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 여러 방의 작업 순서에 한꺼번에 끼워 실행하는 메서드 (종료 시각이 된 방 일괄 종료용)
+     * 각 방에서 앞서 등록된 작업이 모두 끝난 뒤 한 번 실행되고, 그동안 이 방들에 새로 등록된 작업은 이 작업 뒤에 실행된다
+     * @param roomIds 방 ID 목록
+     * @param task 실행할 작업
+     * @return 작업 결과 Future
+     */
+    public <T> CompletableFuture<T> submitAll(Collection<Long> roomIds, Supplier<T> task) {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Set<Long> lanes = new LinkedHashSet<>(roomIds);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        List<CompletableFuture<?>> previousTails = new ArrayList<>();
+
+        // 여러 방을 잡는 작업끼리 서로의 뒤를 기다리며 교착되지 않도록 한 번에 하나씩 등록한다
+        synchronized (multiLaneLock) {
+            for (Long roomId : lanes) {
+                laneTails.compute(roomId, (id, tail) -> {
+                    if (tail != null) {
+                        previousTails.add(tail.handle((ignored, e) -> null));
+                    }
+                    return result;
+                });
+            }
+        }
+
+        CompletableFuture.allOf(previousTails.toArray(CompletableFuture[]::new))
+                .thenApplyAsync(ignored -> runWithContext(securityContext, task), workerExecutor)
+                .whenComplete((value, e) -> {
+                    if (e != null) {
+                        result.completeExceptionally(e);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+        result.whenComplete((value, e) -> lanes.forEach(roomId -> laneTails.remove(roomId, result)));
+        return result;
+    }
+
+    private <T> CompletableFuture<T> submit(Long roomId, AtomicBoolean claimed, Supplier<T> task) {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        AtomicReference<CompletableFuture<T>> submitted = new AtomicReference<>();
+
+        laneTails.compute(roomId, (id, tail) -> {
+            CompletableFuture<?> previous = tail == null ? CompletableFuture.completedFuture(null) : tail;
+            // 앞선 작업의 성공/실패와 관계없이 끝난 뒤에 실행
+            CompletableFuture<T> next = previous
+                    .handle((result, e) -> null)
+                    .thenApplyAsync(ignored -> {
+                        // 기다리던 호출자가 시간 초과로 먼저 선점했으면 실행하지 않음
+                        if (!claimed.compareAndSet(false, true)) {
+                            throw new CancellationException("대기 시간 초과로 취소된 방 작업");
+                        }
+                        return runWithContext(securityContext, task);
+                    }, workerExecutor);
+            submitted.set(next);
+            return next;
+        });
+
+        CompletableFuture<T> next = submitted.get();
+        next.whenComplete((result, e) -> laneTails.remove(roomId, next));
+        return next;
+    }
+
+    private <T> T runWithContext(SecurityContext securityContext, Supplier<T> task) {
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            return task.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workerExecutor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+}
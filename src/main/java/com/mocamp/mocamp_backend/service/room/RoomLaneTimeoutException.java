@@ -0,0 +1,20 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import lombok.Getter;
+
+/**
+ * RoomLaneExecutor.call 이 정해진 시간 안에 끝나지 않았을 때 발생하는 예외
+ * started 가 false 이면 작업은 실행되지 않고 취소되었으므로 그대로 다시 요청해도 되고,
+ * true 이면 작업이 이미 실행 중이어서 결과(커밋 여부)를 알 수 없으므로 상태를 다시 조회한 뒤 판단해야 한다
+ */
+@Getter
+public class RoomLaneTimeoutException extends RuntimeException {
+    private final Long roomId;
+    private final boolean started;
+
+    public RoomLaneTimeoutException(Long roomId, boolean started) {
+        super(started ? "방 작업 결과를 확인하지 못했습니다" : "방 작업 대기 시간이 초과되어 취소되었습니다");
+        this.roomId = roomId;
+        this.started = started;
+    }
+}
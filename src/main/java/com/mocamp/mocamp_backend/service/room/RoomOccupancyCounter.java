@@ -0,0 +1,27 @@
+package com.mocamp.mocamp_backend.service.room;
+
+/**
+ * 방 인원 수를 원자적으로 증감하는 카운터
+ * 카운터가 아직 없는 방은 DB의 room_num 값(seed)으로 시작한다
+ */
+public interface RoomOccupancyCounter {
+
+    /**
+     * 정원 미만이면 인원 수를 1 늘리는 메서드
+     * @return 늘어난 인원 수, 정원이 가득 찼으면 -1
+     */
+    long tryReserve(Long roomId, int capacity, int seed);
+
+    /**
+     * 인원 수를 1 줄이는 메서드 (0 미만으로 내려가지 않음)
+     * @return 줄어든 인원 수
+     */
+    long release(Long roomId, int seed);
+
+    /**
+     * @return 현재 인원 수, 카운터가 없으면 null
+     */
+    Long get(Long roomId);
+
+    void remove(Long roomId);
+}
@@ -0,0 +1,107 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import com.mocamp.mocamp_backend.entity.RoomEntity;
+import com.mocamp.mocamp_backend.repository.RoomRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방 입장/퇴장 시 인원 수를 카운터로 판정하고, room.room_num 에는 주기적으로 반영하는 서비스
+ * 입장 가능 여부를 DB 조회 없이 O(1)로 판단하기 위해 사용한다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoomOccupancyService {
+
+    private final RoomOccupancyCounter roomOccupancyCounter;
+    private final RoomRepository roomRepository;
+
+    // room_num 반영을 기다리는 방
+    private final Set<Long> dirtyRoomIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 정원 안에서 자리를 하나 예약하는 메서드
+     * @param room Room 엔티티 (카운터가 없을 때 room_num, capacity 사용)
+     * @return 예약 후 인원 수, 정원 초과면 -1
+     */
+    public long reserve(RoomEntity room) {
+        return reserve(room, room.getCapacity());
+    }
+
+    /**
+     * 정원 검사 없이 자리를 하나 늘리는 메서드 (퇴장이 롤백되어 반납한 자리를 되돌릴 때)
+     * @param room Room 엔티티
+     * @return 늘어난 인원 수
+     */
+    public long reserveIgnoringCapacity(RoomEntity room) {
+        return reserve(room, Integer.MAX_VALUE);
+    }
+
+    private long reserve(RoomEntity room, int capacity) {
+        long occupancy = roomOccupancyCounter.tryReserve(room.getRoomId(), capacity, room.getRoomNum());
+        if (occupancy >= 0) {
+            dirtyRoomIds.add(room.getRoomId());
+        }
+        return occupancy;
+    }
+
+    /**
+     * 자리를 하나 반납하는 메서드
+     * @param room Room 엔티티
+     * @return 반납 후 남은 인원 수
+     */
+    public long release(RoomEntity room) {
+        long occupancy = roomOccupancyCounter.release(room.getRoomId(), room.getRoomNum());
+        dirtyRoomIds.add(room.getRoomId());
+        return occupancy;
+    }
+
+    /**
+     * 종료된 방의 카운터를 정리하는 메서드 (room_num은 종료 처리에서 0으로 저장됨)
+     * @param roomId 방 ID
+     */
+    public void clear(Long roomId) {
+        dirtyRoomIds.remove(roomId);
+        roomOccupancyCounter.remove(roomId);
+    }
+
+    /**
+     * 카운터 값을 room.room_num 에 반영하는 메서드
+     */
+    @Scheduled(fixedDelayString = "${mocamp.room.occupancy.reconcile-interval-ms:1000}")
+    public void reconcile() {
+        if (dirtyRoomIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> roomIds = new ArrayList<>(dirtyRoomIds);
+        for (Long roomId : roomIds) {
+            // 반영 중에 다시 바뀐 방은 다음 주기에 다시 반영되도록 먼저 제거
+            dirtyRoomIds.remove(roomId);
+            Long occupancy = roomOccupancyCounter.get(roomId);
+            if (occupancy == null) {
+                continue;
+            }
+            try {
+                roomRepository.updateRoomNumIfActive(roomId, occupancy.intValue());
+            } catch (Exception e) {
+                log.error("[방 인원 수 반영 실패] 다음 주기에 재시도 - roomId: {}, {}", roomId, e.getMessage(), e);
+                dirtyRoomIds.add(roomId);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void reconcileOnShutdown() {
+        reconcile();
+    }
+}
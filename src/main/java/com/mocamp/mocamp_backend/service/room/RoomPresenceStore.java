@@ -0,0 +1,241 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import com.mocamp.mocamp_backend.entity.JoinedRoomEntity;
+import com.mocamp.mocamp_backend.repository.JoinedRoomRepository;
+import com.mocamp.mocamp_backend.service.broadcast.RoomSyncMessage;
+import com.mocamp.mocamp_backend.service.broadcast.RoomSyncRelay;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 활동 중인 방의 참여자 상태(작업/캠/마이크)를 메모리에 보관하는 저장소
+ * 상태 토글은 메모리에만 반영한 뒤 바로 브로드캐스트하고,
+ * DB(joined_room)에는 주기적으로 변경분을 모아 일괄 반영한다
+ *
+ * 다중 노드(mocamp.broadcast.mode=redis)에서는 입장/상태 변경/퇴장/방 종료를 처리한 노드가 RoomSyncRelay로 알리고,
+ * 다른 노드는 같은 변경을 메모리에만 반영한다 (DB 반영은 변경을 처리한 노드의 flush가 맡는다)
+ * 알림을 놓친 노드는 이전 상태를 보여줄 수 있지만, 다음 변경이나 퇴장/종료 알림에서 다시 맞춰진다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomPresenceStore {
+
+    private final JoinedRoomRepository joinedRoomRepository;
+    private final RoomSyncRelay roomSyncRelay;
+
+    // roomId -> (userId -> 참여자 상태)
+    private final Map<Long, Map<Long, ParticipantPresence>> rooms = new ConcurrentHashMap<>();
+    // 아직 DB에 반영되지 않은 상태 (joinedRoomId -> 최신 상태)
+    private final Map<Long, ParticipantPresence> dirtyPresences = new ConcurrentHashMap<>();
+
+    /**
+     * 방에 입장한 유저의 상태를 등록하는 메서드
+     * 입장 시점의 엔티티 값이 최신이므로 반영 대기 중인 이전 상태는 버린다
+     * @param roomId 방 ID
+     * @param userId 유저 ID
+     * @param joinedRoomEntity 저장이 완료된 참여 정보
+     */
+    public void join(Long roomId, Long userId, JoinedRoomEntity joinedRoomEntity) {
+        ParticipantPresence presence = ParticipantPresence.from(joinedRoomEntity);
+        dirtyPresences.remove(presence.getJoinedRoomId());
+        put(roomId, userId, presence);
+        roomSyncRelay.publish(toSyncMessage(roomId, userId, presence));
+    }
+
+    /**
+     * 방에서 퇴장한 유저의 상태를 제거하는 메서드
+     * @param roomId 방 ID
+     * @param userId 유저 ID
+     */
+    public void leave(Long roomId, Long userId) {
+        remove(roomId, userId);
+        roomSyncRelay.publish(RoomSyncMessage.participantLeft(roomId, userId));
+    }
+
+    /**
+     * 종료된 방의 참여자 상태를 모두 제거하는 메서드
+     * @param roomId 방 ID
+     */
+    public void removeRoom(Long roomId) {
+        rooms.remove(roomId);
+        roomSyncRelay.publish(RoomSyncMessage.roomClosed(roomId));
+    }
+
+    /**
+     * 다른 노드에서 처리한 입장/상태 변경/퇴장/방 종료를 이 노드의 메모리에 반영하는 메서드
+     * 같은 참여자의 반영 대기 상태는 버린다 (더 최신 상태를 가진 노드가 DB에 반영한다)
+     */
+    @EventListener
+    public void onRoomSync(RoomSyncMessage message) {
+        switch (message.type()) {
+            case PARTICIPANT_UPDATED -> {
+                dirtyPresences.remove(message.joinedRoomId());
+                put(message.roomId(), message.userId(), new ParticipantPresence(
+                        message.joinedRoomId(), message.workStatus(), message.camStatus(), message.micStatus()));
+            }
+            case PARTICIPANT_LEFT -> remove(message.roomId(), message.userId());
+            case ROOM_CLOSED -> rooms.remove(message.roomId());
+        }
+    }
+
+    /**
+     * 메모리에 참여자 상태가 적재된 방 수 (메트릭용)
+     */
+    public int roomCount() {
+        return rooms.size();
+    }
+
+    /**
+     * 메모리에 적재된 전체 참여자 수 (메트릭용)
+     */
+    public int participantCount() {
+        return rooms.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * 방의 메모리에 적재된 참여자 수 (메트릭용)
+     * @param roomId 방 ID
+     */
+    public int participantCount(Long roomId) {
+        Map<Long, ParticipantPresence> participants = rooms.get(roomId);
+        return participants == null ? 0 : participants.size();
+    }
+
+    /**
+     * 메모리에 보관 중인 참여자 상태만 조회하는 메서드 (DB 조회 없음)
+     * @return 참여 중이 아니거나 아직 적재되지 않았으면 null
+     */
+    public ParticipantPresence peek(Long roomId, Long userId) {
+        Map<Long, ParticipantPresence> participants = rooms.get(roomId);
+        return participants == null ? null : participants.get(userId);
+    }
+
+    /**
+     * 참여자 상태를 조회하는 메서드
+     * 서버 재시작 등으로 메모리에 없으면 DB에서 한 번 적재한다
+     * @return 활동 중인 방에 참여 중이 아니면 null
+     */
+    public ParticipantPresence find(Long roomId, Long userId) {
+        ParticipantPresence presence = peek(roomId, userId);
+        if (presence != null) {
+            return presence;
+        }
+
+        JoinedRoomEntity joinedRoomEntity = joinedRoomRepository
+                .findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue(roomId, userId)
+                .filter(joinedRoom -> joinedRoom.getRoom().getStatus())
+                .orElse(null);
+        if (joinedRoomEntity == null) {
+            return null;
+        }
+
+        // DB 값은 다른 노드의 메모리보다 오래됐을 수 있으므로 이 노드에만 적재한다
+        ParticipantPresence presence = ParticipantPresence.from(joinedRoomEntity);
+        put(roomId, userId, presence);
+        return presence;
+    }
+
+    /**
+     * 참여자 상태를 변경하고 DB 반영 대기열에 올리는 메서드
+     * @param change 기존 상태를 받아 새 상태를 반환하는 함수
+     * @return 변경된 상태, 참여 중이 아니면 null
+     */
+    public ParticipantPresence update(Long roomId, Long userId, UnaryOperator<ParticipantPresence> change) {
+        Map<Long, ParticipantPresence> participants = rooms.get(roomId);
+        if (participants == null) {
+            return null;
+        }
+
+        ParticipantPresence updated = participants.computeIfPresent(userId, (id, presence) -> change.apply(presence));
+        if (updated != null) {
+            dirtyPresences.put(updated.getJoinedRoomId(), updated);
+            roomSyncRelay.publish(toSyncMessage(roomId, userId, updated));
+        }
+        return updated;
+    }
+
+    /**
+     * 반영 대기 중인 상태를 DB에 일괄 반영하는 메서드
+     * 같은 (작업, 캠, 마이크) 조합끼리 묶어 조합당 UPDATE 한 번으로 처리한다
+     * 이 메서드는 트랜잭션을 열지 않고, 조합마다 저장소 메서드(updateStatuses)의 트랜잭션으로 따로 커밋한다
+     * 한 조합이 실패해도 나머지는 반영되고, 실패한 조합만 대기열에 남아 다음 주기에 재시도된다
+     */
+    @Scheduled(fixedDelayString = "${mocamp.presence.flush-interval-ms:1000}")
+    public void flush() {
+        if (dirtyPresences.isEmpty()) {
+            return;
+        }
+
+        Map<List<Boolean>, List<ParticipantPresence>> groups = new HashMap<>();
+        for (ParticipantPresence presence : new ArrayList<>(dirtyPresences.values())) {
+            if (presence.getWorkStatus() == null || presence.getCamStatus() == null || presence.getMicStatus() == null) {
+                log.warn("[참여자 상태 반영 제외] 비어있는 상태값 - joinedRoomId: {}", presence.getJoinedRoomId());
+                dirtyPresences.remove(presence.getJoinedRoomId(), presence);
+                continue;
+            }
+            List<Boolean> key = Arrays.asList(presence.getWorkStatus(), presence.getCamStatus(), presence.getMicStatus());
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(presence);
+        }
+
+        int flushed = 0;
+        int failed = 0;
+        for (Map.Entry<List<Boolean>, List<ParticipantPresence>> group : groups.entrySet()) {
+            List<Boolean> status = group.getKey();
+            List<Long> joinedRoomIds = group.getValue().stream().map(ParticipantPresence::getJoinedRoomId).toList();
+            try {
+                joinedRoomRepository.updateStatuses(joinedRoomIds, status.get(0), status.get(1), status.get(2));
+            } catch (Exception e) {
+                log.error("[참여자 상태 반영 실패] 다음 주기에 재시도 - 상태: {}, 대상 수: {}, {}", status, joinedRoomIds.size(), e.getMessage(), e);
+                failed += joinedRoomIds.size();
+                continue;
+            }
+
+            // 반영하는 사이에 다시 바뀐 상태는 대기열에 남겨 다음 주기에 반영
+            group.getValue().forEach(presence -> dirtyPresences.remove(presence.getJoinedRoomId(), presence));
+            flushed += joinedRoomIds.size();
+        }
+        log.info("[참여자 상태 반영 완료] 반영 수: {}, 실패 수: {}, UPDATE 수: {}", flushed, failed, groups.size());
+    }
+
+    /**
+     * 종료 전에 남은 상태를 반영하는 메서드
+     * flush는 트랜잭션을 직접 열지 않으므로(저장소 프록시가 연다) 자기 호출이어도 그대로 반영된다
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void put(Long roomId, Long userId, ParticipantPresence presence) {
+        rooms.compute(roomId, (id, participants) -> {
+            Map<Long, ParticipantPresence> roomParticipants = participants == null ? new ConcurrentHashMap<>() : participants;
+            roomParticipants.put(userId, presence);
+            return roomParticipants;
+        });
+    }
+
+    private void remove(Long roomId, Long userId) {
+        rooms.computeIfPresent(roomId, (id, participants) -> {
+            participants.remove(userId);
+            return participants.isEmpty() ? null : participants;
+        });
+    }
+
+    private RoomSyncMessage toSyncMessage(Long roomId, Long userId, ParticipantPresence presence) {
+        return RoomSyncMessage.participantUpdated(roomId, userId, presence.getJoinedRoomId(),
+                presence.getWorkStatus(), presence.getCamStatus(), presence.getMicStatus());
+    }
+}
@@ -2,22 +2,34 @@ package com.mocamp.mocamp_backend.service.room;
 
 import com.mocamp.mocamp_backend.dto.alert.AlertResponse;
 import com.mocamp.mocamp_backend.dto.websocket.WebsocketMessageType;
-import com.mocamp.mocamp_backend.entity.JoinedRoomEntity;
 import com.mocamp.mocamp_backend.entity.RoomEntity;
-import com.mocamp.mocamp_backend.repository.JoinedRoomRepository;
 import com.mocamp.mocamp_backend.repository.RoomRepository;
-import jakarta.transaction.Transactional;
+import com.mocamp.mocamp_backend.service.broadcast.RoomBroadcaster;
+import com.mocamp.mocamp_backend.service.broadcast.RoomSyncMessage;
+import com.mocamp.mocamp_backend.service.broadcast.RoomSyncRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component
 @RequiredArgsConstructor
@@ -25,72 +37,223 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class RoomScheduler {
 
+    private static final int[] ALERT_MINUTES = {30, 10};
+    private static final long EXPIRY_RETRY_DELAY_MS = 5000;
+
     private final RoomRepository roomRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RoomBroadcaster roomBroadcaster;
+    private final RoomExpiryService roomExpiryService;
+    private final RoomPresenceStore roomPresenceStore;
+    private final RoomOccupancyService roomOccupancyService;
+    private final RoomDeadlineClaimer roomDeadlineClaimer;
+    private final RoomLaneExecutor roomLaneExecutor;
+    private final RoomSyncRelay roomSyncRelay;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    // 방마다 30분전/10분전/종료 시각에 한 번씩 실행되도록 예약 (내부적으로 시각순 힙에 보관되어 등록/취소 O(log n))
+    private final ScheduledThreadPoolExecutor deadlineExecutor = createDeadlineExecutor();
+    // roomId -> 예약된 알림/종료 작업
+    private final Map<Long, List<ScheduledFuture<?>>> deadlines = new ConcurrentHashMap<>();
+    // 종료 시각에 도달해 일괄 종료를 기다리는 방
+    private final Queue<Long> pendingExpiries = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
 
-    // 멀티 쓰레드 환경을 고려하여 안전한 ConcurrentHaspMap 사용
-    // 30분전, 10분전 룸 ID를 기반으로 1번만 보내는 것을 보장하기 위해 key 값으로 보관
-    private static final Set<Long> alreadySent30 = ConcurrentHashMap.newKeySet();
-    private static final Set<Long> alreadySent10 = ConcurrentHashMap.newKeySet();
-    private final JoinedRoomRepository joinedRoomRepository;
+    @Value("${mocamp.room.expiry-batch-window-ms:200}")
+    private long expiryBatchWindowMs;
+
+    private static ScheduledThreadPoolExecutor createDeadlineExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "room-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
 
     /**
-     * 모캠프 방 종료까지 30분전, 10분전 마다 종료 알림 보내는 스케쥴러 메서드
+     * 서버 시작 시 활동 중인 방의 종료 알림과 종료 시각을 다시 예약하는 메서드
+     * 다중 노드에서는 모든 노드가 같은 방을 예약하므로(방 생성은 ROOM_CREATED로 다른 노드에 알림),
+     * 실행 시점에 RoomDeadlineClaimer로 선점한 노드만 실행한다. 방을 만든 노드가 내려가도 남은 노드가 실행한다
      */
-    @Scheduled(cron = "0 * * * * *") // 매 분마다
-    public void checkRoomEndWarnings() {
-        log.info("[종료 알림 체크 스케쥴러 작동]");
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveRooms() {
         List<RoomEntity> activeRooms = roomRepository.findAllByStatusTrue();
+        activeRooms.forEach(this::register);
+        log.info("[종료 알림 예약 복구] 활동 중인 방 수: {}", activeRooms.size());
+    }
+
+    /**
+     * 새로 만든 방을 이 노드에 예약하고 다른 노드에도 예약하도록 알리는 메서드 (커밋 후 호출)
+     * @param room Room 엔티티
+     */
+    public void registerCreated(RoomEntity room) {
+        register(room);
+        roomSyncRelay.publish(RoomSyncMessage.roomCreated(room.getRoomId()));
+    }
+
+    /**
+     * 활동 중인데 이 노드에 예약되지 않은 방을 다시 예약하는 메서드
+     * pub/sub(ROOM_CREATED)은 전달을 보장하지 않으므로 놓친 방을 주기적으로 DB에서 찾아 보정한다
+     */
+    @Scheduled(initialDelayString = "${mocamp.room.deadline-resync-ms:60000}", fixedDelayString = "${mocamp.room.deadline-resync-ms:60000}")
+    public void resyncDeadlines() {
+        List<RoomEntity> missing = roomRepository.findAllByStatusTrue().stream()
+                .filter(room -> !deadlines.containsKey(room.getRoomId()))
+                .toList();
+        missing.forEach(this::register);
+        if (!missing.isEmpty()) {
+            log.info("[종료 알림 예약 보정] 누락된 방 수: {}", missing.size());
+        }
+    }
+
+    /**
+     * 방의 30분전, 10분전 종료 알림과 종료 시각을 예약하는 메서드
+     * 이미 지난 알림은 다음 알림 시각 전이고 방 시작 이후의 알림이면 즉시 보낸다 (서버 재시작 중 놓친 알림 보정)
+     * @param room Room 엔티티
+     */
+    public void register(RoomEntity room) {
+        Long roomId = room.getRoomId();
         LocalDateTime now = LocalDateTime.now();
+        LocalDateTime endTime = room.getStartedAt().plusSeconds(room.getDuration().toSecondOfDay());
+
+        List<ScheduledFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < ALERT_MINUTES.length; i++) {
+            int minutesLeft = ALERT_MINUTES[i];
+            LocalDateTime alertTime = endTime.minusMinutes(minutesLeft);
+            LocalDateTime nextTime = i + 1 < ALERT_MINUTES.length ? endTime.minusMinutes(ALERT_MINUTES[i + 1]) : endTime;
 
-        for (RoomEntity room : activeRooms) {
-            LocalDateTime endTime = room.getStartedAt().plusSeconds(room.getDuration().toSecondOfDay());
-            long minutesLeft = ChronoUnit.MINUTES.between(now, endTime);
-
-            if (minutesLeft == 30 && !alreadySent30.contains(room.getRoomId())) {
-                sendAlert(room, 30);
-                log.info("[30분전 종료 알림] - roomId: {}", room.getRoomId());
-                alreadySent30.add(room.getRoomId());
-            } else if (minutesLeft == 10 && !alreadySent10.contains(room.getRoomId())) {
-                sendAlert(room, 10);
-                log.info("[10분전 종료 알림] - roomId: {}", room.getRoomId());
-                alreadySent10.add(room.getRoomId());
-            } else if(!now.isBefore(endTime)) {
-                expireRoom(room);
-                log.info("[방 종료 알림] - roomId: {}", room.getRoomId());
+            if (alertTime.isAfter(now)) {
+                futures.add(schedule(alertTime, now, () -> sendAlert(roomId, minutesLeft)));
+            } else if (now.isBefore(nextTime) && alertTime.isAfter(room.getStartedAt())) {
+                futures.add(schedule(now, now, () -> sendAlert(roomId, minutesLeft)));
             }
         }
+        futures.add(schedule(endTime, now, () -> expireRoom(roomId)));
+
+        List<ScheduledFuture<?>> previous = deadlines.put(roomId, futures);
+        if (previous != null) {
+            previous.forEach(future -> future.cancel(false));
+        }
+        log.info("[종료 알림 예약] roomId: {}, 종료 시각: {}", roomId, endTime);
+    }
+
+    /**
+     * 다른 노드에서 방이 만들어지면 이 노드에도 예약하고, 먼저 종료되면 이 노드의 예약도 취소하는 메서드
+     */
+    @EventListener
+    public void onRoomSync(RoomSyncMessage message) {
+        if (message.type() == RoomSyncMessage.Type.ROOM_CREATED) {
+            roomRepository.findById(message.roomId())
+                    .filter(RoomEntity::getStatus)
+                    .ifPresent(this::register);
+        } else if (message.type() == RoomSyncMessage.Type.ROOM_CLOSED) {
+            cancel(message.roomId());
+        }
+    }
+
+    /**
+     * 종료 시각이 예약된(활동 중인) 방 수 (메트릭용)
+     */
+    public int activeRoomCount() {
+        return deadlines.size();
+    }
+
+    /**
+     * 방에 예약된 알림과 종료 작업을 취소하는 메서드 (마지막 참가자 퇴장 등으로 먼저 종료된 경우)
+     * @param roomId 방 ID
+     */
+    public void cancel(Long roomId) {
+        List<ScheduledFuture<?>> futures = deadlines.remove(roomId);
+        if (futures != null) {
+            futures.forEach(future -> future.cancel(false));
+            log.info("[종료 알림 예약 취소] roomId: {}", roomId);
+        }
+    }
+
+    private ScheduledFuture<?> schedule(LocalDateTime at, LocalDateTime now, Runnable task) {
+        long delayMillis = Math.max(0, Duration.between(now, at).toMillis());
+        return deadlineExecutor.schedule(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("[종료 알림 예약 작업 실패] {}", e.getMessage(), e);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
     }
 
     /**
      * 30분전, 10분전 마다 웹소캣으로 알림 보내는 메서드
-     * @param room Room 엔티티
+     * @param roomId 방 ID
      * @param minutesLeft 30분전 or 10분전
      */
-    private void sendAlert(RoomEntity room, int minutesLeft) {
-        messagingTemplate.convertAndSend("/sub/data/" + room.getRoomId(), new AlertResponse(WebsocketMessageType.ROOM_END_ALERT, minutesLeft));
+    private void sendAlert(Long roomId, int minutesLeft) {
+        if (!deadlines.containsKey(roomId) || !roomDeadlineClaimer.claim(roomId, "alert-" + minutesLeft)) {
+            return;
+        }
+        roomBroadcaster.broadcast(roomId, new AlertResponse(WebsocketMessageType.ROOM_END_ALERT, minutesLeft));
+        meterRegistry.counter("mocamp.room.alerts", "minutes", String.valueOf(minutesLeft)).increment();
+        log.info("[{}분전 종료 알림] - roomId: {}", minutesLeft, roomId);
     }
 
-
     /**
-     * 방 종료시간에 도달하면 방을 종료시킨 후 알림 보내는 메서드
-     * @param room Room 엔티티
+     * 종료 시각에 도달한 방을 종료 대기열에 올리는 메서드
+     * 같은 시점에 끝나는 방들은 잠시 모았다가 한 번에 종료시킨다 (다른 노드가 선점했으면 그 노드가 종료시킨다)
+     * @param roomId 방 ID
      */
-    @Transactional
-    public void expireRoom(RoomEntity room) {
-        List<JoinedRoomEntity> joinedRoomList = joinedRoomRepository.findAllByRoom(room);
-        for (JoinedRoomEntity joinedRoom : joinedRoomList) {
-            joinedRoom.setIsDeleted(true);
-            joinedRoom.setIsParticipating(false);
+    private void expireRoom(Long roomId) {
+        deadlines.remove(roomId);
+        if (!roomDeadlineClaimer.claim(roomId, "expiry")) {
+            return;
         }
+        pendingExpiries.add(roomId);
+        scheduleDrain(expiryBatchWindowMs);
+    }
 
-        room.setStatus(false);
-        room.setIsDeleted(true);
-        room.setRoomNum(0);
+    private void scheduleDrain(long delayMillis) {
+        if (drainScheduled.compareAndSet(false, true)) {
+            deadlineExecutor.schedule(this::drainExpiries, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
 
-        roomRepository.save(room);
-        joinedRoomRepository.saveAll(joinedRoomList);
+    /**
+     * 종료 대기열의 방들을 일괄 종료한 뒤 방마다 종료 알림을 보내는 메서드
+     * 입장/퇴장 등 같은 방의 다른 변경과 겹치지 않도록 RoomLaneExecutor로 대상 방들의 작업 순서에 끼워 실행한다
+     */
+    private void drainExpiries() {
+        drainScheduled.set(false);
+        List<Long> roomIds = new ArrayList<>();
+        for (Long roomId = pendingExpiries.poll(); roomId != null; roomId = pendingExpiries.poll()) {
+            roomIds.add(roomId);
+        }
+        if (roomIds.isEmpty()) {
+            return;
+        }
+
+        roomLaneExecutor.submitAll(roomIds, () -> {
+            List<Long> expiredRoomIds = roomExpiryService.expireRooms(roomIds);
+            meterRegistry.counter("mocamp.room.expiries").increment(expiredRoomIds.size());
+            for (Long roomId : expiredRoomIds) {
+                roomPresenceStore.removeRoom(roomId);
+                roomOccupancyService.clear(roomId);
+                eventPublisher.publishEvent(new RoomAccessChangedEvent(roomId));
+                roomBroadcaster.broadcast(roomId, new AlertResponse(WebsocketMessageType.ROOM_END_ALERT, 0));
+                log.info("[방 종료 알림] - roomId: {}", roomId);
+            }
+            return expiredRoomIds;
+        }).whenComplete((expiredRoomIds, e) -> {
+            if (e != null) {
+                log.error("[방 일괄 종료 실패] {}초 후 재시도 - 방 수: {}, {}", EXPIRY_RETRY_DELAY_MS / 1000, roomIds.size(), e.getMessage(), e);
+                meterRegistry.counter("mocamp.room.expiry.failures").increment();
+                pendingExpiries.addAll(roomIds);
+                scheduleDrain(EXPIRY_RETRY_DELAY_MS);
+            }
+        });
+    }
 
-        messagingTemplate.convertAndSend("/sub/data/" + room.getRoomId(), new AlertResponse(WebsocketMessageType.ROOM_END_ALERT, 0));
+    @PreDestroy
+    public void shutdown() {
+        deadlineExecutor.shutdownNow();
     }
 }
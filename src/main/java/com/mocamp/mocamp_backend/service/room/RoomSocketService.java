@@ -1,5 +1,6 @@
 package com.mocamp.mocamp_backend.service.room;
 
+import com.mocamp.mocamp_backend.authentication.AuthenticatedUser;
 import com.mocamp.mocamp_backend.dto.commonResponse.ErrorResponse;
 import com.mocamp.mocamp_backend.dto.delegation.DelegationUpdateRequest;
 import com.mocamp.mocamp_backend.dto.delegation.DelegationUpdateResponse;
@@ -10,17 +11,15 @@ import com.mocamp.mocamp_backend.dto.resolution.ResolutionUpdateResponse;
 import com.mocamp.mocamp_backend.dto.status.StatusDTO;
 import com.mocamp.mocamp_backend.dto.websocket.WebsocketErrorMessage;
 import com.mocamp.mocamp_backend.dto.websocket.WebsocketMessageType;
-import com.mocamp.mocamp_backend.entity.JoinedRoomEntity;
-import com.mocamp.mocamp_backend.entity.RoomEntity;
-import com.mocamp.mocamp_backend.entity.UserEntity;
 import com.mocamp.mocamp_backend.repository.JoinedRoomRepository;
 import com.mocamp.mocamp_backend.repository.RoomRepository;
-import com.mocamp.mocamp_backend.repository.UserRepository;
+import com.mocamp.mocamp_backend.service.broadcast.RoomBroadcaster;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.security.Principal;
 
@@ -38,9 +37,11 @@ public class RoomSocketService {
     private static final String ANOTHER_USER_STATUS_TOGGLE_MESSAGE = "다른 유저의 상태를 토글했습니다";
 
     private final RoomRepository roomRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RoomBroadcaster roomBroadcaster;
     private final JoinedRoomRepository joinedRoomRepository;
-    private final UserRepository userRepository;
+    private final RoomPresenceStore roomPresenceStore;
+    private final RoomAccessGuard roomAccessGuard;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모캠프 방 공지사항 수정하는 메서드
@@ -49,45 +50,43 @@ public class RoomSocketService {
      */
     @Transactional
     public void updateNotice(NoticeUpdateRequest noticeUpdateRequest, Long roomId, Principal principal) {
-        String userSeq = principal.getName();
-        UserEntity user = userRepository.findUserByUserSeq(userSeq).orElse(null);
+        AuthenticatedUser user = AuthenticatedUser.of(principal);
         if (user == null) {
-            log.warn("[유저 조회 실패] userId: {}", user.getUserId());
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), USER_NOT_FOUND_MESSAGE)));
+            log.warn("[유저 조회 실패] 인증 정보 없음 - principal: {}", principal == null ? null : principal.getName());
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(null, USER_NOT_FOUND_MESSAGE)));
             return;
         }
 
         log.info("[공지사항 변경 요청] userId: {}, roomId: {}" ,user.getUserId(), roomId);
 
         // roomId에 해당하는 방이 존재하는지 확인
-        RoomEntity roomEntity = roomRepository.findById(roomId).orElse(null);
-        if (roomEntity == null) {
+        RoomAccess roomAccess = roomAccessGuard.get(roomId);
+        if (roomAccess == null) {
             log.warn("[방 조회 실패] roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_FOUND_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_FOUND_MESSAGE)));
             return;
         }
 
         // 해당하는 방이 활동중인지 확인
-        if (!roomEntity.getStatus()) {
+        if (!roomAccess.isActive()) {
             log.warn("[비활성화된 방 접근] roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ACTIVE_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ACTIVE_MESSAGE)));
             return;
         }
 
         // 해당하는 방에서 방장인지 확인
-        if(!joinedRoomRepository.existsByRoom_RoomIdAndUser_UserIdAndIsAdminTrue(roomId, user.getUserId())) {
+        if(!roomAccess.isAdmin(user.getUserId())) {
             log.warn("[방장 아닌 사람이 접근 차단] userId: {}, roomId: {}", user.getUserId(), roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ADMIN_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ADMIN_MESSAGE)));
             return;
         }
 
         // 방의 공지사항 변경 및 저장
-        roomEntity.updateNotice(noticeUpdateRequest.getNotice());
-        roomRepository.save(roomEntity);
+        roomRepository.updateNotice(roomId, noticeUpdateRequest.getNotice());
 
         log.info("[공지사항 변경 완료] roomId: {}", roomId);
         // WebSocket 응답 전송
-        messagingTemplate.convertAndSend("/sub/data/" + roomId , new NoticeUpdateResponse(WebsocketMessageType.NOTICE_UPDATED, noticeUpdateRequest.getNotice()));
+        roomBroadcaster.broadcast(roomId, new NoticeUpdateResponse(WebsocketMessageType.NOTICE_UPDATED, noticeUpdateRequest.getNotice()));
 
     }
 
@@ -98,46 +97,44 @@ public class RoomSocketService {
      */
     @Transactional
     public void updateResolution(ResolutionUpdateRequest resolutionUpdateRequest, Long roomId, Principal principal) {
-        String userSeq = principal.getName();
-        UserEntity user = userRepository.findUserByUserSeq(userSeq).orElse(null);
+        AuthenticatedUser user = AuthenticatedUser.of(principal);
         if (user == null) {
-            log.warn("[유저 조회 실패] userId: {}", user.getUserId());
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), USER_NOT_FOUND_MESSAGE)));
+            log.warn("[유저 조회 실패] 인증 정보 없음 - principal: {}", principal == null ? null : principal.getName());
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(null, USER_NOT_FOUND_MESSAGE)));
             return;
         }
 
         log.info("[다짐 변경 요청] userId: {}, roomId: {}" ,user.getUserId(), roomId);
 
         // roomId에 해당하는 방이 존재하는지 확인
-        RoomEntity roomEntity = roomRepository.findById(roomId).orElse(null);
-        if (roomEntity == null) {
+        RoomAccess roomAccess = roomAccessGuard.get(roomId);
+        if (roomAccess == null) {
             log.warn("[방 조회 실패] roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_FOUND_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_FOUND_MESSAGE)));
             return;
         }
 
         // 해당하는 방이 활동중인지 확인
-        if (!roomEntity.getStatus()) {
+        if (!roomAccess.isActive()) {
             log.warn("[비활성화된 방 접근] roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ACTIVE_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ACTIVE_MESSAGE)));
             return;
         }
 
         // 해당 방에 참여중인 유저인지 확인
-        JoinedRoomEntity joinedRoomEntity = joinedRoomRepository.findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue(roomId, user.getUserId()).orElse(null);
-        if (joinedRoomEntity == null) {
+        Long joinedRoomId = roomAccess.getJoinedRoomId(user.getUserId());
+        if (joinedRoomId == null) {
             log.warn("[방에 참여중인 유저인지 확인] 방에 소속되지 않은 사용자 - userId: {}, roomId: {}", user.getUserId(), roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_IN_ROOM_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_IN_ROOM_MESSAGE)));
             return;
         }
 
         // 유저 다짐 변경 및 저장
-        joinedRoomEntity.updateResolution(resolutionUpdateRequest.getResolution());
-        joinedRoomRepository.save(joinedRoomEntity);
+        joinedRoomRepository.updateResolution(joinedRoomId, resolutionUpdateRequest.getResolution());
 
         log.info("[다짐 변경 완료] userId: {}, roomId: {}, resolution: {}" ,user.getUserId(), roomId, resolutionUpdateRequest.getResolution());
         // WebSocket 응답 전송
-        messagingTemplate.convertAndSend("/sub/data/" + roomId , new ResolutionUpdateResponse(WebsocketMessageType.RESOLUTION_UPDATED, user.getUserId(), resolutionUpdateRequest.getResolution()));
+        roomBroadcaster.broadcast(roomId, new ResolutionUpdateResponse(WebsocketMessageType.RESOLUTION_UPDATED, user.getUserId(), resolutionUpdateRequest.getResolution()));
 
     }
 
@@ -148,120 +145,149 @@ public class RoomSocketService {
      */
     @Transactional
     public void updateDelegation(DelegationUpdateRequest delegationUpdateRequest, Long roomId, Principal principal) {
-        String userSeq = principal.getName();
-        UserEntity user = userRepository.findUserByUserSeq(userSeq).orElse(null);
+        AuthenticatedUser user = AuthenticatedUser.of(principal);
         if (user == null) {
-            log.warn("[유저 조회 실패] userId: {}", user.getUserId());
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), USER_NOT_FOUND_MESSAGE)));
+            log.warn("[유저 조회 실패] 인증 정보 없음 - principal: {}", principal == null ? null : principal.getName());
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(null, USER_NOT_FOUND_MESSAGE)));
             return;
         }
 
         log.info("[방장 위임 요청] userId: {} --> userId: {}으로 방장 위임" ,user.getUserId(), delegationUpdateRequest.getNewAdminId());
 
         // roomId에 해당하는 방이 존재하는지 확인
-        RoomEntity roomEntity = roomRepository.findById(roomId).orElse(null);
-        if (roomEntity == null) {
+        RoomAccess roomAccess = roomAccessGuard.get(roomId);
+        if (roomAccess == null) {
             log.warn("[방 조회 실패] roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_FOUND_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_FOUND_MESSAGE)));
             return;
         }
 
         // 해당하는 방이 활동중인지 확인
-        if (!roomEntity.getStatus()) {
+        if (!roomAccess.isActive()) {
             log.warn("[비활성화된 방 접근] roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ACTIVE_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ACTIVE_MESSAGE)));
             return;
         }
 
         // 해당 방에 참여중인 유저인지 확인
-        JoinedRoomEntity joinedRoomEntity = joinedRoomRepository.findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue(roomId, user.getUserId()).orElse(null);
-        if (joinedRoomEntity == null) {
+        Long joinedRoomId = roomAccess.getJoinedRoomId(user.getUserId());
+        if (joinedRoomId == null) {
             log.warn("[방에 참여중인 유저인지 확인] 방에 소속되지 않은 사용자 - userId: {}, roomId: {}", user.getUserId(), roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_IN_ROOM_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_IN_ROOM_MESSAGE)));
             return;
         }
 
         // 해당 방의 위임 요청한 유저가 방장인지 확인
-        if(!joinedRoomEntity.getIsAdmin()) {
+        if(!roomAccess.isAdmin(user.getUserId())) {
             log.warn("[방의 방장인 유저인지 확인] 방의 방장이 아닌 유저 - userId: {}, roomId: {}", user.getUserId(), roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_HOST_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_HOST_MESSAGE)));
             return;
         }
 
-        // 위임을 받을 유저 ID에 방장 권한 부여
-        JoinedRoomEntity delegatedJoinedRoomEntity = joinedRoomRepository.findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue(roomId, delegationUpdateRequest.getNewAdminId()).orElse(null);
-        delegatedJoinedRoomEntity.updateIsAdmin(true);
+        // 위임을 받을 유저가 해당 방에 참여 중인지 확인
+        Long delegatedJoinedRoomId = roomAccess.getJoinedRoomId(delegationUpdateRequest.getNewAdminId());
+        if (delegatedJoinedRoomId == null) {
+            log.warn("[방에 참여중인 유저인지 확인] 위임 대상이 방에 소속되지 않음 - userId: {}, roomId: {}", delegationUpdateRequest.getNewAdminId(), roomId);
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_IN_ROOM_MESSAGE)));
+            return;
+        }
+
+        // 기존 방장 권한 해제 (조건부 UPDATE, 다른 노드에서 같은 방장의 위임이나 퇴장이 먼저 커밋되었으면 0)
+        if (joinedRoomRepository.revokeAdminIfCurrent(roomId, user.getUserId()) == 0) {
+            log.warn("[방장 위임 실패] 이미 방장이 아님 - userId: {}, roomId: {}", user.getUserId(), roomId);
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_HOST_MESSAGE)));
+            return;
+        }
+        log.info("[기존 방장은 참여자로 변경] 방장 -> 참여자 - userId: {}", user.getUserId());
+
+        // 위임을 받을 유저 ID에 방장 권한 부여 (그 사이 퇴장했다면 권한 해제까지 되돌림)
+        if (joinedRoomRepository.grantAdminIfParticipating(delegatedJoinedRoomId) == 0) {
+            log.warn("[방장 위임 실패] 위임 대상이 이미 퇴장 - userId: {}, roomId: {}", delegationUpdateRequest.getNewAdminId(), roomId);
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_IN_ROOM_MESSAGE)));
+            return;
+        }
         log.info("[새로운 방장으로 변경] 새로운 방장 - userId: {}", delegationUpdateRequest.getNewAdminId());
 
         // 위임을 전달받은 유저 이름 추출
-        String delegatedUsername = delegatedJoinedRoomEntity.getUser().getUsername();
+        String delegatedUsername = joinedRoomRepository.getReferenceById(delegatedJoinedRoomId).getUser().getUsername();
 
-        // 위임을 전달할 유저 ID는 방장 권한 해제
-        joinedRoomEntity.updateIsAdmin(false);
-        log.info("[기존 방장은 참여자로 변경] 방장 -> 참여자 - userId: {}", user.getUserId());
+        eventPublisher.publishEvent(new RoomAccessChangedEvent(roomId));
 
         // WebSocket 응답 전송
-        messagingTemplate.convertAndSend("/sub/data/" + roomId , new DelegationUpdateResponse(WebsocketMessageType.ADMIN_UPDATED, user.getUsername(), delegatedUsername));
+        roomBroadcaster.broadcast(roomId, new DelegationUpdateResponse(WebsocketMessageType.ADMIN_UPDATED, user.getUsername(), delegatedUsername));
     }
 
     /**
-     * 모캠프 작업 공간에서 작업 상태 변경하는 메서드
-     * @param statusDTO 작업 상태
+     * 방 참여 정보가 메모리에 없을 때 원인을 확인하여 에러를 전송하는 메서드
      * @param roomId 모캠프 방 ID
+     * @param userId 요청한 유저 ID
      */
-    public void updateWorkStatus(StatusDTO statusDTO, Long roomId, Principal principal) {
-        String userSeq = principal.getName();
-        UserEntity user = userRepository.findUserByUserSeq(userSeq).orElse(null);
-        if (user == null) {
-            log.warn("[유저 조회 실패] userId: {}", user.getUserId());
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), USER_NOT_FOUND_MESSAGE)));
-            return;
-        }
-
-        log.info("[작업 상태 변경 요청] userId: {}, roomId: {}" ,user.getUserId(), roomId);
-
+    private void sendParticipationError(Long roomId, Long userId) {
         // roomId에 해당하는 방이 존재하는지 확인
-        RoomEntity roomEntity = roomRepository.findById(roomId).orElse(null);
-        if (roomEntity == null) {
+        RoomAccess roomAccess = roomAccessGuard.get(roomId);
+        if (roomAccess == null) {
             log.warn("[방 조회 실패] roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_FOUND_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(userId, ROOM_NOT_FOUND_MESSAGE)));
             return;
         }
 
         // 해당하는 방이 활동중인지 확인
-        if (!roomEntity.getStatus()) {
+        if (!roomAccess.isActive()) {
             log.warn("[비활성화된 방 접근] roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ACTIVE_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(userId, ROOM_NOT_ACTIVE_MESSAGE)));
             return;
         }
 
-        // 해당 방에 참여중인 유저인지 확인
-        JoinedRoomEntity joinedRoomEntity = joinedRoomRepository.findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue(roomId, user.getUserId()).orElse(null);
-        if (joinedRoomEntity == null) {
-            log.warn("[방에 참여중인 유저인지 확인] 방에 소속되지 않은 사용자 - userId: {}, roomId: {}", user.getUserId(), roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_IN_ROOM_MESSAGE)));
+        log.warn("[방에 참여중인 유저인지 확인] 방에 소속되지 않은 사용자 - userId: {}, roomId: {}", userId, roomId);
+        roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(userId, USER_NOT_IN_ROOM_MESSAGE)));
+    }
+
+    /**
+     * 모캠프 작업 공간에서 작업 상태 변경하는 메서드
+     * 상태는 RoomPresenceStore에만 반영하고 바로 전송하며, DB에는 비동기로 일괄 반영된다
+     * @param statusDTO 작업 상태
+     * @param roomId 모캠프 방 ID
+     */
+    public void updateWorkStatus(StatusDTO statusDTO, Long roomId, Principal principal) {
+        AuthenticatedUser user = AuthenticatedUser.of(principal);
+        if (user == null) {
+            log.warn("[유저 조회 실패] 인증 정보 없음 - principal: {}", principal == null ? null : principal.getName());
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(null, USER_NOT_FOUND_MESSAGE)));
+            return;
+        }
+
+        log.info("[작업 상태 변경 요청] userId: {}, roomId: {}" ,user.getUserId(), roomId);
+
+        // 활동 중인 방에 참여중인 유저인지 확인
+        if (roomPresenceStore.find(roomId, user.getUserId()) == null) {
+            sendParticipationError(roomId, user.getUserId());
             return;
         }
 
         // 다른 사용자 작업 상태 토글인지 확인
         if(!user.getUserId().equals(statusDTO.getUserId())) {
             log.warn("[작업 상태 변경 실패] 본인의 상태만 변경 가능 - 요청자: {}, 대상: {}", user.getUserId(), statusDTO.getUserId());
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ANOTHER_USER_STATUS_TOGGLE_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ANOTHER_USER_STATUS_TOGGLE_MESSAGE)));
             return;
         }
 
-        // 작업 상태 변경 및 저장
-        joinedRoomEntity.updateWorkStatus(statusDTO.getWorkStatus());
-        JoinedRoomEntity updatedJoinedRoomEntity = joinedRoomRepository.save(joinedRoomEntity);
+        // 작업 상태 변경 (DB 반영은 RoomPresenceStore가 모아서 처리)
+        ParticipantPresence updatedPresence = roomPresenceStore.update(roomId, user.getUserId(),
+                presence -> presence.withWorkStatus(statusDTO.getWorkStatus()));
+        if (updatedPresence == null) {
+            sendParticipationError(roomId, user.getUserId());
+            return;
+        }
 
-        log.info("[작업 상태 변경 완료] userId: {}, roomId: {}, workStatus: {}" ,user.getUserId(), roomId, updatedJoinedRoomEntity.getWorkStatus());
+        log.info("[작업 상태 변경 완료] userId: {}, roomId: {}, workStatus: {}" ,user.getUserId(), roomId, updatedPresence.getWorkStatus());
         // WebSocket 응답 전송
         StatusDTO workStatusDTO = StatusDTO.builder()
                 .type(WebsocketMessageType.WORK_STATUS_UPDATED)
                 .userId(user.getUserId())
-                .workStatus(updatedJoinedRoomEntity.getWorkStatus())
+                .workStatus(updatedPresence.getWorkStatus())
                 .build();
-        messagingTemplate.convertAndSend("/sub/data/" + roomId ,workStatusDTO);
+        roomBroadcaster.broadcast(roomId, workStatusDTO);
     }
 
     /**
@@ -270,58 +296,44 @@ public class RoomSocketService {
      * @param roomId 모캠프 방 ID
      */
     public void updateCamStatus(StatusDTO statusDTO, Long roomId, Principal principal) {
-        String userSeq = principal.getName();
-        UserEntity user = userRepository.findUserByUserSeq(userSeq).orElse(null);
+        AuthenticatedUser user = AuthenticatedUser.of(principal);
         if (user == null) {
-            log.warn("[유저 조회 실패] userId: {}", user.getUserId());
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), USER_NOT_FOUND_MESSAGE)));
+            log.warn("[유저 조회 실패] 인증 정보 없음 - principal: {}", principal == null ? null : principal.getName());
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(null, USER_NOT_FOUND_MESSAGE)));
             return;
         }
 
-        log.info("[작업 상태 변경 요청] userId: {}, roomId: {}" ,user.getUserId(), roomId);
+        log.info("[캠 상태 변경 요청] userId: {}, roomId: {}" ,user.getUserId(), roomId);
 
-        // roomId에 해당하는 방이 존재하는지 확인
-        RoomEntity roomEntity = roomRepository.findById(roomId).orElse(null);
-        if (roomEntity == null) {
-            log.warn("[방 조회 실패] roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_FOUND_MESSAGE)));
-            return;
-        }
-
-        // 해당하는 방이 활동중인지 확인
-        if (!roomEntity.getStatus()) {
-            log.warn("[비활성화된 방 접근] roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ACTIVE_MESSAGE)));
-            return;
-        }
-
-        // 해당 방에 참여중인 유저인지 확인
-        JoinedRoomEntity joinedRoomEntity = joinedRoomRepository.findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue(roomId, user.getUserId()).orElse(null);
-        if (joinedRoomEntity == null) {
-            log.warn("[방에 참여중인 유저인지 확인] 방에 소속되지 않은 사용자 - userId: {}, roomId: {}", user.getUserId(), roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_IN_ROOM_MESSAGE)));
+        // 활동 중인 방에 참여중인 유저인지 확인
+        if (roomPresenceStore.find(roomId, user.getUserId()) == null) {
+            sendParticipationError(roomId, user.getUserId());
             return;
         }
 
         // 다른 사용자 캠 상태 토글인지 확인
         if(!user.getUserId().equals(statusDTO.getUserId())) {
             log.warn("[캠 상태 변경 실패] 본인의 상태만 변경 가능 - 요청자: {}, 대상: {}", user.getUserId(), statusDTO.getUserId());
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ANOTHER_USER_STATUS_TOGGLE_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ANOTHER_USER_STATUS_TOGGLE_MESSAGE)));
             return;
         }
 
-        // 캠 상태 변경 및 저장
-        joinedRoomEntity.updateCamStatus(statusDTO.getCamStatus());
-        JoinedRoomEntity updatedJoinedRoomEntity = joinedRoomRepository.save(joinedRoomEntity);
+        // 캠 상태 변경
+        ParticipantPresence updatedPresence = roomPresenceStore.update(roomId, user.getUserId(),
+                presence -> presence.withCamStatus(statusDTO.getCamStatus()));
+        if (updatedPresence == null) {
+            sendParticipationError(roomId, user.getUserId());
+            return;
+        }
 
-        log.info("[캠 상태 변경 완료] userId: {}, roomId: {}, camStatus: {}" ,user.getUserId(), roomId, updatedJoinedRoomEntity.getCamStatus());
+        log.info("[캠 상태 변경 완료] userId: {}, roomId: {}, camStatus: {}" ,user.getUserId(), roomId, updatedPresence.getCamStatus());
         // WebSocket 응답 전송
         StatusDTO camStatusDTO = StatusDTO.builder()
                 .type(WebsocketMessageType.CAM_STATUS_UPDATED)
                 .userId(user.getUserId())
-                .camStatus(updatedJoinedRoomEntity.getCamStatus())
+                .camStatus(updatedPresence.getCamStatus())
                 .build();
-        messagingTemplate.convertAndSend("/sub/data/" + roomId ,camStatusDTO);
+        roomBroadcaster.broadcast(roomId, camStatusDTO);
     }
 
     /**
@@ -330,57 +342,43 @@ public class RoomSocketService {
      * @param roomId 모캠프 방 ID
      */
     public void updateMicStatus(StatusDTO statusDTO, Long roomId, Principal principal) {
-        String userSeq = principal.getName();
-        UserEntity user = userRepository.findUserByUserSeq(userSeq).orElse(null);
+        AuthenticatedUser user = AuthenticatedUser.of(principal);
         if (user == null) {
-            log.warn("[유저 조회 실패] userId: {}", user.getUserId());
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), USER_NOT_FOUND_MESSAGE)));
-            return;
-        }
-
-        log.info("[작업 상태 변경 요청] userId: {}, roomId: {}" ,user.getUserId(), roomId);
-
-        // roomId에 해당하는 방이 존재하는지 확인
-        RoomEntity roomEntity = roomRepository.findById(roomId).orElse(null);
-        if (roomEntity == null) {
-            log.warn("[방 조회 실패] roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(404, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_FOUND_MESSAGE)));
+            log.warn("[유저 조회 실패] 인증 정보 없음 - principal: {}", principal == null ? null : principal.getName());
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(404, new WebsocketErrorMessage(null, USER_NOT_FOUND_MESSAGE)));
             return;
         }
 
-        // 해당하는 방이 활동중인지 확인
-        if (!roomEntity.getStatus()) {
-            log.warn("[비활성화된 방 접근] roomId: {}", roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ROOM_NOT_ACTIVE_MESSAGE)));
-            return;
-        }
+        log.info("[마이크 상태 변경 요청] userId: {}, roomId: {}" ,user.getUserId(), roomId);
 
-        // 해당 방에 참여중인 유저인지 확인
-        JoinedRoomEntity joinedRoomEntity = joinedRoomRepository.findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue(roomId, user.getUserId()).orElse(null);
-        if (joinedRoomEntity == null) {
-            log.warn("[방에 참여중인 유저인지 확인] 방에 소속되지 않은 사용자 - userId: {}, roomId: {}", user.getUserId(), roomId);
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), USER_NOT_IN_ROOM_MESSAGE)));
+        // 활동 중인 방에 참여중인 유저인지 확인
+        if (roomPresenceStore.find(roomId, user.getUserId()) == null) {
+            sendParticipationError(roomId, user.getUserId());
             return;
         }
 
         // 다른 사용자 마이크 상태 토글인지 확인
         if(!user.getUserId().equals(statusDTO.getUserId())) {
             log.warn("[마이크 상태 변경 실패] 본인의 상태만 변경 가능 - 요청자: {}, 대상: {}", user.getUserId(), statusDTO.getUserId());
-            messagingTemplate.convertAndSend("/sub/data/" + roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ANOTHER_USER_STATUS_TOGGLE_MESSAGE)));
+            roomBroadcaster.broadcast(roomId, new ErrorResponse(403, new WebsocketErrorMessage(user.getUserId(), ANOTHER_USER_STATUS_TOGGLE_MESSAGE)));
             return;
         }
 
-        // 마이크 상태 변경 및 저장
-        joinedRoomEntity.updateMicStatus(statusDTO.getMicStatus());
-        JoinedRoomEntity updatedJoinedRoomEntity = joinedRoomRepository.save(joinedRoomEntity);
+        // 마이크 상태 변경
+        ParticipantPresence updatedPresence = roomPresenceStore.update(roomId, user.getUserId(),
+                presence -> presence.withMicStatus(statusDTO.getMicStatus()));
+        if (updatedPresence == null) {
+            sendParticipationError(roomId, user.getUserId());
+            return;
+        }
 
-        log.info("[캠 상태 변경 완료] userId: {}, roomId: {}, micStatus: {}" ,user.getUserId(), roomId, updatedJoinedRoomEntity.getMicStatus());
+        log.info("[마이크 상태 변경 완료] userId: {}, roomId: {}, micStatus: {}" ,user.getUserId(), roomId, updatedPresence.getMicStatus());
         // WebSocket 응답 전송
         StatusDTO micStatusDTO = StatusDTO.builder()
                 .type(WebsocketMessageType.MIC_STATUS_UPDATED)
                 .userId(user.getUserId())
-                .micStatus(updatedJoinedRoomEntity.getMicStatus())
+                .micStatus(updatedPresence.getMicStatus())
                 .build();
-        messagingTemplate.convertAndSend("/sub/data/" + roomId ,micStatusDTO);
+        roomBroadcaster.broadcast(roomId, micStatusDTO);
     }
 }
@@ -1,18 +1,21 @@
 package com.mocamp.mocamp_backend.service.s3;
 
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.transfer.TransferManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.UUID;
 
 @Slf4j
@@ -21,8 +24,11 @@ import java.util.UUID;
 public class S3Uploader {
 
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
+    @Value("${cloud.aws.s3.multipart-threshold-bytes:16777216}")
+    private long multipartThresholdBytes;
 
     public String upload(MultipartFile multipartFile, String dirName) throws IOException {
         // 파일 이름에서 공백을 제거한 새로운 파일 이름 생성
@@ -34,42 +40,61 @@ public class S3Uploader {
 
         String fileName = dirName + "/" + uniqueFileName;
         log.info("fileName: " + fileName);
-        File uploadFile = convert(multipartFile);
 
-        String uploadImageUrl = putS3(uploadFile, fileName);
-        removeNewFile(uploadFile);
-        return uploadImageUrl;
+        return putS3(multipartFile, fileName);
     }
 
-    private File convert(MultipartFile file) throws IOException {
-        String originalFileName = file.getOriginalFilename();
-        String uuid = UUID.randomUUID().toString();
-        String uniqueFileName = uuid + "_" + originalFileName.replaceAll("\\s", "_");
+    private String putS3(MultipartFile multipartFile, String fileName) throws IOException {
+        return putS3(multipartFile.getInputStream(), multipartFile.getSize(), multipartFile.getContentType(), fileName);
+    }
+
+    /**
+     * 입력 스트림을 임시 파일이나 byte[]로 복사하지 않고 그대로 S3에 올리는 메서드
+     * 크기를 미리 알려주므로 SDK가 스트림 전체를 메모리에 버퍼링하지 않으며,
+     * 멀티파트 기준 크기 이상이면 TransferManager로 나눠 올린다
+     */
+    private String putS3(InputStream source, long size, String contentType, String fileName) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(size);
+        metadata.setContentType(contentType);
 
-        File convertFile = new File(uniqueFileName);
-        if (convertFile.createNewFile()) {
-            try (FileOutputStream fos = new FileOutputStream(convertFile)) {
-                fos.write(file.getBytes());
-            } catch (IOException e) {
-                log.error("파일 변환 중 오류 발생: {}", e.getMessage());
-                throw e;
+        try (InputStream inputStream = source) {
+            if (size >= multipartThresholdBytes) {
+                transferManager.upload(bucket, fileName, inputStream, metadata).waitForCompletion();
+            } else {
+                amazonS3.putObject(bucket, fileName, inputStream, metadata);
             }
-            return convertFile;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 업로드가 중단되었습니다: " + fileName, e);
         }
-        throw new IllegalArgumentException(String.format("파일 변환에 실패했습니다. %s", originalFileName));
+        return amazonS3.getUrl(bucket, fileName).toString();
     }
 
-    private String putS3(File uploadFile, String fileName) {
-        amazonS3.putObject(new PutObjectRequest(bucket, fileName, uploadFile));
-        return amazonS3.getUrl(bucket, fileName).toString();
+    /**
+     * 서버에 받아 둔 파일을 메모리에 올리지 않고 스트림으로 S3에 올리는 메서드 (변환하지 못한 원본 이미지 등)
+     * @param file 올릴 파일
+     * @param contentType MIME 타입
+     * @param fileName S3 객체 키 (디렉토리 포함)
+     * @return 업로드된 파일 URL
+     */
+    public String upload(Path file, String contentType, String fileName) throws IOException {
+        return putS3(Files.newInputStream(file), Files.size(file), contentType, fileName);
     }
 
-    private void removeNewFile(File targetFile) {
-        if (targetFile.delete()) {
-            log.info("파일이 삭제되었습니다.");
-        } else {
-            log.info("파일이 삭제되지 못했습니다.");
-        }
+    /**
+     * 서버에서 변환한 이미지를 S3에 올리는 메서드
+     * @param content 이미지 데이터
+     * @param contentType 이미지 MIME 타입
+     * @param fileName S3 객체 키 (디렉토리 포함)
+     * @return 업로드된 이미지 URL
+     */
+    public String upload(byte[] content, String contentType, String fileName) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType(contentType);
+        amazonS3.putObject(bucket, fileName, new ByteArrayInputStream(content), metadata);
+        return amazonS3.getUrl(bucket, fileName).toString();
     }
 
     public void deleteFile(String fileName) {
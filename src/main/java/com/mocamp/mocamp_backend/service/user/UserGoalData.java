@@ -16,6 +16,8 @@ import java.util.List;
 public class UserGoalData {
     private String date;
     private Long amount;
+    // 그 날짜에 달성한 목표 수
+    private Long completedAmount;
 
     @Builder.Default
     private List<GoalListData> userGoalList = new ArrayList<>();
@@ -0,0 +1,14 @@
+package com.mocamp.mocamp_backend.service.user;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마이홈 목표 목록용 조회 결과 (목표 하나와 그 목표가 속한 방의 종료 시각)
+ * 유저의 모든 목표를 라이브/보관 테이블에서 한 번씩 조회해 방별, 날짜별로 나눈다
+ */
+public record UserGoalHistory(Long roomId, LocalDateTime endedAt, Long goalId, String content, Boolean isCompleted) {
+
+    public GoalListData toGoalListData() {
+        return new GoalListData(goalId, content, isCompleted);
+    }
+}
@@ -0,0 +1,12 @@
+package com.mocamp.mocamp_backend.service.user;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 마이홈 방 목록용 조회 결과 (목표 내용은 읽지 않고 개수만 가져온다)
+ * 보관 테이블의 방은 종료된 방이므로 status = false, goalCount = 0 (사용 통계에 이미 반영됨)
+ */
+public record UserRoomHistory(Long roomId, String roomName, LocalDateTime startedAt, LocalDateTime endedAt,
+                              LocalTime duration, Boolean status, Long goalCount) {
+}
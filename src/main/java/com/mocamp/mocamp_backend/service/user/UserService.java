@@ -1,20 +1,31 @@
 package com.mocamp.mocamp_backend.service.user;
 
+import com.mocamp.mocamp_backend.authentication.AuthenticatedUser;
 import com.mocamp.mocamp_backend.authentication.UserDetailsServiceImpl;
 import com.mocamp.mocamp_backend.dto.commonResponse.CommonResponse;
 import com.mocamp.mocamp_backend.dto.commonResponse.ErrorResponse;
 import com.mocamp.mocamp_backend.dto.commonResponse.SuccessResponse;
 import com.mocamp.mocamp_backend.dto.user.UserProfileResponse;
 import com.mocamp.mocamp_backend.entity.*;
-import com.mocamp.mocamp_backend.repository.ImageRepository;
+import com.mocamp.mocamp_backend.repository.JoinedRoomArchiveRepository;
 import com.mocamp.mocamp_backend.repository.JoinedRoomRepository;
-import com.mocamp.mocamp_backend.repository.RoomRepository;
+import com.mocamp.mocamp_backend.repository.UserDailyStatRepository;
 import com.mocamp.mocamp_backend.repository.UserRepository;
+import com.mocamp.mocamp_backend.service.image.ImageProcessingService;
+import com.mocamp.mocamp_backend.service.image.ImageService;
+import com.mocamp.mocamp_backend.service.image.ImageStatus;
 import com.mocamp.mocamp_backend.service.image.ImageType;
-import com.mocamp.mocamp_backend.service.s3.S3Uploader;
+import com.mocamp.mocamp_backend.service.image.ImageUploadRequestedEvent;
+import com.mocamp.mocamp_backend.service.image.ProfileImageReusedEvent;
+import com.mocamp.mocamp_backend.service.image.StagedImage;
+import com.mocamp.mocamp_backend.service.image.UploadedImage;
+import com.mocamp.mocamp_backend.service.room.RoomAccessChangedEvent;
+import com.mocamp.mocamp_backend.service.room.RoomPresenceStore;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -24,7 +35,6 @@ import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -35,115 +45,46 @@ public class UserService {
     private static final String ROOM_NOT_FOUND_MESSAGE = "방 데이터 조회에 실패했습니다";
     private static final String ROOM_LIST_NOT_FOUND_MESSAGE = "방 목록 조회에 실패했습니다";
     private static final String IMAGE_SAVING_MESSAGE = "이미지 저장에 실패했습니다";
+    private static final String IMAGE_BUSY_MESSAGE = "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해 주세요";
+    private static final DateTimeFormatter DAILY_DATE_FORMATTER = DateTimeFormatter.ofPattern("M.d");
 
     @Value("${cloud.aws.s3.bucket}")
     private String DirName;
-    private final RoomRepository roomRepository;
-    private final ImageRepository imageRepository;
+    private final ImageService imageService;
     private final JoinedRoomRepository joinedRoomRepository;
+    private final JoinedRoomArchiveRepository joinedRoomArchiveRepository;
+    private final UserDailyStatRepository userDailyStatRepository;
     private final UserDetailsServiceImpl userDetailsService;
     private final UserRepository userRepository;
-    private final S3Uploader s3Uploader;
+    private final ImageProcessingService imageProcessingService;
+    private final RoomPresenceStore roomPresenceStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 모캠프 방 별 데이터 생성
-    private UserRoomData makeRoomData(final RoomEntity roomEntity, final List<GoalEntity> goalList) {;
-        List<GoalListData> goalDataList = goalList.stream().map(
-                entry -> new GoalListData(entry.getGoalId(), entry.getContent(), entry.getIsCompleted())
-        ).toList();
-
+    private UserRoomData makeRoomData(final UserRoomHistory roomHistory, final List<GoalListData> goalList) {
         return UserRoomData.builder()
-                .roomId(roomEntity.getRoomId())
-                .roomName(roomEntity.getRoomName())
-                .startedAt(roomEntity.getStartedAt())
-                .duration(roomEntity.getDuration())
-                .status(roomEntity.getStatus())
-                .userGoalList(goalDataList)
+                .roomId(roomHistory.roomId())
+                .roomName(roomHistory.roomName())
+                .startedAt(roomHistory.startedAt())
+                .duration(roomHistory.duration())
+                .status(roomHistory.status())
+                .userGoalList(goalList)
                 .build();
     }
 
-    // 날짜별 모캠프 사용 시간 데이터 생성
-    private List<UserTimeData> makeTimeData(final List<UserTimeData> timeList) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("M.d");
-
-        return timeList.stream()
-                .collect(Collectors.groupingBy(
-                        UserTimeData::getDate,
-                        Collectors.toList()
-                ))
-                .entrySet()
-                .stream()
-                .map(entry -> {
-                    String date = entry.getKey();
-                    List<UserTimeData> dataList = entry.getValue();
-
-                    // 날짜별 duration 합산
-                    Long totalDuration = dataList.stream()
-                            .mapToLong(UserTimeData::getDuration)
-                            .sum();
-
-                    // 날짜별 goalList 이어붙이기
-                    List<GoalListData> mergedGoalList = dataList.stream()
-                            .flatMap(data -> data.getUserGoalList().stream())
-                            .collect(Collectors.toList());
-
-                    return UserTimeData.builder()
-                            .date(date)
-                            .duration(totalDuration)
-                            .userGoalList(mergedGoalList)
-                            .build();
-                })
-                .sorted(Comparator.comparing(
-                        data -> LocalDate.parse(data.getDate(), formatter).withYear(LocalDate.now().getYear())
-                )).toList();
-    }
-
-    // 날짜별 목표 수행 데이터 생성
-    private List<UserGoalData> makeGoalData(final List<UserGoalData> goalList) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("M.d");
-
-        return goalList.stream()
-                .collect(Collectors.groupingBy(
-                        UserGoalData::getDate,
-                        Collectors.toList()
-                ))
-                .entrySet()
-                .stream()
-                .map(entry -> {
-                    String date = entry.getKey();
-                    List<UserGoalData> dataList = entry.getValue();
-
-                    // 날짜별 amount 합산
-                    Long totalAmount = dataList.stream()
-                            .mapToLong(UserGoalData::getAmount)
-                            .sum();
-
-                    // 날짜별 goalList 이어붙이기
-                    List<GoalListData> mergedGoalList = dataList.stream()
-                            .flatMap(data -> data.getUserGoalList().stream())
-                            .collect(Collectors.toList());
-
-                    return UserGoalData.builder()
-                            .date(date)
-                            .amount(totalAmount)
-                            .userGoalList(mergedGoalList)
-                            .build();
-                })
-                .sorted(Comparator.comparing(
-                        data -> LocalDate.parse(data.getDate(), formatter).withYear(LocalDate.now().getYear())
-                )).toList();
-    }
-
     /**
      * 마이홈에 들어갈 사용자 데이터를 생성하여 반환하는 메서드
-     * 모캠프 사용 추이 부분에 들어갈 시간 데이터와 목표 데이터를 모두 포함한다
+     * 모캠프 사용 추이(날짜별 사용 시간/목표 수/달성 수)와 누적 값은 user_daily_stat 집계에서 만들고,
+     * 방 목록은 요약 조회로, 방별/날짜별 목표 목록은 유저의 목표를 한 번에 읽는 조회로 만든다 (참여한 방 수와 무관하게 쿼리 수 고정)
      * @return 참여한 방 목록, 참여 시간, 생성한 목표 리스트를 포함한 사용자의 모든 데이터
      */
     public ResponseEntity<CommonResponse> getUserProfile() {
         UserEntity userEntity;
-        List<JoinedRoomEntity> joinedRoomEntityList;
-        List<UserRoomData> roomList = new ArrayList<>();
-        List<UserTimeData> timeList = new ArrayList<>();
-        List<UserGoalData> goalList = new ArrayList<>();
+        List<UserRoomHistory> roomHistoryList;
+        List<UserGoalHistory> goalHistoryList;
+        List<UserDailyStatEntity> dailyStatList;
+        // 날짜 -> {사용 시간(분), 목표 수, 달성한 목표 수}
+        Map<LocalDate, long[]> dailyTotals = new TreeMap<>();
         Long totalDurationMinute = 0L;
         Long totalNumberOfGoals = 0L;
 
@@ -157,62 +98,76 @@ public class UserService {
                     .body(new ErrorResponse(403, "에러 메시지: " + USER_NOT_FOUND_MESSAGE));
         }
 
-        // 모캠프 사용 이력 확인
+        // 모캠프 사용 이력 확인 (보관 테이블로 옮겨진 오래된 방도 함께 보여줌)
         try {
-            joinedRoomEntityList = joinedRoomRepository.findAllByUser(userEntity);
-            log.info("[모캠프 목록 조회 성공] 유저 ID: {}, 닉네임: {}, 모캠프 방 개수: {}", userEntity.getUserId(), userEntity.getUsername(), joinedRoomEntityList.size());
+            roomHistoryList = new ArrayList<>(joinedRoomRepository.findRoomHistoryByUserId(userEntity.getUserId()));
+            roomHistoryList.addAll(joinedRoomArchiveRepository.findRoomHistoryByUserId(userEntity.getUserId()));
+            goalHistoryList = new ArrayList<>(joinedRoomRepository.findGoalHistoryByUserId(userEntity.getUserId()));
+            goalHistoryList.addAll(joinedRoomArchiveRepository.findGoalHistoryByUserId(userEntity.getUserId()));
+            dailyStatList = userDailyStatRepository.findAllByUser_UserIdOrderByStatDateAsc(userEntity.getUserId());
+            log.info("[모캠프 목록 조회 성공] 유저 ID: {}, 닉네임: {}, 모캠프 방 개수: {}", userEntity.getUserId(), userEntity.getUsername(), roomHistoryList.size());
         } catch (Exception e) {
             log.error("[모캠프 목록 조회 실패] {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new ErrorResponse(403, "에러 메시지: " + ROOM_LIST_NOT_FOUND_MESSAGE));
         }
 
-        // 모캠프 방 별 데이터 조회
-        try {
-            for(JoinedRoomEntity joinedRoomEntity : joinedRoomEntityList) {
-                RoomEntity roomEntity;
-                try {
-                    roomEntity = roomRepository.findById(joinedRoomEntity.getRoom().getRoomId()).orElseThrow();
-                } catch (Exception e) {
-                    log.error("[방 조회 실패] joinedRoomId : {} \n message : {}", joinedRoomEntity.getJoinedRoomId(), e.getMessage(), e);
-                    throw new RuntimeException();
-                }
+        // 종료된 방의 날짜별 사용 시간/목표 수는 집계 테이블에서 가져옴
+        for (UserDailyStatEntity dailyStat : dailyStatList) {
+            dailyTotals.put(dailyStat.getStatDate(),
+                    new long[]{dailyStat.getMinutes(), dailyStat.getGoalCount(), dailyStat.getCompletedCount()});
+        }
 
-                List<GoalListData> goalDataList = joinedRoomEntity.getGoals().stream()
-                        .map(entry -> new GoalListData(entry.getGoalId(), entry.getContent(), entry.getIsCompleted()))
-                        .toList();
-
-                UserRoomData userRoomData = makeRoomData(roomEntity, joinedRoomEntity.getGoals());
-                roomList.add(userRoomData);
-
-                UserTimeData userTimeData = UserTimeData.builder()
-                        .date(roomEntity.getEndedAt().getMonth().getValue() + "." + roomEntity.getEndedAt().getDayOfMonth())
-                        .duration((long) (roomEntity.getDuration().getHour() * 60 + roomEntity.getDuration().getMinute()))
-                        .userGoalList(goalDataList)
-                        .build();
-                timeList.add(userTimeData);
-                totalDurationMinute += userTimeData.getDuration();
-
-                UserGoalData userGoalData = UserGoalData.builder()
-                        .date(roomEntity.getEndedAt().getMonth().getValue() + "." + roomEntity.getEndedAt().getDayOfMonth())
-                        .amount((long) goalDataList.size())
-                        .userGoalList(goalDataList)
-                        .build();
-                goalList.add(userGoalData);
-                totalNumberOfGoals += userGoalData.getAmount();
-
-                log.info("[방 데이터 조회 성공] 유저 닉네임: {}, 방 이름: {}", joinedRoomEntity.getUser().getUsername(), roomEntity.getRoomName());
+        // 목표를 방별, 방 종료 날짜별로 나눔
+        Map<Long, List<GoalListData>> goalsByRoom = new HashMap<>();
+        Map<LocalDate, List<GoalListData>> goalsByDate = new HashMap<>();
+        Map<Long, Long> completedByRoom = new HashMap<>();
+        for (UserGoalHistory goalHistory : goalHistoryList) {
+            GoalListData goalData = goalHistory.toGoalListData();
+            goalsByRoom.computeIfAbsent(goalHistory.roomId(), key -> new ArrayList<>()).add(goalData);
+            goalsByDate.computeIfAbsent(goalHistory.endedAt().toLocalDate(), key -> new ArrayList<>()).add(goalData);
+            if (Boolean.TRUE.equals(goalHistory.isCompleted())) {
+                completedByRoom.merge(goalHistory.roomId(), 1L, Long::sum);
             }
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ErrorResponse(403, "에러 메시지: " + ROOM_NOT_FOUND_MESSAGE));
         }
 
-        List<UserRoomData> roomListResult = roomList.stream()
-                .sorted(Comparator.comparing(UserRoomData::getStartedAt).reversed())
-                .toList();;
-        List<UserTimeData> timeListResult = makeTimeData(timeList);
-        List<UserGoalData> goalListResult = makeGoalData(goalList);
+        // 활동 중인 방은 아직 집계 전이므로 종료 예정 시각 기준으로 더함
+        for (UserRoomHistory roomHistory : roomHistoryList) {
+            if (roomHistory.status()) {
+                long[] totals = dailyTotals.computeIfAbsent(roomHistory.endedAt().toLocalDate(), key -> new long[3]);
+                totals[0] += roomHistory.duration().getHour() * 60L + roomHistory.duration().getMinute();
+                totals[1] += roomHistory.goalCount();
+                totals[2] += completedByRoom.getOrDefault(roomHistory.roomId(), 0L);
+            }
+        }
+
+        // 날짜순으로 사용 시간 데이터와 목표 수행 데이터 생성
+        List<UserTimeData> timeListResult = new ArrayList<>();
+        List<UserGoalData> goalListResult = new ArrayList<>();
+        for (Map.Entry<LocalDate, long[]> entry : dailyTotals.entrySet()) {
+            String date = entry.getKey().format(DAILY_DATE_FORMATTER);
+            List<GoalListData> goalDataList = goalsByDate.getOrDefault(entry.getKey(), List.of());
+            long[] totals = entry.getValue();
+
+            timeListResult.add(UserTimeData.builder()
+                    .date(date)
+                    .duration(totals[0])
+                    .userGoalList(goalDataList)
+                    .build());
+            goalListResult.add(UserGoalData.builder()
+                    .date(date)
+                    .amount(totals[1])
+                    .completedAmount(totals[2])
+                    .userGoalList(goalDataList)
+                    .build());
+            totalDurationMinute += totals[0];
+            totalNumberOfGoals += totals[1];
+        }
+
+        List<UserRoomData> roomListResult = roomHistoryList.stream()
+                .sorted(Comparator.comparing(UserRoomHistory::startedAt).reversed())
+                .map(roomHistory -> makeRoomData(roomHistory, goalsByRoom.getOrDefault(roomHistory.roomId(), List.of())))
+                .toList();
 
         // 응답 객체 생성
         UserProfileResponse userProfileResponse = UserProfileResponse.builder()
@@ -234,13 +189,13 @@ public class UserService {
      * @return 목표 데이터의 ID, 내용, 달성 여부를 포함한 목표 리스트 반환
      */
     public ResponseEntity<CommonResponse> getUserGoals(final Long roomId) {
-        UserEntity userEntity;
+        AuthenticatedUser authenticatedUser;
         JoinedRoomEntity joinedRoomEntity;
 
         // 유저 확인
         try {
-            userEntity = userDetailsService.getUserByContextHolder();
-            log.info("[마이홈 유저 조회 성공] 유저 ID: {}, 닉네임: {}", userEntity.getUserId(), userEntity.getUsername());
+            authenticatedUser = userDetailsService.getAuthenticatedUser();
+            log.info("[마이홈 유저 조회 성공] 유저 ID: {}, 닉네임: {}", authenticatedUser.getUserId(), authenticatedUser.getUsername());
         } catch (Exception e) {
             log.error("[마이홈 유저 조회 실패] {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -249,8 +204,13 @@ public class UserService {
 
         // ID에 맞는 방 데이터 조회
         try {
-            joinedRoomEntity = joinedRoomRepository.findByUserAndRoom_RoomId(userEntity, roomId);
-            log.info("[모캠프 목록 조회 성공] 유저 ID: {}, 닉네임: {}, 목표 개수: {}", userEntity.getUserId(), userEntity.getUsername(), joinedRoomEntity.getGoals().size());
+            joinedRoomEntity = joinedRoomRepository.findByUserAndRoom_RoomId(userDetailsService.getUserReference(), roomId);
+            if (joinedRoomEntity == null) {   // 보관 테이블로 옮겨진 방
+                joinedRoomEntity = joinedRoomArchiveRepository.findByUserIdAndRoom_RoomId(authenticatedUser.getUserId(), roomId)
+                        .map(JoinedRoomArchiveEntity::toJoinedRoomEntity)
+                        .orElseThrow();
+            }
+            log.info("[모캠프 목록 조회 성공] 유저 ID: {}, 닉네임: {}, 목표 개수: {}", authenticatedUser.getUserId(), authenticatedUser.getUsername(), joinedRoomEntity.getGoals().size());
         } catch (Exception e) {
             log.error("[모캠프 목록 조회 실패] {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -264,8 +224,8 @@ public class UserService {
                         .isCompleted(entry.getIsCompleted()).build())
                 .toList();
         Map<String, Object> goalListMap = new HashMap<>();
-        goalListMap.put("userId", userEntity.getUserId());
-        goalListMap.put("username", userEntity.getUsername());
+        goalListMap.put("userId", authenticatedUser.getUserId());
+        goalListMap.put("username", authenticatedUser.getUsername());
         goalListMap.put("roomId", roomId);
         goalListMap.put("dataList", goalListData);
 
@@ -278,13 +238,13 @@ public class UserService {
      * @return 로그아웃 완료 메시지
      */
     public ResponseEntity<CommonResponse> logout() {
-        UserEntity userEntity;
+        AuthenticatedUser authenticatedUser;
         List<JoinedRoomEntity> joinedRoomEntityList;
 
         // 유저 확인
         try {
-            userEntity = userDetailsService.getUserByContextHolder();
-            log.info("[마이홈 유저 조회 성공] 유저 ID: {}, 닉네임: {}", userEntity.getUserId(), userEntity.getUsername());
+            authenticatedUser = userDetailsService.getAuthenticatedUser();
+            log.info("[마이홈 유저 조회 성공] 유저 ID: {}, 닉네임: {}", authenticatedUser.getUserId(), authenticatedUser.getUsername());
         } catch (Exception e) {
             log.error("[마이홈 유저 조회 실패] {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -292,8 +252,8 @@ public class UserService {
         }
 
         try {
-            joinedRoomEntityList = joinedRoomRepository.findAllByUser(userEntity);
-            log.info("[마이홈 방 목록 조회 성공] 유저 ID: {}, 닉네임: {}", userEntity.getUserId(), joinedRoomEntityList.get(0).getUser().getUsername());
+            joinedRoomEntityList = joinedRoomRepository.findAllByUser(userDetailsService.getUserReference());
+            log.info("[마이홈 방 목록 조회 성공] 유저 ID: {}, 닉네임: {}", authenticatedUser.getUserId(), joinedRoomEntityList.get(0).getUser().getUsername());
         } catch (Exception e) {
             log.error("[마이홈 방 목록 조회 실패] {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -306,6 +266,10 @@ public class UserService {
                 return entity;
             }).toList();
         joinedRoomRepository.saveAll(updatedRoomEntityList);
+        updatedRoomEntityList.forEach(entity -> {
+            roomPresenceStore.leave(entity.getRoom().getRoomId(), authenticatedUser.getUserId());
+            eventPublisher.publishEvent(new RoomAccessChangedEvent(entity.getRoom().getRoomId()));
+        });
 
         return ResponseEntity.ok(new SuccessResponse(200, "로그아웃 되었습니다."));
     }
@@ -317,7 +281,6 @@ public class UserService {
     @Transactional
     public ResponseEntity<CommonResponse> modifyUserProfile(String username, MultipartFile imageFile) {
         UserEntity userEntity;
-        String imagePath = null;
 
         // 유저 확인
         try {
@@ -338,32 +301,34 @@ public class UserService {
 
         // 프로필 변경 사항에 유저 프로필 사진 변경이 있을 때, 유저 프로필 사진 변경 및 저장
         if(imageFile != null && !imageFile.isEmpty()) {
+            if (!imageProcessingService.hasCapacity()) {
+                log.warn("[이미지 처리 대기열 초과] 유저 ID: {}", userEntity.getUserId());
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .body(new ErrorResponse(503, "에러 메시지: " + IMAGE_BUSY_MESSAGE));
+            }
             try {
-                imagePath = s3Uploader.uploadImage(imageFile, DirName);
-                log.info("[이미지 업로드 성공] 경로: {}", imagePath);
-
-                ImageEntity imageEntity = null;
-
-                // 기존 이미지 엔티티가 존재할 경우
-                if (userEntity.getImage() != null) {
-                    imageEntity = imageRepository.findById(userEntity.getImage().getImageId()).orElse(null);
-
-                    if (imageEntity != null) {
-                        imageEntity.updatePath(imagePath);
-                        imageRepository.save(imageEntity);
-                        log.info("[이미지 경로 업데이트 완료] 이미지 ID: {}", imageEntity.getImageId());
-                    }
-                }
-
-                // 기존 이미지가 없거나 못 찾은 경우 새로 생성
-                if(imageEntity == null) {
-                    imageEntity = ImageEntity.builder()
-                            .type(ImageType.profile)
-                            .path(imagePath)
-                            .build();
-                    ImageEntity newImageEntity = imageRepository.save(imageEntity);
-                    userEntity.setImage(newImageEntity);
-                    log.info("[새 이미지 엔티티 저장 및 연결] 이미지 ID: {}", newImageEntity.getImageId());
+                // 변환/업로드는 커밋 후 ImageProcessingService에서 처리
+                StagedImage stagedImage = imageProcessingService.stage(imageFile);
+
+                // 이미지 행은 여러 유저가 함께 쓸 수 있으므로 기존 행을 수정하지 않고 새 행(또는 같은 내용의 기존 행)을 연결
+                UploadedImage uploadedImage = imageService.findOrCreateUploadedImage(stagedImage, ImageType.profile);
+                ImageEntity imageEntity = uploadedImage.image();
+                // 이 요청이 가장 나중 프로필 변경임을 기록 (이전 요청의 변환이 늦게 끝나도 덮어쓰지 않음)
+                userEntity.setProfileUploadId(imageEntity.getImageId());
+
+                if (uploadedImage.created()) {
+                    // 처리가 끝나면 유저에 연결 (그 전까지는 이전 프로필 이미지 유지)
+                    eventPublisher.publishEvent(new ImageUploadRequestedEvent(imageEntity.getImageId(), stagedImage.file(),
+                            stagedImage.contentHash(), imageFile.getContentType(), DirName, null, userEntity.getUserId()));
+                    log.info("[이미지 변환 대기] 이미지 ID: {}", imageEntity.getImageId());
+                } else if (imageEntity.getStatus() == ImageStatus.PENDING) {
+                    // 같은 내용이 다른 요청에서 처리 중이면 그 변환이 끝날 때 함께 연결됨
+                    eventPublisher.publishEvent(new ProfileImageReusedEvent(imageEntity.getImageId()));
+                    log.info("[처리 중인 이미지 재사용] 이미지 ID: {}", imageEntity.getImageId());
+                } else {
+                    userEntity.setImage(imageEntity);
+                    log.info("[기존 이미지 연결] 이미지 ID: {}", imageEntity.getImageId());
                 }
 
             } catch (Exception e) {
@@ -0,0 +1,32 @@
+package com.mocamp.mocamp_backend.service.user;
+
+import com.mocamp.mocamp_backend.repository.UserDailyStatRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserStatService {
+
+    private final UserDailyStatRepository userDailyStatRepository;
+
+    /**
+     * 종료된 방들의 참여자 통계를 날짜별 통계에 반영하는 메서드
+     * 방 종료 처리와 같은 트랜잭션에서 호출되어야 중복/누락 없이 한 번만 반영된다
+     * 통계 테이블 도입 전에 종료된 방은 V6 마이그레이션이 한 번만 채운다 (Flyway 잠금으로 노드 하나에서만 실행)
+     * @param roomIds 이번에 종료된 방 ID 목록
+     */
+    @Transactional
+    public void recordEndedRooms(Collection<Long> roomIds) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        int affected = userDailyStatRepository.accumulateEndedRooms(roomIds);
+        log.info("[사용 통계 반영] 종료된 방 수: {}, 반영 행 수: {}", roomIds.size(), affected);
+    }
+}
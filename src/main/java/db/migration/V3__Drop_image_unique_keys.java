@@ -0,0 +1,70 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * user.image_id, room.image_id 의 유니크 키를 지우는 마이그레이션
+ *
+ * 기존 운영 DB의 유니크 키는 @OneToOne 매핑으로 Hibernate가 만든 것이라 이름(UK_xxx)이 DB마다 다르므로,
+ * SQL 파일 대신 information_schema 에서 image_id 한 컬럼짜리 유니크 키를 찾아 지운다
+ * 외래키용 일반 인덱스(idx_user_image, idx_room_image)는 V2에서 먼저 만들어 둔다
+ */
+public class V3__Drop_image_unique_keys extends BaseJavaMigration {
+
+    private static final List<String> TABLES = List.of("user", "room");
+
+    private static final String FIND_UNIQUE_KEYS = """
+            SELECT tc.constraint_name
+            FROM information_schema.table_constraints tc
+            JOIN information_schema.key_column_usage k
+              ON k.constraint_schema = tc.constraint_schema
+             AND k.constraint_name = tc.constraint_name
+             AND k.table_name = tc.table_name
+            WHERE tc.constraint_schema = ?
+              AND LOWER(tc.table_name) = ?
+              AND tc.constraint_type = 'UNIQUE'
+            GROUP BY tc.constraint_name
+            HAVING COUNT(*) = 1 AND MAX(LOWER(k.column_name)) = 'image_id'
+            """;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+        // MySQL은 데이터베이스(catalog), H2는 스키마 단위로 information_schema 를 구분한다
+        String schema = mysql ? connection.getCatalog() : connection.getSchema();
+
+        for (String table : TABLES) {
+            for (String constraintName : findUniqueKeys(connection, schema, table)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(mysql
+                            ? "ALTER TABLE `" + table + "` DROP INDEX `" + constraintName + "`"
+                            : "ALTER TABLE `" + table + "` DROP CONSTRAINT `" + constraintName + "`");
+                }
+            }
+        }
+    }
+
+    private List<String> findUniqueKeys(Connection connection, String schema, String table) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_UNIQUE_KEYS)) {
+            statement.setString(1, schema);
+            statement.setString(2, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    names.add(resultSet.getString(1));
+                }
+            }
+        }
+        return names;
+    }
+}
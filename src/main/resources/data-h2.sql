@@ -0,0 +1,7 @@
+-- 부하 테스트용 유저 (user_id 1 ~ 10000, user_seq = load-{user_id})
+-- StompLoadGenerator는 같은 userId/userSeq로 토큰을 서명한다
+INSERT INTO "user" (user_id, user_seq, username, email, email_verified_yn, created_at, modified_at)
+SELECT X, CONCAT('load-', X), CONCAT('load-', X), CONCAT('load-', X, '@mocamp.local'), 'Y', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM SYSTEM_RANGE(1, 10000);
+
+ALTER TABLE "user" ALTER COLUMN user_id RESTART WITH 10001;
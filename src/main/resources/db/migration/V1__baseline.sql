@@ -0,0 +1,71 @@
+-- 마이그레이션 도입 전 운영 스키마 (Hibernate ddl-auto가 엔티티에서 만들던 그대로)
+-- 기존 운영 DB는 spring.flyway.baseline-version=1 로 이 파일을 건너뛰고, 빈 DB에서만 실행된다
+-- 이후 바뀐 컬럼/테이블/인덱스는 모두 V2 이후 마이그레이션에서 ALTER/CREATE 로 추가한다 (이 파일은 수정하지 않는다)
+
+CREATE TABLE image (
+    image_id BIGINT                  NOT NULL AUTO_INCREMENT,
+    type     ENUM ('profile', 'room') NOT NULL,
+    path     VARCHAR(255)            NOT NULL,
+    PRIMARY KEY (image_id)
+);
+
+-- user.image, room.image 는 @OneToOne 이어서 image_id 에 유니크 키가 있었다 (운영 DB의 키 이름은 Hibernate가 생성)
+CREATE TABLE `user` (
+    user_id           BIGINT       NOT NULL AUTO_INCREMENT,
+    user_seq          VARCHAR(255) NOT NULL,
+    username          VARCHAR(255) NOT NULL,
+    password          VARCHAR(255),
+    email             VARCHAR(255) NOT NULL,
+    email_verified_yn VARCHAR(255) NOT NULL,
+    created_at        DATETIME(6)  NOT NULL,
+    modified_at       DATETIME(6)  NOT NULL,
+    image_id          BIGINT,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_user_image UNIQUE (image_id),
+    CONSTRAINT fk_user_image FOREIGN KEY (image_id) REFERENCES image (image_id)
+);
+
+CREATE TABLE room (
+    room_id          BIGINT       NOT NULL AUTO_INCREMENT,
+    room_name        VARCHAR(255) NOT NULL,
+    room_seq         VARCHAR(255) NOT NULL,
+    capacity         INT          NOT NULL,
+    room_num         INT          NOT NULL,
+    status           BIT          NOT NULL,
+    started_at       DATETIME(6)  NOT NULL,
+    ended_at         DATETIME(6)  NOT NULL,
+    duration         TIME(6)      NOT NULL,
+    notice           VARCHAR(255) NOT NULL,
+    is_deleted       BIT          NOT NULL,
+    mic_availability BIT          NOT NULL,
+    image_id         BIGINT,
+    PRIMARY KEY (room_id),
+    CONSTRAINT uk_room_image UNIQUE (image_id),
+    CONSTRAINT fk_room_image FOREIGN KEY (image_id) REFERENCES image (image_id)
+);
+
+CREATE TABLE joined_room (
+    joined_room_id   BIGINT       NOT NULL AUTO_INCREMENT,
+    is_admin         BIT          NOT NULL,
+    is_participating BIT          NOT NULL,
+    is_deleted       BIT          NOT NULL,
+    is_secret        BIT          NOT NULL,
+    resolution       VARCHAR(255) NOT NULL,
+    work_status      BIT          NOT NULL,
+    mic_status       BIT          NOT NULL,
+    cam_status       BIT          NOT NULL,
+    user_id          BIGINT       NOT NULL,
+    room_id          BIGINT       NOT NULL,
+    PRIMARY KEY (joined_room_id),
+    CONSTRAINT fk_joined_room_user FOREIGN KEY (user_id) REFERENCES `user` (user_id),
+    CONSTRAINT fk_joined_room_room FOREIGN KEY (room_id) REFERENCES room (room_id)
+);
+
+CREATE TABLE goal (
+    goal_id        BIGINT       NOT NULL AUTO_INCREMENT,
+    content        VARCHAR(255) NOT NULL,
+    is_completed   BIT          NOT NULL,
+    joined_room_id BIGINT       NOT NULL,
+    PRIMARY KEY (goal_id),
+    CONSTRAINT fk_goal_joined_room FOREIGN KEY (joined_room_id) REFERENCES joined_room (joined_room_id)
+);
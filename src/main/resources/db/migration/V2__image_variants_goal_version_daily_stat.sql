@@ -0,0 +1,29 @@
+-- 기준 스키마(V1) 이후 엔티티에 추가된 컬럼과 테이블
+
+-- image: 썸네일 경로, 원본 내용 해시(중복 업로드 재사용), 비동기 변환 상태
+-- 기존 행의 status 는 null 로 두고 READY 로 취급한다
+ALTER TABLE image ADD COLUMN thumbnail_path VARCHAR(255);
+ALTER TABLE image ADD COLUMN content_hash VARCHAR(64);
+ALTER TABLE image ADD COLUMN status VARCHAR(16);
+CREATE INDEX idx_image_content_hash ON image (content_hash);
+
+-- joined_room: 목표 목록 변경 버전 (목표 델타 브로드캐스트 순서 확인용)
+ALTER TABLE joined_room ADD COLUMN goal_version BIGINT NOT NULL DEFAULT 0;
+
+-- user/room 의 image_id 는 같은 이미지를 여러 행이 공유할 수 있도록 (@ManyToOne) 유니크 키를 V3에서 지운다
+-- 외래키에는 인덱스가 있어야 하므로 유니크 키를 지우기 전에 일반 인덱스를 먼저 만든다
+CREATE INDEX idx_user_image ON `user` (image_id);
+CREATE INDEX idx_room_image ON room (image_id);
+
+-- 유저 날짜별 사용 통계 (방 종료 시 누적, 마이홈 조회용)
+CREATE TABLE user_daily_stat (
+    stat_id         BIGINT NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT NOT NULL,
+    stat_date       DATE   NOT NULL,
+    minutes         BIGINT NOT NULL,
+    goal_count      BIGINT NOT NULL,
+    completed_count BIGINT NOT NULL,
+    PRIMARY KEY (stat_id),
+    CONSTRAINT uk_user_daily_stat_user_date UNIQUE (user_id, stat_date),
+    CONSTRAINT fk_user_daily_stat_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+);
@@ -0,0 +1,19 @@
+-- 저장소 조회 메서드에 맞춘 인덱스와 유니크 키
+
+-- joined_room
+-- (room_id, user_id, is_participating, is_admin): findByRoom_RoomIdAndUser_UserIdAndIsParticipatingTrue,
+--   existsByRoom_RoomIdAndUser_UserIdAndIsAdminTrue, findByRoomAndUser, findByUserAndRoom_RoomId 를 인덱스만으로 처리
+CREATE INDEX idx_joined_room_room_user_state ON joined_room (room_id, user_id, is_participating, is_admin);
+-- (room_id, is_participating): findByRoom_RoomIdAndIsParticipatingTrue, findParticipantsWithGoalsByRoomId
+CREATE INDEX idx_joined_room_room_participating ON joined_room (room_id, is_participating);
+-- (user_id): findAllByUser, findRoomHistoryByUserId (MySQL이 외래키용으로 만든 인덱스를 대신한다)
+CREATE INDEX idx_joined_room_user ON joined_room (user_id);
+
+-- room
+CREATE UNIQUE INDEX uk_room_room_seq ON room (room_seq);
+-- 활동 중인 방(status = true)은 전체 중 일부이므로 findAllByStatusTrue, findActiveRoomIds 에서 범위를 줄인다
+CREATE INDEX idx_room_status ON room (status);
+
+-- user
+CREATE UNIQUE INDEX uk_user_user_seq ON `user` (user_seq);
+CREATE INDEX idx_user_email ON `user` (email);
@@ -0,0 +1,42 @@
+-- 종료된 방을 옮겨 두는 보관 테이블 (RoomArchiver가 배치로 이동)
+-- 라이브 테이블(room/joined_room/goal)에는 활동 중이거나 최근 종료된 방만 남고, 마이홈 이력 조회만 보관 테이블을 함께 읽는다
+-- 보관 테이블 사이에는 외래키를 두지 않는다 (이동 순서와 관계없이 배치 단위로 넣고 지울 수 있도록)
+
+CREATE TABLE room_archive (
+    room_id          BIGINT       NOT NULL,
+    room_name        VARCHAR(255) NOT NULL,
+    room_seq         VARCHAR(255) NOT NULL,
+    capacity         INT          NOT NULL,
+    started_at       DATETIME(6)  NOT NULL,
+    ended_at         DATETIME(6)  NOT NULL,
+    duration         TIME(6)      NOT NULL,
+    notice           VARCHAR(255) NOT NULL,
+    mic_availability BIT          NOT NULL,
+    image_id         BIGINT,
+    archived_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (room_id)
+);
+
+CREATE TABLE joined_room_archive (
+    joined_room_id BIGINT       NOT NULL,
+    room_id        BIGINT       NOT NULL,
+    user_id        BIGINT       NOT NULL,
+    is_admin       BIT          NOT NULL,
+    is_secret      BIT          NOT NULL,
+    resolution     VARCHAR(255) NOT NULL,
+    PRIMARY KEY (joined_room_id)
+);
+
+-- 마이홈 전체 이력(user_id), 방별 목표 조회(room_id, user_id)
+CREATE INDEX idx_joined_room_archive_user ON joined_room_archive (user_id);
+CREATE INDEX idx_joined_room_archive_room_user ON joined_room_archive (room_id, user_id);
+
+CREATE TABLE goal_archive (
+    goal_id        BIGINT       NOT NULL,
+    joined_room_id BIGINT       NOT NULL,
+    content        VARCHAR(255) NOT NULL,
+    is_completed   BIT          NOT NULL,
+    PRIMARY KEY (goal_id)
+);
+
+CREATE INDEX idx_goal_archive_joined_room ON goal_archive (joined_room_id);
@@ -0,0 +1,32 @@
+-- 통계 테이블(V2) 도입 전에 종료된 방의 참여 이력을 날짜별 통계로 한 번 채운다 (라이브 테이블과 보관 테이블 모두)
+-- 여러 노드가 동시에 떠도 Flyway 잠금과 이력 테이블 덕분에 한 번만 실행된다 (이후 종료되는 방은 UserStatService가 누적)
+-- 같은 유저/날짜의 여러 방은 바깥 GROUP BY 로 합쳐 유니크 키(user_id, stat_date)와 겹치지 않게 넣는다
+
+INSERT INTO user_daily_stat (user_id, stat_date, minutes, goal_count, completed_count)
+SELECT t.user_id, t.stat_date, SUM(t.minutes), SUM(t.goal_count), SUM(t.completed_count)
+FROM (
+    SELECT j.user_id                                                           AS user_id,
+           CAST(r.ended_at AS DATE)                                            AS stat_date,
+           HOUR(r.duration) * 60 + MINUTE(r.duration)                          AS minutes,
+           COUNT(g.goal_id)                                                    AS goal_count,
+           COALESCE(SUM(CASE WHEN g.is_completed = TRUE THEN 1 ELSE 0 END), 0) AS completed_count
+    FROM joined_room j
+    JOIN room r ON r.room_id = j.room_id
+    LEFT JOIN goal g ON g.joined_room_id = j.joined_room_id
+    WHERE r.status = FALSE
+    GROUP BY j.joined_room_id, j.user_id, r.ended_at, r.duration
+
+    UNION ALL
+
+    -- 보관 테이블(V5)로 옮겨진 방 (보관 대상은 모두 종료된 방)
+    SELECT j.user_id,
+           CAST(r.ended_at AS DATE),
+           HOUR(r.duration) * 60 + MINUTE(r.duration),
+           COUNT(g.goal_id),
+           COALESCE(SUM(CASE WHEN g.is_completed = TRUE THEN 1 ELSE 0 END), 0)
+    FROM joined_room_archive j
+    JOIN room_archive r ON r.room_id = j.room_id
+    LEFT JOIN goal_archive g ON g.joined_room_id = j.joined_room_id
+    GROUP BY j.joined_room_id, j.user_id, r.ended_at, r.duration
+) t
+GROUP BY t.user_id, t.stat_date;
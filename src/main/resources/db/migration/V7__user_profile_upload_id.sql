@@ -0,0 +1,3 @@
+-- user: 마지막으로 요청한 프로필 이미지 ID
+-- 변환이 늦게 끝난 이전 프로필 변경이 더 나중 변경을 덮어쓰지 않도록 연결 시 비교한다 (기존 행은 null)
+ALTER TABLE `user` ADD COLUMN profile_upload_id BIGINT;
@@ -0,0 +1,528 @@
+package com.mocamp.mocamp_backend.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mocamp.mocamp_backend.authentication.AuthenticatedUser;
+import com.mocamp.mocamp_backend.authentication.JwtProvider;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 방 여러 개에 STOMP 세션을 붙여 상태 변경/목표 체크/재입장을 반복하는 부하 발생기
+ *
+ * 1. 서버를 H2 프로필로 실행: ./gradlew bootRun --args='--spring.profiles.active=h2' (로컬 Redis 필요)
+ * 2. 부하 실행: ./gradlew loadTest -PloadArgs="--rooms=100 --users-per-room=20 --duration-seconds=300"
+ *
+ * 유저는 H2 프로필의 data-h2.sql로 미리 만들어 둔 load-{userId} 계정을 쓰고, 토큰은 같은 비밀키로 JwtProvider가 직접 서명한다
+ * 방마다 첫 유저가 방을 만들고 나머지는 /api/room/enter 로 입장한 뒤, 유저마다 rate-per-user 빈도로 mix 비율에 따라 메시지를 보낸다
+ * 상태 변경(캠/마이크/작업)은 보낸 시각부터 같은 방 참여자가 브로드캐스트를 받은 시각까지를 종단 지연 시간으로 기록한다
+ *
+ * 옵션 (--key=value)
+ *   base-url            서버 주소 (기본 http://localhost:8080)
+ *   jwt-secret          서버 jwt.secretKey (기본: H2 프로필 값)
+ *   rooms               방 수 (기본 50)
+ *   users-per-room      방마다 참여자 수 (기본 10)
+ *   first-user-id       사용할 첫 유저 ID (기본 1)
+ *   duration-seconds    부하 유지 시간 (기본 120)
+ *   rate-per-user       유저 한 명이 초당 보내는 메시지 수 (기본 0.5)
+ *   mix                 동작 비율 (기본 cam=30,mic=30,work=20,goal=15,reenter=5)
+ */
+public class StompLoadGenerator {
+
+    private static final String DEFAULT_JWT_SECRET =
+            "bW9jYW1wLWgyLWxvYWQtdGVzdC1zZWNyZXQta2V5LWRvLW5vdC11c2Utb3V0c2lkZS1sb2NhbC10ZXN0aW5nIQ==";
+    private static final int GOALS_PER_USER = 3;
+    private static final long REPORT_INTERVAL_SECONDS = 10;
+    // 방 대표 이미지용 1x1 PNG
+    private static final byte[] ROOM_IMAGE = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mP8z8BQDwAEhQGAhKmMIQAAAABJRU5ErkJggg==");
+
+    private final Options options;
+    private final JwtProvider jwtProvider;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final WebSocketStompClient stompClient;
+    private final ScheduledExecutorService actionExecutor;
+    private final Random random = new Random();
+
+    // "roomId:userId:type" -> 보낸 시각(ns), 같은 유저의 같은 상태 변경은 마지막 전송 기준
+    private final Map<String, Long> pendingStatus = new ConcurrentHashMap<>();
+    private final LatencyHistogram broadcastLatency = new LatencyHistogram();
+    private final LatencyHistogram httpLatency = new LatencyHistogram();
+    private final AtomicLong sentMessages = new AtomicLong();
+    private final AtomicLong receivedMessages = new AtomicLong();
+    private final AtomicLong httpRequests = new AtomicLong();
+    private final AtomicLong httpErrors = new AtomicLong();
+    private final AtomicLong stompErrors = new AtomicLong();
+    private final AtomicLong broadcastErrors = new AtomicLong();
+
+    public StompLoadGenerator(Options options) {
+        this.options = options;
+        this.jwtProvider = new JwtProvider(options.jwtSecret, 1);
+
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(2);
+        heartbeatScheduler.setDaemon(true);
+        heartbeatScheduler.initialize();
+        this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        this.stompClient.setMessageConverter(new CompositeMessageConverter(
+                List.of(new ByteArrayMessageConverter(), new MappingJackson2MessageConverter())));
+        this.stompClient.setTaskScheduler(heartbeatScheduler);
+
+        this.actionExecutor = Executors.newScheduledThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()), runnable -> {
+            Thread thread = new Thread(runnable, "load-action");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        System.out.println("[부하 설정] " + options);
+        new StompLoadGenerator(options).run();
+    }
+
+    private void run() throws Exception {
+        List<VirtualUser> users = setUp();
+        System.out.printf("[준비 완료] 방 %d개, 세션 %d개%n", options.rooms, users.size());
+
+        long periodMicros = (long) (1_000_000 / options.ratePerUser);
+        List<ScheduledFuture<?>> tasks = new ArrayList<>();
+        for (VirtualUser user : users) {
+            // 유저마다 시작 시점을 흩어 한 번에 몰리지 않게 한다
+            tasks.add(actionExecutor.scheduleAtFixedRate(() -> act(user),
+                    random.nextLong(periodMicros), periodMicros, TimeUnit.MICROSECONDS));
+        }
+
+        long startedAt = System.nanoTime();
+        long lastSent = 0;
+        long lastReceived = 0;
+        for (long elapsed = 0; elapsed < options.durationSeconds; elapsed += REPORT_INTERVAL_SECONDS) {
+            Thread.sleep(Math.min(REPORT_INTERVAL_SECONDS, options.durationSeconds - elapsed) * 1000);
+            long sent = sentMessages.get();
+            long received = receivedMessages.get();
+            System.out.printf("[진행] %ds 송신 %.1f/s, 수신 %.1f/s, 브로드캐스트 p50 %dms p99 %dms, 오류 %d%n",
+                    Math.min(elapsed + REPORT_INTERVAL_SECONDS, options.durationSeconds),
+                    (sent - lastSent) / (double) REPORT_INTERVAL_SECONDS,
+                    (received - lastReceived) / (double) REPORT_INTERVAL_SECONDS,
+                    broadcastLatency.percentile(0.5), broadcastLatency.percentile(0.99), totalErrors());
+            lastSent = sent;
+            lastReceived = received;
+        }
+        tasks.forEach(task -> task.cancel(false));
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        tearDown(users);
+        report(seconds);
+        actionExecutor.shutdownNow();
+        stompClient.stop();
+    }
+
+    /**
+     * 방을 만들고 참여자를 입장/구독시킨 뒤 목표를 등록하는 메서드
+     */
+    private List<VirtualUser> setUp() throws Exception {
+        List<VirtualUser> users = new ArrayList<>();
+        for (int r = 0; r < options.rooms; r++) {
+            long adminId = options.firstUserId + (long) r * options.usersPerRoom;
+            VirtualUser admin = new VirtualUser(adminId, token(adminId), true);
+            admin.roomId = createRoom(admin);
+            users.add(admin);
+
+            for (int i = 1; i < options.usersPerRoom; i++) {
+                long userId = adminId + i;
+                VirtualUser user = new VirtualUser(userId, token(userId), false);
+                user.roomId = admin.roomId;
+                users.add(user);
+            }
+        }
+
+        for (VirtualUser user : users) {
+            connect(user);
+            if (!user.admin) {
+                enter(user);
+            }
+            createGoals(user);
+        }
+        return users;
+    }
+
+    private void tearDown(List<VirtualUser> users) {
+        for (VirtualUser user : users) {
+            if (!user.admin) {
+                exit(user);
+            }
+        }
+        // 방장은 마지막에 퇴장해 방이 종료되도록 한다
+        users.stream().filter(user -> user.admin).forEach(this::exit);
+        users.forEach(user -> {
+            if (user.session != null && user.session.isConnected()) {
+                user.session.disconnect();
+            }
+        });
+    }
+
+    private String token(long userId) {
+        AuthenticatedUser principal = new AuthenticatedUser(userId, "load-" + userId, "load-" + userId);
+        return jwtProvider.generateAccessToken(new UsernamePasswordAuthenticationToken(
+                principal, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    // ---------------------------------------------------------------- 동작
+
+    private void act(VirtualUser user) {
+        try {
+            switch (options.pickAction(random)) {
+                case "cam" -> sendStatus(user, "cam-status", "CAM_STATUS_UPDATED", "camStatus", user.camStatus = !user.camStatus);
+                case "mic" -> sendStatus(user, "mic-status", "MIC_STATUS_UPDATED", "micStatus", user.micStatus = !user.micStatus);
+                case "work" -> sendStatus(user, "work-status", "WORK_STATUS_UPDATED", "workStatus", user.workStatus = !user.workStatus);
+                case "goal" -> completeGoal(user);
+                case "reenter" -> reenter(user);
+                default -> { }
+            }
+        } catch (Exception e) {
+            stompErrors.incrementAndGet();
+        }
+    }
+
+    private void sendStatus(VirtualUser user, String path, String type, String field, boolean value) {
+        pendingStatus.put(user.roomId + ":" + user.userId + ":" + type, System.nanoTime());
+        send(user, "/pub/data/" + path + "/" + user.roomId, Map.of(field, value));
+    }
+
+    private void completeGoal(VirtualUser user) {
+        if (user.goalIds.isEmpty()) {
+            return;
+        }
+        Long goalId = user.goalIds.get(random.nextInt(user.goalIds.size()));
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("goalId", goalId);
+        payload.put("isCompleted", random.nextBoolean());
+        send(user, "/pub/data/goal/complete/" + user.roomId, payload);
+    }
+
+    // 방장이 나가면 위임/종료 흐름이 섞이므로 재입장은 참여자만 한다
+    private void reenter(VirtualUser user) {
+        if (user.admin) {
+            return;
+        }
+        synchronized (user) {
+            exit(user);
+            enter(user);
+        }
+    }
+
+    private void createGoals(VirtualUser user) {
+        List<Map<String, String>> goals = new ArrayList<>();
+        for (int i = 0; i < GOALS_PER_USER; i++) {
+            goals.add(Map.of("content", "load goal " + i));
+        }
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("createGoals", goals);
+        payload.put("deleteGoals", List.of());
+        payload.put("isSecret", false);
+        send(user, "/pub/data/goal/manage/" + user.roomId, payload);
+    }
+
+    private void send(VirtualUser user, String destination, Object payload) {
+        user.session.send(destination, payload);
+        sentMessages.incrementAndGet();
+    }
+
+    // ---------------------------------------------------------------- STOMP
+
+    private void connect(VirtualUser user) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", user.token);
+        String url = options.baseUrl.replaceFirst("^http", "ws") + "/ws";
+
+        user.session = stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+            @Override
+            public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+                stompErrors.incrementAndGet();
+            }
+
+            @Override
+            public void handleTransportError(StompSession session, Throwable exception) {
+                stompErrors.incrementAndGet();
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                // ERROR 프레임
+                stompErrors.incrementAndGet();
+            }
+        }).get(10, TimeUnit.SECONDS);
+
+        user.session.subscribe("/sub/data/" + user.roomId, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                onBroadcast(user, (byte[]) payload);
+            }
+        });
+    }
+
+    /**
+     * 방 채널로 받은 메시지를 처리하는 메서드 (브로드캐스트 병합 시 배열 한 프레임으로 온다)
+     */
+    private void onBroadcast(VirtualUser receiver, byte[] payload) {
+        long receivedAt = System.nanoTime();
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(payload);
+        } catch (Exception e) {
+            stompErrors.incrementAndGet();
+            return;
+        }
+
+        Iterable<JsonNode> messages = root.isArray() ? root : List.of(root);
+        for (JsonNode message : messages) {
+            receivedMessages.incrementAndGet();
+            String type = message.path("type").asText("");
+            long userId = message.path("userId").asLong(-1);
+
+            if (type.endsWith("_STATUS_UPDATED") && userId != receiver.userId) {
+                Long sentAt = pendingStatus.get(receiver.roomId + ":" + userId + ":" + type);
+                if (sentAt != null) {
+                    broadcastLatency.record(receivedAt - sentAt);
+                }
+            } else if ("GOAL_LIST_DELTA".equals(type) && userId == receiver.userId) {
+                List<Long> goalIds = new ArrayList<>(receiver.goalIds);
+                message.path("addedGoals").forEach(goal -> goalIds.add(goal.path("goalId").asLong()));
+                message.path("removedGoalIds").forEach(goalId -> goalIds.remove(Long.valueOf(goalId.asLong())));
+                receiver.goalIds = List.copyOf(goalIds);
+            } else if (message.has("code") && message.path("code").asInt() >= 400
+                    && message.path("message").path("userId").asLong(-1) == receiver.userId) {
+                broadcastErrors.incrementAndGet();
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- HTTP
+
+    private Long createRoom(VirtualUser admin) throws Exception {
+        String roomJson = objectMapper.writeValueAsString(Map.of(
+                "roomName", "load-room-" + admin.userId,
+                "capacity", options.usersPerRoom,
+                // 부하 시간 동안 종료되지 않도록 넉넉하게
+                "duration", "05:00",
+                "micAvailability", true,
+                "micTurnedOn", true,
+                "camTurnedOn", true));
+
+        String boundary = "mocamp-load-" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writePart(body, boundary, "room", null, "application/json", roomJson.getBytes(StandardCharsets.UTF_8));
+        writePart(body, boundary, "image", "room.png", "image/png", ROOM_IMAGE);
+        body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        HttpResponse<String> response = http(admin, HttpRequest.newBuilder(URI.create(options.baseUrl + "/api/room/create"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray())));
+        if (response == null || response.statusCode() != 200) {
+            throw new IllegalStateException("방 생성 실패: " + (response == null ? "응답 없음" : response.body()));
+        }
+        return objectMapper.readTree(response.body()).path("message").asLong();
+    }
+
+    private static void writePart(ByteArrayOutputStream body, String boundary, String name, String fileName,
+                                  String contentType, byte[] content) {
+        String header = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\""
+                + (fileName != null ? "; filename=\"" + fileName + "\"" : "") + "\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n";
+        body.writeBytes(header.getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void enter(VirtualUser user) {
+        String json = "{\"micTurnedOn\":" + user.micStatus + ",\"camTurnedOn\":" + user.camStatus + "}";
+        http(user, HttpRequest.newBuilder(URI.create(options.baseUrl + "/api/room/enter/" + user.roomId))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    private void exit(VirtualUser user) {
+        http(user, HttpRequest.newBuilder(URI.create(options.baseUrl + "/api/room/exit/" + user.roomId))
+                .POST(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private HttpResponse<String> http(VirtualUser user, HttpRequest.Builder request) {
+        httpRequests.incrementAndGet();
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request
+                            .header("Authorization", "Bearer " + user.token)
+                            .timeout(Duration.ofSeconds(15))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            httpLatency.record(System.nanoTime() - startedAt);
+            if (response.statusCode() >= 400) {
+                httpErrors.incrementAndGet();
+            }
+            return response;
+        } catch (Exception e) {
+            httpErrors.incrementAndGet();
+            return null;
+        }
+    }
+
+    // ---------------------------------------------------------------- 결과
+
+    private long totalErrors() {
+        return httpErrors.get() + stompErrors.get() + broadcastErrors.get();
+    }
+
+    private void report(double seconds) {
+        long sent = sentMessages.get();
+        long requests = httpRequests.get();
+        System.out.println("========== 부하 테스트 결과 ==========");
+        System.out.printf("실행 시간            %.1fs%n", seconds);
+        System.out.printf("STOMP 송신           %d (%.1f/s)%n", sent, sent / seconds);
+        System.out.printf("STOMP 수신           %d (%.1f/s)%n", receivedMessages.get(), receivedMessages.get() / seconds);
+        System.out.printf("브로드캐스트 지연    p50 %dms, p99 %dms, max %dms (%d건)%n",
+                broadcastLatency.percentile(0.5), broadcastLatency.percentile(0.99), broadcastLatency.max(), broadcastLatency.count());
+        System.out.printf("HTTP 요청            %d, p50 %dms, p99 %dms%n",
+                requests, httpLatency.percentile(0.5), httpLatency.percentile(0.99));
+        System.out.printf("오류                 HTTP %d (%.2f%%), STOMP %d, 브로드캐스트 에러 응답 %d (송신 대비 %.2f%%)%n",
+                httpErrors.get(), requests == 0 ? 0 : httpErrors.get() * 100.0 / requests,
+                stompErrors.get(), broadcastErrors.get(), sent == 0 ? 0 : (stompErrors.get() + broadcastErrors.get()) * 100.0 / sent);
+    }
+
+    /**
+     * 1ms 단위 버킷으로 모으는 지연 시간 히스토그램 (10초 이상은 마지막 버킷)
+     */
+    private static class LatencyHistogram {
+        private static final int MAX_MILLIS = 10_000;
+        private final AtomicLongArray buckets = new AtomicLongArray(MAX_MILLIS + 1);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong maxMillis = new AtomicLong();
+
+        void record(long nanos) {
+            long millis = Math.max(0, TimeUnit.NANOSECONDS.toMillis(nanos));
+            buckets.incrementAndGet((int) Math.min(millis, MAX_MILLIS));
+            count.incrementAndGet();
+            maxMillis.accumulateAndGet(millis, Math::max);
+        }
+
+        long percentile(double percentile) {
+            long total = count.get();
+            if (total == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int millis = 0; millis <= MAX_MILLIS; millis++) {
+                seen += buckets.get(millis);
+                if (seen >= target) {
+                    return millis;
+                }
+            }
+            return MAX_MILLIS;
+        }
+
+        long max() {
+            return maxMillis.get();
+        }
+
+        long count() {
+            return count.get();
+        }
+    }
+
+    private static class VirtualUser {
+        final long userId;
+        final String token;
+        final boolean admin;
+        volatile Long roomId;
+        volatile StompSession session;
+        volatile List<Long> goalIds = List.of();
+        volatile boolean camStatus = true;
+        volatile boolean micStatus = true;
+        volatile boolean workStatus = true;
+
+        VirtualUser(long userId, String token, boolean admin) {
+            this.userId = userId;
+            this.token = token;
+            this.admin = admin;
+        }
+    }
+
+    private record Options(String baseUrl, String jwtSecret, int rooms, int usersPerRoom, long firstUserId,
+                           long durationSeconds, double ratePerUser, LinkedHashMap<String, Integer> mix) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (arg.startsWith("--") && arg.contains("=")) {
+                    values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+                }
+            }
+
+            LinkedHashMap<String, Integer> mix = new LinkedHashMap<>();
+            for (String entry : values.getOrDefault("mix", "cam=30,mic=30,work=20,goal=15,reenter=5").split(",")) {
+                String[] pair = entry.split("=");
+                mix.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+            }
+
+            return new Options(
+                    values.getOrDefault("base-url", "http://localhost:8080"),
+                    values.getOrDefault("jwt-secret", DEFAULT_JWT_SECRET),
+                    Integer.parseInt(values.getOrDefault("rooms", "50")),
+                    Integer.parseInt(values.getOrDefault("users-per-room", "10")),
+                    Long.parseLong(values.getOrDefault("first-user-id", "1")),
+                    Long.parseLong(values.getOrDefault("duration-seconds", "120")),
+                    Double.parseDouble(values.getOrDefault("rate-per-user", "0.5")),
+                    mix);
+        }
+
+        String pickAction(Random random) {
+            int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+            int pick = random.nextInt(total);
+            for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    return entry.getKey();
+                }
+            }
+            return "";
+        }
+
+        @Override
+        public String toString() {
+            return "baseUrl=" + baseUrl + ", rooms=" + rooms + ", usersPerRoom=" + usersPerRoom + ", firstUserId=" + firstUserId
+                    + ", durationSeconds=" + durationSeconds + ", ratePerUser=" + ratePerUser + ", mix=" + mix;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.mocamp.mocamp_backend.load;
+
+import com.mocamp.mocamp_backend.support.LocalCluster;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 STOMP 부하를 mocamp.threads.mode=platform, virtual 로 각각 띄운 서버에 걸고
+ * 핸들러 처리 시간(mocamp.stomp.inbound.handle)의 p50/p99를 destination 별로 비교하는 실행기 (JDK 21 필요)
+ *
+ * ./gradlew threadModeComparison -PloadArgs="--rooms=100 --users-per-room=20 --duration-seconds=120"
+ *
+ * 모드마다 내장 Redis와 새 H2 메모리 DB로 노드 하나를 띄우고(LocalCluster), 부하 유저 시드(data-h2.sql)를 넣은 뒤
+ * StompLoadGenerator를 그 노드에 실행한다. 부하 옵션은 StompLoadGenerator와 같고 base-url은 자동으로 채운다
+ */
+public class ThreadModeComparison {
+
+    private static final String TIMER_NAME = "mocamp.stomp.inbound.handle";
+    private static final List<String> MODES = List.of("platform", "virtual");
+
+    public static void main(String[] args) throws Exception {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("가상 스레드 비교에는 JDK 21 이상이 필요합니다: " + Runtime.version());
+        }
+
+        Map<String, Map<String, HistogramSnapshot>> results = new LinkedHashMap<>();
+        for (String mode : MODES) {
+            results.put(mode, run(mode, args));
+        }
+        print(results);
+    }
+
+    private static Map<String, HistogramSnapshot> run(String mode, String[] loadArgs) throws Exception {
+        System.out.println("[스레드 모드 비교] " + mode + " 시작");
+        try (LocalCluster cluster = new LocalCluster()) {
+            ConfigurableApplicationContext node = cluster.startNode(
+                    "--mocamp.threads.mode=" + mode,
+                    "--spring.sql.init.mode=always");
+
+            List<String> args = new ArrayList<>(List.of(loadArgs));
+            args.add("--base-url=http://localhost:" + LocalCluster.port(node));
+            StompLoadGenerator.main(args.toArray(String[]::new));
+
+            // destination 태그별 스냅샷 (실패한 처리는 제외)
+            Map<String, HistogramSnapshot> snapshots = new TreeMap<>();
+            MeterRegistry meterRegistry = node.getBean(MeterRegistry.class);
+            for (Timer timer : meterRegistry.find(TIMER_NAME).tag("threads", mode).tag("outcome", "success").timers()) {
+                snapshots.put(timer.getId().getTag("destination"), timer.takeSnapshot());
+            }
+            return snapshots;
+        }
+    }
+
+    private static void print(Map<String, Map<String, HistogramSnapshot>> results) {
+        System.out.println();
+        System.out.printf("%-40s %-9s %10s %10s %10s%n", "destination", "threads", "count", "p50(ms)", "p99(ms)");
+        Map<String, Map<String, HistogramSnapshot>> byDestination = new TreeMap<>();
+        results.forEach((mode, snapshots) -> snapshots.forEach((destination, snapshot) ->
+                byDestination.computeIfAbsent(destination, key -> new LinkedHashMap<>()).put(mode, snapshot)));
+
+        byDestination.forEach((destination, snapshots) -> snapshots.forEach((mode, snapshot) ->
+                System.out.printf("%-40s %-9s %10d %10.2f %10.2f%n", destination, mode, snapshot.count(),
+                        percentile(snapshot, 0.5), percentile(snapshot, 0.99))));
+    }
+
+    private static double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+}
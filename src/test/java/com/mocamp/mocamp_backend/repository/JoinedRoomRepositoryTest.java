@@ -0,0 +1,107 @@
+package com.mocamp.mocamp_backend.repository;
+
+import com.mocamp.mocamp_backend.entity.*;
+import com.mocamp.mocamp_backend.service.image.ImageType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 참가자 목록 조회(findParticipantsWithGoalsByRoomId)가 참가자 수와 관계없이 고정된 쿼리 수로 끝나는지 확인
+ * 참가자마다 프로필 이미지가 달라도 이미지 조회가 추가되지 않아야 한다
+ * Hibernate 통계로 실행된 SQL 수를 센다
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles({"h2", "test"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JoinedRoomRepositoryTest {
+
+    private static final int PARTICIPANTS = 50;
+    private static final int GOALS_PER_PARTICIPANT = 3;
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2025, 3, 2, 9, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JoinedRoomRepository joinedRoomRepository;
+
+    @Test
+    void participantsOfFiftyPersonRoomLoadInConstantQueries() {
+        ImageEntity roomImage = entityManager.persist(ImageEntity.builder()
+                .type(ImageType.room)
+                .path("https://example.com/room.png")
+                .build());
+        RoomEntity room = entityManager.persist(RoomEntity.builder()
+                .roomName("fifty")
+                .roomSeq("fifty-" + System.nanoTime())
+                .capacity(PARTICIPANTS)
+                .roomNum(PARTICIPANTS)
+                .status(true)
+                .startedAt(STARTED_AT)
+                .endedAt(STARTED_AT.plusHours(2))
+                .duration(LocalTime.of(2, 0))
+                .image(roomImage)
+                .build());
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            // 유저마다 다른 프로필 이미지를 두어 이미지 조회가 참가자 수만큼 늘어나는지 드러나게 한다
+            ImageEntity profileImage = entityManager.persist(ImageEntity.builder()
+                    .type(ImageType.profile)
+                    .path("https://example.com/profile-" + i + ".png")
+                    .build());
+            UserEntity user = entityManager.persist(UserEntity.builder()
+                    .userSeq("seq-" + i + "-" + System.nanoTime())
+                    .username("user-" + i)
+                    .email("user-" + i + "@mocamp.com")
+                    .emailVerifiedYN("Y")
+                    .createdAt(STARTED_AT)
+                    .modifiedAt(STARTED_AT)
+                    .image(profileImage)
+                    .build());
+            JoinedRoomEntity joinedRoom = entityManager.persist(JoinedRoomEntity.builder()
+                    .user(user)
+                    .room(room)
+                    .isAdmin(i == 0)
+                    .isParticipating(true)
+                    .build());
+            for (int j = 0; j < GOALS_PER_PARTICIPANT; j++) {
+                entityManager.persist(GoalEntity.builder()
+                        .content("목표 " + j)
+                        .joinedRoom(joinedRoom)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<JoinedRoomEntity> participants = joinedRoomRepository.findParticipantsWithGoalsByRoomId(room.getRoomId());
+        // 응답을 만들 때 읽는 값을 모두 읽어 지연 로딩이 일어나면 쿼리 수에 잡히게 한다
+        int goalCount = 0;
+        for (JoinedRoomEntity participant : participants) {
+            assertThat(participant.getUser().getUsername()).startsWith("user-");
+            assertThat(participant.getUser().getImage().getPath()).startsWith("https://example.com/profile-");
+            assertThat(participant.getRoom().getRoomName()).isEqualTo("fifty");
+            goalCount += participant.getGoals().size();
+        }
+
+        assertThat(participants).hasSize(PARTICIPANTS);
+        assertThat(goalCount).isEqualTo(PARTICIPANTS * GOALS_PER_PARTICIPANT);
+        // 참가자/유저/프로필 이미지/방/대표 이미지/목표를 조인 한 번으로 읽어야 하고, 참가자 수와 무관해야 한다
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,105 @@
+package com.mocamp.mocamp_backend.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 조회 쿼리가 V4 인덱스를 타는지 확인하는 실행 계획 회귀 테스트
+ *
+ * Flyway 마이그레이션 전체(V1~)로 만든 H2(MySQL 모드) 스키마에 데이터를 채우고 통계를 갱신한 뒤 EXPLAIN 결과를 본다
+ * 인덱스를 지우거나 조회 조건을 바꿔 풀 스캔이 되면 실패한다
+ */
+@DataJpaTest
+@ActiveProfiles({"h2", "test"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final int USERS = 2_000;
+    private static final int ROOMS = 5_000;
+    private static final int ACTIVE_ROOMS = 50;
+    private static final int MEMBERS_PER_ROOM = 4;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO `user` (user_seq, username, email, email_verified_yn, created_at, modified_at)
+                SELECT CONCAT('seq-', x), CONCAT('user-', x), CONCAT('user-', x, '@mocamp.com'), 'Y', NOW(), NOW()
+                FROM SYSTEM_RANGE(1, ?)
+                """, USERS);
+        jdbcTemplate.update("""
+                INSERT INTO room (room_name, room_seq, capacity, room_num, status, started_at, ended_at, duration,
+                                  notice, is_deleted, mic_availability)
+                SELECT CONCAT('room-', x), CONCAT('room-seq-', x), ?, ?, x <= ?, NOW(), NOW(), TIME '02:00:00',
+                       '', x > ?, TRUE
+                FROM SYSTEM_RANGE(1, ?)
+                """, MEMBERS_PER_ROOM, MEMBERS_PER_ROOM, ACTIVE_ROOMS, ACTIVE_ROOMS, ROOMS);
+        jdbcTemplate.update("""
+                INSERT INTO joined_room (is_admin, is_participating, is_deleted, is_secret, resolution,
+                                         work_status, mic_status, cam_status, user_id, room_id)
+                SELECT MOD(x, ?) = 1, (x - 1) / ? < ?, FALSE, FALSE, '', TRUE, TRUE, TRUE, MOD(x, ?) + 1, (x - 1) / ? + 1
+                FROM SYSTEM_RANGE(1, ?)
+                """, MEMBERS_PER_ROOM, MEMBERS_PER_ROOM, ACTIVE_ROOMS, USERS, MEMBERS_PER_ROOM, ROOMS * MEMBERS_PER_ROOM);
+        jdbcTemplate.update("""
+                INSERT INTO joined_room_archive (joined_room_id, room_id, user_id, is_admin, is_secret, resolution)
+                SELECT x + ?, (x - 1) / ? + ? + 1, MOD(x, ?) + 1, FALSE, FALSE, ''
+                FROM SYSTEM_RANGE(1, ?)
+                """, ROOMS * MEMBERS_PER_ROOM, MEMBERS_PER_ROOM, ROOMS, USERS, ROOMS * MEMBERS_PER_ROOM);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void participantLookupUsesRoomUserStateIndex() {
+        assertIndexUsed("SELECT * FROM joined_room WHERE room_id = 10 AND user_id = 37 AND is_participating = TRUE",
+                "idx_joined_room_room_user_state");
+        assertIndexUsed("SELECT COUNT(*) FROM joined_room WHERE room_id = 10 AND user_id = 37 AND is_admin = TRUE",
+                "idx_joined_room_room_user_state");
+    }
+
+    @Test
+    void roomParticipantsUseRoomIndex() {
+        assertIndexUsed("SELECT * FROM joined_room WHERE room_id = 10 AND is_participating = TRUE",
+                "idx_joined_room_room_participating", "idx_joined_room_room_user_state");
+    }
+
+    @Test
+    void userHistoryUsesUserIndexes() {
+        assertIndexUsed("SELECT * FROM joined_room WHERE user_id = 37", "idx_joined_room_user");
+        assertIndexUsed("SELECT * FROM joined_room_archive WHERE user_id = 37", "idx_joined_room_archive_user");
+        assertIndexUsed("SELECT * FROM joined_room_archive WHERE room_id = 6000 AND user_id = 37",
+                "idx_joined_room_archive_room_user");
+    }
+
+    @Test
+    void roomLookupsUseRoomIndexes() {
+        assertIndexUsed("SELECT * FROM room WHERE room_seq = 'room-seq-10'", "uk_room_room_seq");
+        assertIndexUsed("SELECT room_id FROM room WHERE status = TRUE", "idx_room_status");
+    }
+
+    @Test
+    void userLookupsUseUserIndexes() {
+        assertIndexUsed("SELECT * FROM `user` WHERE user_seq = 'seq-10'", "uk_user_user_seq");
+        assertIndexUsed("SELECT * FROM `user` WHERE email = 'user-10@mocamp.com'", "idx_user_email");
+    }
+
+    private void assertIndexUsed(String sql, String... expectedIndexes) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase();
+
+        assertThat(plan).as(plan).doesNotContain("tablescan");
+        assertThat(expectedIndexes).as(plan).anyMatch(index -> plan.contains(index));
+    }
+}
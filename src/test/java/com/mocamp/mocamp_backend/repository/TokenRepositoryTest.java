@@ -0,0 +1,166 @@
+package com.mocamp.mocamp_backend.repository;
+
+import com.mocamp.mocamp_backend.authentication.JwtProvider;
+import com.mocamp.mocamp_backend.configuration.RedisConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Redis에 실제 RedisTemplate 설정(RedisConfig)으로 붙어 리프레쉬 토큰 교체 스크립트(rotate)를 확인하는 테스트
+ * 일치하면 교체, 다르거나 없으면 삭제, 동시에 같은 토큰으로 교체하면 하나만 성공, 만료 시간은 ms 단위로 걸려야 한다
+ */
+@SpringBootTest(classes = {RedisConfig.class, TokenRepository.class})
+class TokenRepositoryTest {
+
+    private static final String PREFIX = "refreshToken:";
+    private static final int CONCURRENT_REQUESTS = 16;
+
+    private static final int REDIS_PORT = freePort();
+    private static final RedisServer REDIS_SERVER = startRedis();
+
+    @Autowired
+    private TokenRepository tokenRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        REDIS_SERVER.stop();
+    }
+
+    @Test
+    void saveSetsExpiryInMilliseconds() {
+        tokenRepository.save(1L, "token-a");
+
+        assertThat(tokenRepository.findById(1L)).isEqualTo("token-a");
+        assertExpiresInRefreshTokenLifetime(1L);
+    }
+
+    @Test
+    void matchingTokenIsRotated() {
+        tokenRepository.save(2L, "token-a");
+
+        assertThat(tokenRepository.rotate(2L, "token-a", "token-b")).isTrue();
+
+        assertThat(tokenRepository.findById(2L)).isEqualTo("token-b");
+        assertExpiresInRefreshTokenLifetime(2L);
+        // 이미 교체된 토큰으로 다시 요청하면 재사용으로 보고 삭제
+        assertThat(tokenRepository.rotate(2L, "token-a", "token-c")).isFalse();
+        assertThat(tokenRepository.findById(2L)).isNull();
+    }
+
+    @Test
+    void mismatchingTokenDeletesStoredToken() {
+        tokenRepository.save(3L, "token-a");
+
+        assertThat(tokenRepository.rotate(3L, "stolen", "token-b")).isFalse();
+
+        assertThat(tokenRepository.findById(3L)).isNull();
+        assertThat(redisTemplate.hasKey(PREFIX + 3L)).isFalse();
+    }
+
+    @Test
+    void missingTokenIsNotRotated() {
+        assertThat(tokenRepository.rotate(4L, "token-a", "token-b")).isFalse();
+
+        assertThat(redisTemplate.hasKey(PREFIX + 4L)).isFalse();
+    }
+
+    @Test
+    void concurrentRotationsHaveSingleWinner() throws Exception {
+        tokenRepository.save(5L, "token-a");
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Boolean> results = new ArrayList<>();
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                String newToken = "token-new-" + i;
+                futures.add(executor.submit((Callable<Boolean>) () -> {
+                    start.await();
+                    return tokenRepository.rotate(5L, "token-a", newToken);
+                }));
+            }
+            start.countDown();
+
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 처음 실행된 스크립트만 일치하고, 그 뒤의 요청은 모두 불일치가 되어 교체된 토큰까지 삭제된다
+        assertThat(results.stream().filter(Boolean::booleanValue).count()).isEqualTo(1L);
+        assertThat(tokenRepository.findById(5L)).isNull();
+    }
+
+    @Test
+    void deleteAllByIdRemovesEveryToken() {
+        tokenRepository.save(6L, "token-a");
+        tokenRepository.save(7L, "token-b");
+        tokenRepository.save(8L, "token-c");
+
+        tokenRepository.deleteAllById(List.of(6L, 7L));
+
+        assertThat(tokenRepository.findById(6L)).isNull();
+        assertThat(tokenRepository.findById(7L)).isNull();
+        assertThat(tokenRepository.findById(8L)).isEqualTo("token-c");
+    }
+
+    /**
+     * 남은 만료 시간이 리프레쉬 토큰 수명(ms) 안쪽이고, 초 단위로 잘못 걸렸을 때보다 충분히 큰지 확인
+     */
+    private void assertExpiresInRefreshTokenLifetime(Long userId) {
+        Long remainingMs = redisTemplate.getExpire(PREFIX + userId, TimeUnit.MILLISECONDS);
+        assertThat(remainingMs).isNotNull()
+                .isLessThanOrEqualTo((long) JwtProvider.REFRESH_TOKEN_EXPIRE)
+                .isGreaterThan(JwtProvider.REFRESH_TOKEN_EXPIRE - TimeUnit.MINUTES.toMillis(1));
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            RedisServer redisServer = new RedisServer(REDIS_PORT);
+            redisServer.start();
+            return redisServer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.mocamp.mocamp_backend.repository;
+
+import com.mocamp.mocamp_backend.entity.*;
+import com.mocamp.mocamp_backend.service.user.UserGoalHistory;
+import com.mocamp.mocamp_backend.service.user.UserRoomHistory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 사용 통계 누적 쿼리(native)와 마이홈 방 요약/목표 목록 조회가 H2(MySQL 모드)에서도 도는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles({"h2", "test"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserDailyStatRepositoryTest {
+
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2025, 3, 2, 9, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserDailyStatRepository userDailyStatRepository;
+
+    @Autowired
+    private JoinedRoomRepository joinedRoomRepository;
+
+    @Test
+    void accumulatesRoomsEndedOnSameDayIntoOneRow() {
+        UserEntity user = persistUser();
+        RoomEntity morning = persistEndedRoom("morning", LocalTime.of(1, 30));
+        RoomEntity evening = persistEndedRoom("evening", LocalTime.of(0, 45));
+        persistJoinedRoom(user, morning, true, true, false);
+        persistJoinedRoom(user, evening, true);
+
+        userDailyStatRepository.accumulateEndedRooms(List.of(morning.getRoomId()));
+        userDailyStatRepository.accumulateEndedRooms(List.of(evening.getRoomId()));
+        entityManager.clear();
+
+        List<UserDailyStatEntity> stats = userDailyStatRepository.findAllByUser_UserIdOrderByStatDateAsc(user.getUserId());
+        assertThat(stats).hasSize(1);
+        assertThat(stats.get(0).getStatDate()).isEqualTo(LocalDate.from(STARTED_AT));
+        assertThat(stats.get(0).getMinutes()).isEqualTo(135L);
+        assertThat(stats.get(0).getGoalCount()).isEqualTo(4L);
+        assertThat(stats.get(0).getCompletedCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void roomHistoryCountsGoalsWithoutLoadingThem() {
+        UserEntity user = persistUser();
+        RoomEntity withGoals = persistEndedRoom("with-goals", LocalTime.of(2, 0));
+        RoomEntity withoutGoals = persistEndedRoom("without-goals", LocalTime.of(1, 0));
+        persistJoinedRoom(user, withGoals, true, false);
+        persistJoinedRoom(user, withoutGoals);
+        entityManager.clear();
+
+        List<UserRoomHistory> histories = joinedRoomRepository.findRoomHistoryByUserId(user.getUserId());
+
+        assertThat(histories)
+                .extracting(UserRoomHistory::roomName, UserRoomHistory::goalCount)
+                .containsExactlyInAnyOrder(
+                        tuple("with-goals", 2L),
+                        tuple("without-goals", 0L));
+    }
+
+    @Test
+    void goalHistoryListsGoalsOfEveryRoomInOneQuery() {
+        UserEntity user = persistUser();
+        RoomEntity first = persistEndedRoom("first", LocalTime.of(2, 0));
+        RoomEntity second = persistEndedRoom("second", LocalTime.of(1, 0));
+        persistJoinedRoom(user, first, true, false);
+        persistJoinedRoom(user, second, true);
+        entityManager.clear();
+
+        List<UserGoalHistory> goals = joinedRoomRepository.findGoalHistoryByUserId(user.getUserId());
+
+        assertThat(goals)
+                .extracting(UserGoalHistory::roomId, UserGoalHistory::content, UserGoalHistory::isCompleted)
+                .containsExactlyInAnyOrder(
+                        tuple(first.getRoomId(), "목표 0", true),
+                        tuple(first.getRoomId(), "목표 1", false),
+                        tuple(second.getRoomId(), "목표 0", true));
+        assertThat(goals).extracting(UserGoalHistory::endedAt).doesNotContainNull();
+    }
+
+    private UserEntity persistUser() {
+        return entityManager.persist(UserEntity.builder()
+                .userSeq("seq-" + System.nanoTime())
+                .username("모캠프")
+                .email("user@mocamp.com")
+                .emailVerifiedYN("Y")
+                .createdAt(STARTED_AT)
+                .modifiedAt(STARTED_AT)
+                .build());
+    }
+
+    private RoomEntity persistEndedRoom(String name, LocalTime duration) {
+        return entityManager.persist(RoomEntity.builder()
+                .roomName(name)
+                .roomSeq(name + "-" + System.nanoTime())
+                .capacity(4)
+                .status(false)
+                .startedAt(STARTED_AT)
+                .endedAt(STARTED_AT.plusHours(duration.getHour()).plusMinutes(duration.getMinute()))
+                .duration(duration)
+                .isDeleted(true)
+                .build());
+    }
+
+    private void persistJoinedRoom(UserEntity user, RoomEntity room, boolean... goalsCompleted) {
+        JoinedRoomEntity joinedRoom = entityManager.persist(JoinedRoomEntity.builder()
+                .user(user)
+                .room(room)
+                .build());
+        for (int i = 0; i < goalsCompleted.length; i++) {
+            entityManager.persist(GoalEntity.builder()
+                    .content("목표 " + i)
+                    .isCompleted(goalsCompleted[i])
+                    .joinedRoom(joinedRoom)
+                    .build());
+        }
+        entityManager.flush();
+    }
+}
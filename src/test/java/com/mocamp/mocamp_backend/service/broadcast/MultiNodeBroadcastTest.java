@@ -0,0 +1,143 @@
+package com.mocamp.mocamp_backend.service.broadcast;
+
+import com.mocamp.mocamp_backend.entity.JoinedRoomEntity;
+import com.mocamp.mocamp_backend.service.room.ParticipantPresence;
+import com.mocamp.mocamp_backend.service.room.RoomAccess;
+import com.mocamp.mocamp_backend.service.room.RoomAccessChangedEvent;
+import com.mocamp.mocamp_backend.service.room.RoomAccessGuard;
+import com.mocamp.mocamp_backend.service.room.RoomDeadlineClaimer;
+import com.mocamp.mocamp_backend.service.room.RoomPresenceStore;
+import com.mocamp.mocamp_backend.support.LocalCluster;
+import com.mocamp.mocamp_backend.support.TestStompClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.stomp.StompSession;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Redis 위에 노드 두 개를 띄워 다른 노드에서 보낸 방 메시지/상태 변경이 전달되는지 확인
+ * (mocamp.broadcast.mode=redis)
+ */
+class MultiNodeBroadcastTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private static LocalCluster cluster;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startCluster() {
+        cluster = new LocalCluster();
+        nodeA = cluster.startNode();
+        nodeB = cluster.startNode();
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        cluster.close();
+    }
+
+    @Test
+    void broadcastFromOtherNodeReachesSubscriber() throws Exception {
+        Long roomId = 1001L;
+        LocalCluster.TestUser user = LocalCluster.createUser(nodeA, "subscriber");
+
+        try (TestStompClient client = new TestStompClient()) {
+            StompSession session = client.connect(LocalCluster.port(nodeA), user.token());
+            BlockingQueue<String> received = TestStompClient.subscribe(session, RoomBroadcaster.ROOM_DESTINATION_PREFIX + roomId);
+            RoomBroadcaster broadcasterB = nodeB.getBean(RoomBroadcaster.class);
+
+            // 노드 A의 Redis 채널 구독은 SUBSCRIBE 처리 후 비동기로 붙으므로 받을 때까지 다시 보낸다
+            String message = null;
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (message == null && System.currentTimeMillis() < deadline) {
+                broadcasterB.broadcast(roomId, Map.of("type", "MULTI_NODE_PING"));
+                message = received.poll(200, TimeUnit.MILLISECONDS);
+            }
+
+            assertThat(message).contains("MULTI_NODE_PING");
+            session.disconnect();
+        }
+    }
+
+    @Test
+    void presenceChangesAreAppliedOnOtherNode() throws Exception {
+        Long roomId = 1002L;
+        Long userId = 77L;
+        RoomPresenceStore presenceA = nodeA.getBean(RoomPresenceStore.class);
+        RoomPresenceStore presenceB = nodeB.getBean(RoomPresenceStore.class);
+
+        presenceA.join(roomId, userId, JoinedRoomEntity.builder()
+                .joinedRoomId(5000L)
+                .workStatus(true)
+                .camStatus(false)
+                .micStatus(true)
+                .build());
+        ParticipantPresence joined = await(() -> presenceB.peek(roomId, userId), true);
+        assertThat(joined.getCamStatus()).isFalse();
+
+        presenceA.update(roomId, userId, presence -> presence.withCamStatus(true));
+        await(() -> {
+            ParticipantPresence presence = presenceB.peek(roomId, userId);
+            return presence != null && presence.getCamStatus() ? presence : null;
+        }, true);
+
+        presenceA.leave(roomId, userId);
+        await(() -> presenceB.peek(roomId, userId), false);
+    }
+
+    @Test
+    void accessChangeInvalidatesCacheOnOtherNode() throws Exception {
+        Long roomId = 1003L;
+        JdbcTemplate jdbcTemplate = nodeA.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("""
+                INSERT INTO room (room_id, room_name, room_seq, capacity, room_num, status, started_at, ended_at, duration,
+                                  notice, is_deleted, mic_availability)
+                VALUES (?, 'multi-node', 'multi-node-seq', 4, 1, TRUE, NOW(), NOW(), TIME '02:00:00', '', FALSE, TRUE)
+                """, roomId);
+        RoomAccessGuard guardB = nodeB.getBean(RoomAccessGuard.class);
+        assertThat(guardB.get(roomId).isActive()).isTrue();
+
+        // 노드 A에서 방을 종료하고 커밋 후 이벤트를 발행하면 노드 B의 캐시도 비워져야 한다
+        jdbcTemplate.update("UPDATE room SET status = FALSE, is_deleted = TRUE WHERE room_id = ?", roomId);
+        nodeA.publishEvent(new RoomAccessChangedEvent(roomId));
+
+        await(() -> {
+            RoomAccess access = guardB.get(roomId);
+            return access != null && !access.isActive() ? access : null;
+        }, true);
+    }
+
+    @Test
+    void deadlineIsClaimedByOnlyOneNode() {
+        Long roomId = 1004L;
+        RoomDeadlineClaimer claimerA = nodeA.getBean(RoomDeadlineClaimer.class);
+        RoomDeadlineClaimer claimerB = nodeB.getBean(RoomDeadlineClaimer.class);
+
+        assertThat(claimerA.claim(roomId, "alert-30")).isTrue();
+        assertThat(claimerB.claim(roomId, "alert-30")).isFalse();
+        assertThat(claimerB.claim(roomId, "alert-10")).isTrue();
+        assertThat(claimerA.claim(roomId, "alert-10")).isFalse();
+    }
+
+    private static <T> T await(Supplier<T> probe, boolean present) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        T value = probe.get();
+        while ((value != null) != present && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            value = probe.get();
+        }
+        assertThat(value != null).as("동기화 대기 시간 초과").isEqualTo(present);
+        return value;
+    }
+}
@@ -0,0 +1,133 @@
+package com.mocamp.mocamp_backend.service.login;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.mocamp.mocamp_backend.dto.loginResponse.LoginResult;
+import com.mocamp.mocamp_backend.repository.TokenRepository;
+import com.mocamp.mocamp_backend.support.LocalCluster;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 카카오/네이버 인증 서버를 WireMock으로 대신 띄우고 (kakao.*.uri, naver.*.uri) 로그인 전체 흐름을 확인하는 테스트
+ * 두 로그인 서비스가 공유 RestTemplate(oauthRestTemplate)을 쓰는지와 읽기 타임아웃이 적용되는지도 함께 본다
+ */
+class OAuthLoginStubTest {
+
+    private static final long READ_TIMEOUT_MS = 500;
+
+    private static WireMockServer oauthServer;
+    private static LocalCluster cluster;
+    private static ConfigurableApplicationContext node;
+
+    @BeforeAll
+    static void start() {
+        oauthServer = new WireMockServer(options().dynamicPort());
+        oauthServer.start();
+        String baseUrl = oauthServer.baseUrl();
+
+        cluster = new LocalCluster();
+        node = cluster.startNode(
+                "--kakao.auth.uri=" + baseUrl,
+                "--kakao.api.uri=" + baseUrl,
+                "--naver.auth.uri=" + baseUrl,
+                "--naver.api.uri=" + baseUrl,
+                "--oauth.http.read-timeout-ms=" + READ_TIMEOUT_MS);
+    }
+
+    @AfterAll
+    static void stop() {
+        cluster.close();
+        oauthServer.stop();
+    }
+
+    @BeforeEach
+    void resetStubs() {
+        oauthServer.resetAll();
+    }
+
+    @Test
+    void kakaoLoginUsesStubbedProvider() {
+        oauthServer.stubFor(post(urlEqualTo("/oauth/token"))
+                .withRequestBody(containing("code=kakao-code"))
+                .willReturn(okJson("{\"access_token\": \"kakao-access-token\"}")));
+        oauthServer.stubFor(post(urlEqualTo("/v2/user/me"))
+                .withHeader("Authorization", equalTo("Bearer kakao-access-token"))
+                .willReturn(okJson("""
+                        {"id": 1001,
+                         "kakao_account": {"email": "kakao@mocamp.com"},
+                         "properties": {"nickname": "카카오", "profile_image": "https://example.com/kakao.png"}}
+                        """)));
+
+        LoginResult result = node.getBean(KakaoLoginService.class).kakaoLogin("kakao-code", "http://localhost:3000/callback");
+
+        assertLoggedIn(result, "1001");
+        oauthServer.verify(1, postRequestedFor(urlEqualTo("/oauth/token"))
+                .withRequestBody(containing("grant_type=authorization_code")));
+        oauthServer.verify(1, postRequestedFor(urlEqualTo("/v2/user/me")));
+    }
+
+    @Test
+    void naverLoginUsesStubbedProvider() {
+        oauthServer.stubFor(post(urlEqualTo("/oauth2.0/token"))
+                .withRequestBody(containing("code=naver-code"))
+                .willReturn(okJson("{\"access_token\": \"naver-access-token\"}")));
+        oauthServer.stubFor(post(urlEqualTo("/v1/nid/me"))
+                .withHeader("Authorization", equalTo("Bearer naver-access-token"))
+                .willReturn(okJson("""
+                        {"response": {"id": "naver-2002", "email": "naver@mocamp.com", "name": "네이버",
+                                      "profile_image": "https://example.com/naver.png"}}
+                        """)));
+
+        LoginResult result = node.getBean(NaverLoginService.class).naverLogin("naver-code", "http://localhost:3000/callback");
+
+        assertLoggedIn(result, "naver-2002");
+        oauthServer.verify(1, postRequestedFor(urlEqualTo("/oauth2.0/token")));
+        oauthServer.verify(1, postRequestedFor(urlEqualTo("/v1/nid/me")));
+    }
+
+    @Test
+    void loginServicesShareOAuthRestTemplate() {
+        RestTemplate shared = node.getBean("oauthRestTemplate", RestTemplate.class);
+
+        assertThat(ReflectionTestUtils.getField(node.getBean(KakaoLoginService.class), "oauthRestTemplate")).isSameAs(shared);
+        assertThat(ReflectionTestUtils.getField(node.getBean(NaverLoginService.class), "oauthRestTemplate")).isSameAs(shared);
+    }
+
+    @Test
+    void slowProviderFailsWithinReadTimeout() {
+        oauthServer.stubFor(post(urlEqualTo("/oauth/token"))
+                .willReturn(okJson("{\"access_token\": \"late\"}").withFixedDelay((int) READ_TIMEOUT_MS * 6)));
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> node.getBean(KakaoLoginService.class).kakaoLogin("slow-code", "http://localhost:3000/callback"))
+                .isInstanceOf(ResourceAccessException.class);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(elapsedMs).isLessThan(READ_TIMEOUT_MS * 4);
+        oauthServer.verify(0, postRequestedFor(urlEqualTo("/v2/user/me")));
+    }
+
+    /**
+     * 발급된 토큰이 있고, 유저가 저장되었으며, 리프레쉬 토큰이 Redis에 저장되었는지 확인
+     */
+    private void assertLoggedIn(LoginResult result, String userSeq) {
+        assertThat(result.getAccessToken()).isNotBlank();
+        assertThat(result.getRefreshToken()).isNotBlank();
+
+        Long userId = node.getBean(JdbcTemplate.class)
+                .queryForObject("SELECT user_id FROM `user` WHERE user_seq = ?", Long.class, userSeq);
+        assertThat(node.getBean(TokenRepository.class).findById(userId)).isEqualTo(result.getRefreshToken());
+    }
+}
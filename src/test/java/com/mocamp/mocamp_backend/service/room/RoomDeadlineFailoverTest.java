@@ -0,0 +1,76 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import com.mocamp.mocamp_backend.entity.RoomEntity;
+import com.mocamp.mocamp_backend.repository.RoomRepository;
+import com.mocamp.mocamp_backend.support.LocalCluster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방을 만든 노드가 종료 시각 전에 내려가도 다른 노드가 그 방을 종료시키는지 확인
+ * (방 생성 시 ROOM_CREATED로 모든 노드가 예약하고, 종료 시각에 선점한 노드가 실행)
+ */
+class RoomDeadlineFailoverTest {
+
+    private static final Long ROOM_ID = 4001L;
+    private static final long TIMEOUT_MILLIS = 15_000;
+    private static final int SECONDS_UNTIL_END = 5;
+
+    private LocalCluster cluster;
+    private ConfigurableApplicationContext creatingNode;
+    private ConfigurableApplicationContext survivingNode;
+
+    @BeforeEach
+    void startCluster() {
+        cluster = new LocalCluster();
+        creatingNode = cluster.startNode();
+        survivingNode = cluster.startNode();
+    }
+
+    @AfterEach
+    void stopCluster() {
+        cluster.close();
+    }
+
+    @Test
+    void roomExpiresAfterCreatingNodeStops() throws Exception {
+        // 1분짜리 방을 종료 SECONDS_UNTIL_END초 전 시점에 시작한 것처럼 만든다
+        JdbcTemplate jdbcTemplate = survivingNode.getBean(JdbcTemplate.class);
+        LocalDateTime startedAt = LocalDateTime.now().minusSeconds(60 - SECONDS_UNTIL_END);
+        jdbcTemplate.update("""
+                INSERT INTO room (room_id, room_name, room_seq, capacity, room_num, status, started_at, ended_at, duration,
+                                  notice, is_deleted, mic_availability)
+                VALUES (?, 'failover', 'failover-seq', 4, 0, TRUE, ?, ?, TIME '00:01:00', '', FALSE, TRUE)
+                """, ROOM_ID, startedAt, startedAt.plusMinutes(1));
+
+        RoomEntity room = creatingNode.getBean(RoomRepository.class).findById(ROOM_ID).orElseThrow();
+        creatingNode.getBean(RoomScheduler.class).registerCreated(room);
+
+        // 다른 노드도 ROOM_CREATED를 받아 예약해야 한다
+        RoomScheduler survivingScheduler = survivingNode.getBean(RoomScheduler.class);
+        await(() -> survivingScheduler.activeRoomCount() == 1);
+
+        // 종료 시각 전에 방을 만든 노드를 내린다
+        creatingNode.close();
+
+        await(() -> Boolean.FALSE.equals(
+                jdbcTemplate.queryForObject("SELECT status FROM room WHERE room_id = ?", Boolean.class, ROOM_ID)));
+        assertThat(survivingScheduler.activeRoomCount()).isZero();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(condition.getAsBoolean()).as("대기 시간 초과").isTrue();
+    }
+}
@@ -0,0 +1,220 @@
+package com.mocamp.mocamp_backend.service.room;
+
+import com.mocamp.mocamp_backend.support.LocalCluster;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 두 개에 여러 유저가 같은 방으로 동시에 입장/퇴장을 반복해도
+ * 정원을 넘지 않고, 끝난 뒤 인원 카운터와 DB 참여 상태가 맞는지 확인하는 부하 테스트
+ * (mocamp.broadcast.mode=redis, mocamp.room.occupancy.mode=redis)
+ */
+class RoomEnterExitStressTest {
+
+    private static final Long ROOM_ID = 3001L;
+    private static final int CAPACITY = 8;
+    private static final int USERS = 24;
+    private static final int ROUNDS = 5;
+    private static final String ENTER_BODY = "{\"micTurnedOn\": true, \"camTurnedOn\": true}";
+
+    private static LocalCluster cluster;
+    private static List<ConfigurableApplicationContext> nodes;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeAll
+    static void startCluster() {
+        cluster = new LocalCluster();
+        nodes = List.of(
+                cluster.startNode("--mocamp.room.occupancy.mode=redis"),
+                cluster.startNode("--mocamp.room.occupancy.mode=redis"));
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        cluster.close();
+    }
+
+    @Test
+    void concurrentEnterAndExitKeepOccupancyConsistent() throws Exception {
+        JdbcTemplate jdbcTemplate = nodes.get(0).getBean(JdbcTemplate.class);
+        createRoomWithAdmin(jdbcTemplate, ROOM_ID, CAPACITY, "admin");
+
+        List<LocalCluster.TestUser> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(LocalCluster.createUser(nodes.get(0), "user-" + i));
+        }
+
+        // 1라운드: 모두 동시에 처음 입장하면 방장을 뺀 정원만큼만 성공해야 한다
+        List<Boolean> firstEntered = runConcurrently(users, (user, index) -> enter(node(index), user));
+        assertThat(firstEntered.stream().filter(Boolean::booleanValue).count()).isEqualTo(CAPACITY - 1);
+        assertThat(participatingCount(jdbcTemplate)).isEqualTo((long) CAPACITY);
+
+        // 이후 라운드: 들어와 있는 유저는 다른 노드로 퇴장하고, 나머지는 입장을 시도한다
+        List<Boolean> inside = new ArrayList<>(firstEntered);
+        for (int round = 1; round < ROUNDS; round++) {
+            List<Boolean> snapshot = List.copyOf(inside);
+            int offset = round;
+            List<Boolean> results = runConcurrently(users, (user, index) -> snapshot.get(index)
+                    ? !exit(node(index + offset), user)
+                    : enter(node(index + offset), user));
+            inside = new ArrayList<>(results);
+            assertThat(participatingCount(jdbcTemplate))
+                    .isEqualTo(1 + inside.stream().filter(Boolean::booleanValue).count());
+        }
+
+        // 모두 퇴장하면 방장만 남아야 하고, 카운터도 같은 값이어야 한다
+        List<Boolean> lastInside = List.copyOf(inside);
+        runConcurrently(users, (user, index) -> lastInside.get(index) && exit(node(index), user));
+
+        assertThat(participatingCount(jdbcTemplate)).isEqualTo(1L);
+        assertThat(occupancy(ROOM_ID)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM room WHERE room_id = ?", Boolean.class, ROOM_ID)).isTrue();
+    }
+
+    @Test
+    void duplicateEnterDoesNotInflateOccupancy() throws Exception {
+        Long roomId = 3002L;
+        JdbcTemplate jdbcTemplate = nodes.get(0).getBean(JdbcTemplate.class);
+        createRoomWithAdmin(jdbcTemplate, roomId, 3, "dup-admin");
+        LocalCluster.TestUser user = LocalCluster.createUser(nodes.get(0), "dup-user");
+
+        // 이미 참여 중인 유저가 다른 노드로 한 번 더 입장해도 자리는 한 번만 잡혀야 한다
+        assertThat(enter(nodes.get(0), user, roomId)).isTrue();
+        assertThat(enter(nodes.get(1), user, roomId)).isTrue();
+        assertThat(occupancy(roomId)).isEqualTo(2L);
+
+        assertThat(exit(nodes.get(0), user, roomId)).isTrue();
+        assertThat(occupancy(roomId)).isEqualTo(1L);
+        assertThat(participatingCount(jdbcTemplate, roomId)).isEqualTo(1L);
+    }
+
+    @Test
+    void returningUserCannotExceedCapacity() throws Exception {
+        Long roomId = 3003L;
+        JdbcTemplate jdbcTemplate = nodes.get(0).getBean(JdbcTemplate.class);
+        createRoomWithAdmin(jdbcTemplate, roomId, 2, "return-admin");
+        LocalCluster.TestUser returning = LocalCluster.createUser(nodes.get(0), "return-a");
+        LocalCluster.TestUser other = LocalCluster.createUser(nodes.get(0), "return-b");
+
+        assertThat(enter(nodes.get(0), returning, roomId)).isTrue();
+        assertThat(exit(nodes.get(0), returning, roomId)).isTrue();
+        assertThat(enter(nodes.get(1), other, roomId)).isTrue();
+
+        // 퇴장했던 유저의 재입장도 신규 입장과 같이 정원을 넘으면 거절되어야 한다
+        assertThat(enter(nodes.get(1), returning, roomId)).isFalse();
+        assertThat(occupancy(roomId)).isEqualTo(2L);
+        assertThat(participatingCount(jdbcTemplate, roomId)).isEqualTo(2L);
+    }
+
+    private void createRoomWithAdmin(JdbcTemplate jdbcTemplate, Long roomId, int capacity, String adminName) {
+        LocalCluster.TestUser admin = LocalCluster.createUser(nodes.get(0), adminName);
+        jdbcTemplate.update("""
+                INSERT INTO room (room_id, room_name, room_seq, capacity, room_num, status, started_at, ended_at, duration,
+                                  notice, is_deleted, mic_availability)
+                VALUES (?, 'stress', ?, ?, 1, TRUE, NOW(), NOW(), TIME '02:00:00', '', FALSE, TRUE)
+                """, roomId, "stress-seq-" + roomId, capacity);
+        jdbcTemplate.update("""
+                INSERT INTO joined_room (is_admin, is_participating, is_deleted, is_secret, resolution,
+                                         work_status, mic_status, cam_status, user_id, room_id)
+                VALUES (TRUE, TRUE, FALSE, FALSE, '', TRUE, TRUE, TRUE, ?, ?)
+                """, admin.userId(), roomId);
+    }
+
+    private long occupancy(Long roomId) {
+        return nodes.get(0).getBean(RoomOccupancyCounter.class).get(roomId);
+    }
+
+    private ConfigurableApplicationContext node(int index) {
+        return nodes.get(Math.floorMod(index, nodes.size()));
+    }
+
+    private boolean enter(ConfigurableApplicationContext node, LocalCluster.TestUser user) throws Exception {
+        return enter(node, user, ROOM_ID);
+    }
+
+    private boolean enter(ConfigurableApplicationContext node, LocalCluster.TestUser user, Long roomId) throws Exception {
+        HttpResponse<String> response = post(node, "/api/room/enter/" + roomId, user, ENTER_BODY);
+        return response.statusCode() == 200;
+    }
+
+    private boolean exit(ConfigurableApplicationContext node, LocalCluster.TestUser user) throws Exception {
+        return exit(node, user, ROOM_ID);
+    }
+
+    private boolean exit(ConfigurableApplicationContext node, LocalCluster.TestUser user, Long roomId) throws Exception {
+        HttpResponse<String> response = post(node, "/api/room/exit/" + roomId, user, "");
+        assertThat(response.statusCode()).as(response.body()).isEqualTo(200);
+        return true;
+    }
+
+    private HttpResponse<String> post(ConfigurableApplicationContext node, String path, LocalCluster.TestUser user,
+                                      String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + LocalCluster.port(node) + path))
+                .header("Authorization", "Bearer " + user.token())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private long participatingCount(JdbcTemplate jdbcTemplate) {
+        return participatingCount(jdbcTemplate, ROOM_ID);
+    }
+
+    private long participatingCount(JdbcTemplate jdbcTemplate, Long roomId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM joined_room WHERE room_id = ? AND is_participating = TRUE", Long.class, roomId);
+    }
+
+    /**
+     * 유저마다 작업 하나씩을 한꺼번에 시작시키고 결과를 유저 순서대로 모으는 메서드
+     */
+    private List<Boolean> runConcurrently(List<LocalCluster.TestUser> users, UserTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(users.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < users.size(); i++) {
+                LocalCluster.TestUser user = users.get(i);
+                int index = i;
+                futures.add(executor.submit((Callable<Boolean>) () -> {
+                    start.await();
+                    return task.run(user, index);
+                }));
+            }
+            start.countDown();
+
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface UserTask {
+        boolean run(LocalCluster.TestUser user, int index) throws Exception;
+    }
+}
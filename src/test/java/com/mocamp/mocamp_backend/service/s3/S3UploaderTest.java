@@ -0,0 +1,166 @@
+package com.mocamp.mocamp_backend.service.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.util.IOUtils;
+import com.mocamp.mocamp_backend.configuration.S3Config;
+import io.findify.s3mock.S3Mock;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 로컬 S3 대역(S3Mock)에 cloud.aws.s3.endpoint 설정으로 붙어 S3Uploader의 두 업로드 경로를 확인하는 테스트
+ * 멀티파트 기준보다 작은 파일은 putObject 한 번, 큰 파일은 TransferManager 멀티파트로 올라가야 하고 내용은 그대로여야 한다
+ */
+class S3UploaderTest {
+
+    private static final String BUCKET = "mocamp-test";
+    private static final String REGION = "ap-northeast-2";
+    // TransferManager의 최소 파트 크기(5MiB)보다 작게 두어 멀티파트 파일이 여러 파트로 나뉘게 한다
+    private static final long MULTIPART_THRESHOLD = 1024 * 1024;
+    private static final int SMALL_SIZE = 64 * 1024;
+    private static final int LARGE_SIZE = 6 * 1024 * 1024 + 123;
+
+    private static S3Mock s3Mock;
+    private static String endpoint;
+
+    private AmazonS3 amazonS3;
+    private TransferManager transferManager;
+    private S3Uploader s3Uploader;
+
+    @BeforeAll
+    static void startS3() {
+        int port = freePort();
+        s3Mock = new S3Mock.Builder().withPort(port).withInMemoryBackend().build();
+        s3Mock.start();
+        endpoint = "http://localhost:" + port;
+    }
+
+    @AfterAll
+    static void stopS3() {
+        s3Mock.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        S3Config s3Config = new S3Config();
+        ReflectionTestUtils.setField(s3Config, "accessKey", "local");
+        ReflectionTestUtils.setField(s3Config, "accessSecret", "local");
+        ReflectionTestUtils.setField(s3Config, "region", REGION);
+        ReflectionTestUtils.setField(s3Config, "endpoint", endpoint);
+        ReflectionTestUtils.setField(s3Config, "multipartThresholdBytes", MULTIPART_THRESHOLD);
+
+        amazonS3 = spy(s3Config.s3Client());
+        transferManager = spy(s3Config.transferManager(amazonS3));
+        if (!amazonS3.doesBucketExistV2(BUCKET)) {
+            amazonS3.createBucket(BUCKET);
+        }
+
+        s3Uploader = new S3Uploader(amazonS3, transferManager);
+        ReflectionTestUtils.setField(s3Uploader, "bucket", BUCKET);
+        ReflectionTestUtils.setField(s3Uploader, "multipartThresholdBytes", MULTIPART_THRESHOLD);
+        clearInvocations(amazonS3, transferManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferManager.shutdownNow(false);
+    }
+
+    @Test
+    void smallFileIsUploadedWithSinglePut() throws IOException {
+        byte[] content = randomBytes(SMALL_SIZE);
+        MockMultipartFile file = new MockMultipartFile("image", "small file.png", "image/png", content);
+
+        String url = s3Uploader.upload(file, "images");
+
+        String key = keyOf(url);
+        assertThat(key).startsWith("images/").endsWith("_small_file.png");
+        assertStored(key, content);
+        assertThat(amazonS3.getObjectMetadata(BUCKET, key).getContentType()).isEqualTo("image/png");
+        verify(amazonS3).putObject(eq(BUCKET), eq(key), any(InputStream.class), any(ObjectMetadata.class));
+        verify(transferManager, never()).upload(anyString(), anyString(), any(InputStream.class), any(ObjectMetadata.class));
+    }
+
+    @Test
+    void largeFileIsUploadedWithMultipart() throws IOException {
+        byte[] content = randomBytes(LARGE_SIZE);
+        MockMultipartFile file = new MockMultipartFile("image", "large.png", "image/png", content);
+
+        String url = s3Uploader.upload(file, "images");
+
+        String key = keyOf(url);
+        assertStored(key, content);
+        verify(transferManager).upload(eq(BUCKET), eq(key), any(InputStream.class), any(ObjectMetadata.class));
+        verify(amazonS3).initiateMultipartUpload(any());
+        verify(amazonS3, atLeast(2)).uploadPart(any());
+        verify(amazonS3, never()).putObject(eq(BUCKET), eq(key), any(InputStream.class), any(ObjectMetadata.class));
+    }
+
+    @Test
+    void stagedFileIsStreamedFromDisk(@TempDir Path tempDir) throws IOException {
+        byte[] small = randomBytes(SMALL_SIZE);
+        byte[] large = randomBytes(LARGE_SIZE);
+        Path smallFile = Files.write(tempDir.resolve("small.bin"), small);
+        Path largeFile = Files.write(tempDir.resolve("large.bin"), large);
+
+        s3Uploader.upload(smallFile, "application/octet-stream", "originals/small.bin");
+        s3Uploader.upload(largeFile, "application/octet-stream", "originals/large.bin");
+
+        assertStored("originals/small.bin", small);
+        assertStored("originals/large.bin", large);
+        verify(transferManager, times(1)).upload(eq(BUCKET), anyString(), any(InputStream.class), any(ObjectMetadata.class));
+        verify(transferManager).upload(eq(BUCKET), eq("originals/large.bin"), any(InputStream.class), any(ObjectMetadata.class));
+    }
+
+    private void assertStored(String key, byte[] expected) throws IOException {
+        try (S3Object object = amazonS3.getObject(BUCKET, key)) {
+            assertThat(IOUtils.toByteArray(object.getObjectContent())).isEqualTo(expected);
+        }
+    }
+
+    /**
+     * 경로 방식(endpoint/bucket/key) URL에서 객체 키를 꺼내는 메서드
+     */
+    private static String keyOf(String url) {
+        String prefix = endpoint + "/" + BUCKET + "/";
+        assertThat(url).startsWith(prefix);
+        return url.substring(prefix.length());
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.mocamp.mocamp_backend.support;
+
+import com.mocamp.mocamp_backend.MocampBackendApplication;
+import com.mocamp.mocamp_backend.authentication.AuthenticatedUser;
+import com.mocamp.mocamp_backend.authentication.JwtProvider;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 내장 Redis 하나와 같은 H2 메모리 DB를 공유하는 서버 노드 여러 개를 한 JVM에 띄우는 테스트 도구
+ * 노드는 h2, test 프로필에 mocamp.broadcast.mode=redis 로 뜨며, 추가 설정은 --key=value 인자로 넘긴다
+ */
+public class LocalCluster implements AutoCloseable {
+
+    private final RedisServer redisServer;
+    private final int redisPort;
+    private final String datasourceUrl;
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    public LocalCluster() {
+        this.redisPort = freePort();
+        this.datasourceUrl = "jdbc:h2:mem:cluster-" + UUID.randomUUID()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1";
+        try {
+            this.redisServer = new RedisServer(redisPort);
+            this.redisServer.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 노드를 하나 더 띄우는 메서드
+     * @param args 노드별 추가 설정 (예: --mocamp.threads.mode=virtual)
+     */
+    public ConfigurableApplicationContext startNode(String... args) {
+        String[] defaults = {
+                "--server.port=0",
+                "--mocamp.broadcast.mode=redis",
+                "--spring.data.redis.port=" + redisPort,
+                "--spring.datasource.url=" + datasourceUrl
+        };
+        ConfigurableApplicationContext node = new SpringApplicationBuilder(MocampBackendApplication.class)
+                .profiles("h2", "test")
+                .run(Stream.concat(Stream.of(defaults), Stream.of(args)).toArray(String[]::new));
+        nodes.add(node);
+        return node;
+    }
+
+    public int redisPort() {
+        return redisPort;
+    }
+
+    public static int port(ConfigurableApplicationContext node) {
+        return Integer.parseInt(node.getEnvironment().getRequiredProperty("local.server.port"));
+    }
+
+    /**
+     * 공유 DB에 유저를 만들고 그 유저의 액세스 토큰을 돌려주는 메서드
+     */
+    public static TestUser createUser(ConfigurableApplicationContext node, String name) {
+        JdbcTemplate jdbcTemplate = node.getBean(JdbcTemplate.class);
+        String userSeq = name + "-" + UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO `user` (user_seq, username, email, email_verified_yn, created_at, modified_at) "
+                + "VALUES (?, ?, ?, 'Y', NOW(), NOW())", userSeq, name, name + "@mocamp.com");
+        Long userId = jdbcTemplate.queryForObject("SELECT user_id FROM `user` WHERE user_seq = ?", Long.class, userSeq);
+
+        AuthenticatedUser principal = new AuthenticatedUser(userId, userSeq, name);
+        String token = node.getBean(JwtProvider.class).generateAccessToken(new UsernamePasswordAuthenticationToken(
+                principal, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        return new TestUser(userId, userSeq, token);
+    }
+
+    public record TestUser(Long userId, String userSeq, String token) {
+    }
+
+    @Override
+    public void close() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+        try {
+            redisServer.stop();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}